@@ -19,7 +19,7 @@ import com.huawei.cloud.obs.ObsBucketSchema;
 import com.huawei.cloud.obs.ObsClientProvider;
 import com.huawei.cloud.obs.ObsClientProviderImpl;
 import com.huawei.cloud.obs.OtcTest;
-import com.obs.services.ObsClient;
+import com.obs.services.IObsClient;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
@@ -81,8 +81,8 @@ public class OtcTransferEndToEndTest {
     private String id;
     private String sourceBucket;
     private String destBucket;
-    private ObsClient providerClient;
-    private ObsClient consumerClient;
+    private IObsClient providerClient;
+    private IObsClient consumerClient;
 
     @BeforeEach
     void setup() {
@@ -143,7 +143,7 @@ public class OtcTransferEndToEndTest {
         return Json.createObjectBuilder(policy).add("http://www.w3.org/ns/odrl/2/assigner", Json.createObjectBuilder().add("@id", provider.getId())).add("http://www.w3.org/ns/odrl/2/target", Json.createObjectBuilder().add("@id", (JsonValue) dataset.get("@id"))).build();
     }
 
-    void cleanResource(ObsClient obsClient, String bucketName) {
+    void cleanResource(IObsClient obsClient, String bucketName) {
         try {
             if (obsClient.headBucket(bucketName)) {
                 obsClient.listObjects(bucketName).getObjects()
@@ -24,6 +24,7 @@ dependencies {
     implementation(libs.edc.spi.core)
 
     testImplementation(libs.edc.junit)
+    testImplementation(libs.testcontainers.junit)
     testFixturesImplementation(libs.edc.junit)
     testFixturesApi(libs.huawei.obs)
     testFixturesApi(libs.huawei.iam)
@@ -18,6 +18,14 @@ public interface ObsBucketSchema {
     String TYPE = "OBS";
     String BUCKET_NAME = "bucketName";
     String KEY_PREFIX = "keyPrefix";
+    String MANIFEST_KEY = "manifestKey";
+    String INCREMENTAL = "incremental";
+    String KEY_PATTERN = "keyPattern";
+    String MIN_SIZE = "minSize";
+    String MAX_SIZE = "maxSize";
+    String MODIFIED_AFTER = "modifiedAfter";
+    String MODIFIED_BEFORE = "modifiedBefore";
+    String KEEP_BUNDLES = "keepBundles";
     String ACCESS_KEY_ID = "accessKeyId";
     String SECRET_ACCESS_KEY = "secretAccessKey";
     String ENDPOINT = "endpoint";
@@ -0,0 +1,195 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.obs;
+
+import com.obs.services.IObsClient;
+import com.obs.services.exception.ObsException;
+import com.obs.services.model.PutObjectRequest;
+import com.obs.services.model.UploadPartRequest;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * The client a caller leases from the {@link ObsClientPool}: it passes every operation on to the pooled client of the
+ * endpoint and the credentials of the lease, and holds no connections of its own. Closing the client ends the lease
+ * instead of closing the pooled client, closing it again has no effect, and operations after that throw.
+ * <p>
+ * The client of an {@link ObsEndpointGroup} sends every request to the healthiest endpoint of the group and, if that
+ * endpoint does not answer or answers with a server error, retries it once on the next one. Requests that stream their
+ * body from an input stream are not retried, as the stream is consumed, the failure still steers the following requests
+ * to another endpoint. Only requests that return with the head of the response, before any body is transferred, are
+ * latency samples of the group.
+ */
+final class ObsClientHandle implements InvocationHandler {
+
+    /**
+     * Operations that send no body and return once the head of the response arrived, the content of a downloaded object
+     * is read from the returned stream later. Their duration is the time to the first byte of the response.
+     */
+    private static final Set<String> FIRST_BYTE_OPERATIONS = Set.of("getObject", "getObjectMetadata", "getBucketMetadata", "headBucket");
+
+    private final String name;
+    private final ObsEndpointGroup group;
+    private final Map<String, IObsClient> clients;
+    private final Runnable release;
+    private final Monitor monitor;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private ObsClientHandle(String name, @Nullable ObsEndpointGroup group, Map<String, IObsClient> clients, Runnable release, Monitor monitor) {
+        this.name = name;
+        this.group = group;
+        this.clients = clients;
+        this.release = release;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Creates the client of a lease of an endpoint.
+     *
+     * @param endpoint The endpoint of the pooled client
+     * @param client   The pooled client
+     * @param release  Ends the lease, called once when the client is closed
+     * @param monitor  The monitor
+     * @return The client
+     */
+    static IObsClient create(String endpoint, IObsClient client, Runnable release, Monitor monitor) {
+        return proxy(new ObsClientHandle(endpoint, null, Map.of(endpoint, client), release, monitor));
+    }
+
+    /**
+     * Creates the client of a lease of an endpoint group.
+     *
+     * @param group   The endpoint group
+     * @param clients The pooled clients of the endpoints of the group
+     * @param release Ends the lease, called once when the client is closed
+     * @param monitor The monitor
+     * @return The client
+     */
+    static IObsClient create(ObsEndpointGroup group, Map<String, IObsClient> clients, Runnable release, Monitor monitor) {
+        return proxy(new ObsClientHandle(group.name(), group, clients, release, monitor));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "ObsClient[" + name + "]";
+            };
+        }
+        if ("close".equals(method.getName())) {
+            if (closed.compareAndSet(false, true)) {
+                release.run();
+            }
+            return null;
+        }
+        if (closed.get()) {
+            throw new IllegalStateException(format("The OBS client of %s is closed", name));
+        }
+        if (group == null) {
+            return call(clients.get(name), method, args);
+        }
+        return route(method, args);
+    }
+
+    private Object route(Method method, Object[] args) throws Throwable {
+        var candidates = group.candidates();
+        var endpoint = candidates.get(0);
+        try {
+            return call(endpoint, method, args);
+        } catch (Throwable e) {
+            if (candidates.size() < 2 || !isEndpointFailure(e) || !isRepeatable(args)) {
+                throw e;
+            }
+            var failover = candidates.get(1);
+            monitor.warning(format("OBS: request to %s of endpoint group %s failed, failing over to %s: %s", endpoint, group.name(), failover, e.getMessage()));
+            return call(failover, method, args);
+        }
+    }
+
+    private Object call(String endpoint, Method method, Object[] args) throws Throwable {
+        var start = System.nanoTime();
+        try {
+            var result = call(clients.get(endpoint), method, args);
+            recordResponse(endpoint, method, start);
+            return result;
+        } catch (Throwable e) {
+            if (isEndpointFailure(e)) {
+                group.recordFailure(endpoint);
+            } else {
+                recordResponse(endpoint, method, start);
+            }
+            throw e;
+        }
+    }
+
+    private void recordResponse(String endpoint, Method method, long start) {
+        if (FIRST_BYTE_OPERATIONS.contains(method.getName())) {
+            group.recordResponse(endpoint, Duration.ofNanos(System.nanoTime() - start));
+        } else {
+            group.recordResponse(endpoint);
+        }
+    }
+
+    private Object call(IObsClient client, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(client, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Whether the endpoint failed the request: it did not answer, e.g. the connection failed, or answered with a server
+     * error. Client errors like a missing object are answers of a healthy endpoint.
+     */
+    private static boolean isEndpointFailure(Throwable e) {
+        return e instanceof ObsException obsException && (obsException.getResponseCode() <= 0 || obsException.getResponseCode() >= 500);
+    }
+
+    /**
+     * Whether the request can be sent again, which it cannot once its body was read from a stream.
+     */
+    private static boolean isRepeatable(Object[] args) {
+        if (args == null) {
+            return true;
+        }
+        for (var arg : args) {
+            if (arg instanceof InputStream ||
+                    arg instanceof PutObjectRequest put && put.getInput() != null ||
+                    arg instanceof UploadPartRequest part && part.getInput() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static IObsClient proxy(ObsClientHandle handle) {
+        return (IObsClient) Proxy.newProxyInstance(IObsClient.class.getClassLoader(), new Class<?>[]{ IObsClient.class }, handle);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.obs;
+
+import com.obs.services.IObsClient;
+import com.obs.services.IObsCredentialsProvider;
+import com.obs.services.ObsClient;
+import com.obs.services.ObsConfiguration;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+
+/**
+ * Shares one {@link ObsClient}, and with it one HTTP connection pool, per endpoint and access key between all flows,
+ * so that flows with the same credentials reuse the connections of each other. Every client signs its requests with
+ * the credentials it was created with: later leases with the same access key, which identifies the key pair and
+ * token, use the credentials provider of the first lease. Leases without credentials use the credentials of the
+ * runtime, which are never resolved to look up their client. Leases of an {@link ObsEndpointGroup} use the clients of
+ * its endpoints.
+ * <p>
+ * Every lease has to be ended by closing its client. Clients no lease uses any more are closed once they were idle for
+ * the idle timeout, with a timeout of zero right away.
+ */
+class ObsClientPool {
+
+    private final Function<String, ObsConfiguration> configurations;
+    private final IObsCredentialsProvider runtimeCredentials;
+    private final Duration idleTimeout;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final Map<PoolKey, PooledClient> clients = new HashMap<>();
+
+    ObsClientPool(Function<String, ObsConfiguration> configurations, IObsCredentialsProvider runtimeCredentials, Duration idleTimeout, Clock clock,
+                  Monitor monitor) {
+        this.configurations = configurations;
+        this.runtimeCredentials = runtimeCredentials;
+        this.idleTimeout = idleTimeout;
+        this.clock = clock;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Leases the client of the endpoint that signs with the credentials of the runtime.
+     *
+     * @param endpoint The endpoint
+     * @return The client of the lease
+     */
+    IObsClient lease(String endpoint) {
+        return lease(endpoint, null, runtimeCredentials);
+    }
+
+    /**
+     * Leases the client of the endpoint for the access key of the credentials, creating it if there is none.
+     *
+     * @param endpoint            The endpoint
+     * @param credentialsProvider The credentials requests of the lease are signed with
+     * @return The client of the lease
+     */
+    IObsClient lease(String endpoint, IObsCredentialsProvider credentialsProvider) {
+        return lease(endpoint, accessKey(credentialsProvider), credentialsProvider);
+    }
+
+    /**
+     * Leases the clients of the endpoints of the group that sign with the credentials of the runtime, as one client that
+     * routes every request within the group.
+     *
+     * @param group The endpoint group
+     * @return The client of the lease
+     */
+    IObsClient lease(ObsEndpointGroup group) {
+        return lease(group, null, runtimeCredentials);
+    }
+
+    /**
+     * Leases the clients of the endpoints of the group for the access key of the credentials, as one client that routes
+     * every request within the group.
+     *
+     * @param group               The endpoint group
+     * @param credentialsProvider The credentials requests of the lease are signed with
+     * @return The client of the lease
+     */
+    IObsClient lease(ObsEndpointGroup group, IObsCredentialsProvider credentialsProvider) {
+        return lease(group, accessKey(credentialsProvider), credentialsProvider);
+    }
+
+    /**
+     * Closes the clients that were idle for at least the idle timeout.
+     */
+    void evictIdle() {
+        var now = clock.instant();
+        var evicted = new ArrayList<PooledClient>();
+        synchronized (this) {
+            var iterator = clients.values().iterator();
+            while (iterator.hasNext()) {
+                var client = iterator.next();
+                if (client.idleSince != null && !client.idleSince.plus(idleTimeout).isAfter(now)) {
+                    iterator.remove();
+                    evicted.add(client);
+                }
+            }
+        }
+        evicted.forEach(this::closeClient);
+    }
+
+    /**
+     * Closes all clients, leased or not.
+     */
+    void shutdown() {
+        ArrayList<PooledClient> all;
+        synchronized (this) {
+            all = new ArrayList<>(clients.values());
+            clients.clear();
+        }
+        all.forEach(this::closeClient);
+    }
+
+    Duration idleTimeout() {
+        return idleTimeout;
+    }
+
+    synchronized int size() {
+        return clients.size();
+    }
+
+    private IObsClient lease(String endpoint, @Nullable String accessKey, IObsCredentialsProvider credentialsProvider) {
+        var client = acquire(new PoolKey(endpoint, accessKey), credentialsProvider);
+        return ObsClientHandle.create(endpoint, client.client, () -> release(client), monitor);
+    }
+
+    private IObsClient lease(ObsEndpointGroup group, @Nullable String accessKey, IObsCredentialsProvider credentialsProvider) {
+        var members = new ArrayList<PooledClient>();
+        var clients = new LinkedHashMap<String, IObsClient>();
+        synchronized (this) {
+            group.endpoints().forEach(endpoint -> members.add(acquire(new PoolKey(endpoint, accessKey), credentialsProvider)));
+        }
+        members.forEach(member -> clients.put(member.key.endpoint(), member.client));
+        return ObsClientHandle.create(group, clients, () -> members.forEach(this::release), monitor);
+    }
+
+    private synchronized PooledClient acquire(PoolKey key, IObsCredentialsProvider credentialsProvider) {
+        var client = clients.computeIfAbsent(key, k -> new PooledClient(k, new ObsClient(credentialsProvider, configurations.apply(k.endpoint()))));
+        client.references++;
+        client.idleSince = null;
+        return client;
+    }
+
+    private void release(PooledClient client) {
+        synchronized (this) {
+            if (client.references == 0 || clients.get(client.key) != client) {
+                return;
+            }
+            client.references--;
+            if (client.references > 0) {
+                return;
+            }
+            if (!idleTimeout.isZero()) {
+                client.idleSince = clock.instant();
+                return;
+            }
+            clients.remove(client.key);
+        }
+        closeClient(client);
+    }
+
+    private void closeClient(PooledClient client) {
+        try {
+            client.client.close();
+        } catch (IOException e) {
+            monitor.severe(format("Failed to close client with endpoint: %s", client.key.endpoint()), e);
+        }
+    }
+
+    /**
+     * The access key the client of the credentials is looked up with. Refreshing credentials are keyed by their current
+     * token, reading it does not start a renewal.
+     */
+    private static String accessKey(IObsCredentialsProvider credentialsProvider) {
+        if (credentialsProvider instanceof RefreshingObsCredentialsProvider refreshing) {
+            return refreshing.token().ak();
+        }
+        return credentialsProvider.getSecurityKey().getAccessKey();
+    }
+
+    /**
+     * The endpoint and access key of a client, no access key stands for the credentials of the runtime.
+     */
+    private record PoolKey(String endpoint, @Nullable String accessKey) {
+    }
+
+    private static class PooledClient {
+
+        private final PoolKey key;
+        private final ObsClient client;
+        private int references;
+        private Instant idleSince;
+
+        PooledClient(PoolKey key, ObsClient client) {
+            this.key = key;
+            this.client = client;
+        }
+    }
+}
@@ -15,26 +15,31 @@
 package com.huawei.cloud.obs;
 
 import com.huaweicloud.sdk.iam.v3.IamClient;
+import com.obs.services.IObsClient;
 import com.obs.services.IObsCredentialsProvider;
-import com.obs.services.ObsClient;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 
 @ExtensionPoint
 public interface ObsClientProvider {
 
     /**
-     * Returns the client for the specified endpoint, using a global configuration
+     * Returns the client for the specified endpoint, using the credentials of the runtime. The connections are shared
+     * with all callers using the same credentials, closing the client ends the use of the caller.
+     *
+     * @param endpoint The OBS endpoint to connect to
+     * @return The client
      */
-    ObsClient obsClient(String endpoint);
+    IObsClient obsClient(String endpoint);
 
     /**
-     * Returns the client for the specified endpoint, but using the given credentials provider
+     * Returns the client for the specified endpoint, but using the given credentials provider. The connections are
+     * shared with all callers using the same endpoint and access key, closing the client ends the use of the caller.
      *
      * @param endpoint            The OBS endpoint to connect to
      * @param credentialsProvider The credentials provider for authentication
-     * @return The ObsClient instance
+     * @return The client
      */
-    ObsClient obsClient(String endpoint, IObsCredentialsProvider credentialsProvider);
+    IObsClient obsClient(String endpoint, IObsCredentialsProvider credentialsProvider);
 
     /**
      * Returns the iam client
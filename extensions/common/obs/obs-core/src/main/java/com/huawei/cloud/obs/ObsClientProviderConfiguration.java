@@ -15,7 +15,11 @@
 package com.huawei.cloud.obs;
 
 import com.obs.services.IObsCredentialsProvider;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -27,6 +31,12 @@ public class ObsClientProviderConfiguration {
 
     private IObsCredentialsProvider credentialsProvider;
 
+    private Duration clientIdleTimeout = Duration.ofMinutes(5);
+
+    private final List<ObsConnectionProfile> connectionProfiles = new ArrayList<>();
+
+    private final List<ObsEndpointGroup> endpointGroups = new ArrayList<>();
+
     private ObsClientProviderConfiguration() {
     }
 
@@ -48,6 +58,45 @@ public class ObsClientProviderConfiguration {
         return credentialsProvider;
     }
 
+    /**
+     * Returns how long a pooled client no flow uses is kept open
+     *
+     * @return The idle timeout
+     */
+    public Duration getClientIdleTimeout() {
+        return clientIdleTimeout;
+    }
+
+    /**
+     * Returns the connection profile for an endpoint: the profile of the endpoint if there is one, the default
+     * profile otherwise
+     *
+     * @param endpoint The OBS endpoint
+     * @return The profile, null if the SDK defaults apply
+     */
+    @Nullable
+    public ObsConnectionProfile getConnectionProfile(String endpoint) {
+        return connectionProfiles.stream()
+                .filter(profile -> profile.matches(endpoint))
+                .findFirst()
+                .or(() -> connectionProfiles.stream().filter(ObsConnectionProfile::isDefault).findFirst())
+                .orElse(null);
+    }
+
+    /**
+     * Returns the endpoint group the endpoint belongs to
+     *
+     * @param endpoint The OBS endpoint
+     * @return The group, null if the endpoint belongs to none
+     */
+    @Nullable
+    public ObsEndpointGroup getEndpointGroup(String endpoint) {
+        return endpointGroups.stream()
+                .filter(group -> group.contains(endpoint))
+                .findFirst()
+                .orElse(null);
+    }
+
     public static class Builder {
 
         private final ObsClientProviderConfiguration configuration = new ObsClientProviderConfiguration();
@@ -70,6 +119,21 @@ public class ObsClientProviderConfiguration {
             return this;
         }
 
+        public Builder clientIdleTimeout(Duration clientIdleTimeout) {
+            configuration.clientIdleTimeout = clientIdleTimeout;
+            return this;
+        }
+
+        public Builder connectionProfiles(List<ObsConnectionProfile> connectionProfiles) {
+            configuration.connectionProfiles.addAll(connectionProfiles);
+            return this;
+        }
+
+        public Builder endpointGroups(List<ObsEndpointGroup> endpointGroups) {
+            configuration.endpointGroups.addAll(endpointGroups);
+            return this;
+        }
+
         public ObsClientProviderConfiguration build() {
             Objects.requireNonNull(configuration.credentialsProvider, "Credential provider required");
 
@@ -16,6 +16,7 @@ package com.huawei.cloud.obs;
 
 import com.huaweicloud.sdk.core.auth.GlobalCredentials;
 import com.huaweicloud.sdk.iam.v3.IamClient;
+import com.obs.services.IObsClient;
 import com.obs.services.IObsCredentialsProvider;
 import com.obs.services.OBSCredentialsProviderChain;
 import com.obs.services.ObsClient;
@@ -24,17 +25,13 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.security.Vault;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.IOException;
+import java.time.Clock;
 import java.util.ArrayList;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
-import static java.lang.String.format;
 
 public class ObsClientProviderImpl implements ObsClientProvider {
 
     private final ObsClientProviderConfiguration configuration;
-    private final Map<String, ObsClient> clients = new ConcurrentHashMap<>();
+    private final ObsClientPool clientPool;
 
     private final Monitor monitor;
 
@@ -43,33 +40,45 @@ public class ObsClientProviderImpl implements ObsClientProvider {
     private Vault vault;
 
     public ObsClientProviderImpl(ObsClientProviderConfiguration configuration, Monitor monitor) {
-        this.configuration = configuration;
-        this.monitor = monitor;
+        this(configuration, monitor, null);
     }
 
     public ObsClientProviderImpl(ObsClientProviderConfiguration configuration, Monitor monitor, Vault vault) {
         this.configuration = configuration;
         this.monitor = monitor;
         this.vault = vault;
+        this.clientPool = new ObsClientPool(this::createObsConfiguration, configuration.getCredentialsProvider(), configuration.getClientIdleTimeout(),
+                Clock.systemUTC(), monitor);
     }
 
     @NotNull
-    private static ObsConfiguration createObsConfiguration(String endpoint) {
+    private ObsConfiguration createObsConfiguration(String endpoint) {
         var config = new ObsConfiguration();
+        var profile = configuration.getConnectionProfile(endpoint);
+        if (profile != null) {
+            profile.applyTo(config);
+        }
         config.setPathStyle(true); //otherwise the bucketname gets prepended
         config.setEndPoint(endpoint);
         return config;
     }
 
     @Override
-    public ObsClient obsClient(String endpoint) {
-        return clients.computeIfAbsent(endpoint, this::createClient);
+    public IObsClient obsClient(String endpoint) {
+        var group = configuration.getEndpointGroup(endpoint);
+        if (group != null) {
+            return clientPool.lease(group);
+        }
+        return clientPool.lease(endpoint);
     }
 
     @Override
-    public ObsClient obsClient(String endpoint, IObsCredentialsProvider credentialsProvider) {
-        var config = createObsConfiguration(endpoint);
-        return new ObsClient(credentialsProvider, config);
+    public IObsClient obsClient(String endpoint, IObsCredentialsProvider credentialsProvider) {
+        var group = configuration.getEndpointGroup(endpoint);
+        if (group != null) {
+            return clientPool.lease(group, credentialsProvider);
+        }
+        return clientPool.lease(endpoint, credentialsProvider);
     }
 
     @Override
@@ -79,17 +88,22 @@ public class ObsClientProviderImpl implements ObsClientProvider {
 
     @Override
     public void shutdown() {
-        clients.entrySet().forEach(this::closeClient);
-        clients.clear();
+        clientPool.shutdown();
     }
 
-    public ObsClientProviderConfiguration getConfiguration() {
-        return configuration;
+    /**
+     * Closes the pooled clients that no flow used for the idle timeout.
+     */
+    public void evictIdleClients() {
+        clientPool.evictIdle();
+    }
+
+    ObsClientPool clientPool() {
+        return clientPool;
     }
 
-    private ObsClient createClient(String endpoint) {
-        var config = createObsConfiguration(endpoint);
-        return new ObsClient(configuration.getCredentialsProvider(), config);
+    public ObsClientProviderConfiguration getConfiguration() {
+        return configuration;
     }
 
     /**
@@ -127,12 +141,4 @@ public class ObsClientProviderImpl implements ObsClientProvider {
     public Vault getVault() {
         return vault;
     }
-
-    private void closeClient(Map.Entry<String, ObsClient> clientEntry) {
-        try {
-            clientEntry.getValue().close();
-        } catch (IOException e) {
-            monitor.severe(format("Failed to close client with endpoint: %s", clientEntry.getKey()));
-        }
-    }
 }
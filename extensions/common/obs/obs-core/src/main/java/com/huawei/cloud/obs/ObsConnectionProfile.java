@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.obs;
+
+import com.obs.services.ObsConfiguration;
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Tuning of the HTTP connections of the OBS clients for an endpoint. Values that are not set keep the SDK default. A
+ * profile without an endpoint is the default profile, it applies to all endpoints that have no profile of their own.
+ *
+ * @param name                     The name of the profile
+ * @param endpoint                 The endpoint the profile applies to, null for the default profile
+ * @param maxConnections           The maximum number of concurrent connections of a client
+ * @param maxIdleConnections       The maximum number of idle connections a client keeps open
+ * @param idleConnectionTimeMillis The time after which an idle connection is closed
+ * @param connectionTimeoutMillis  The timeout for establishing a connection
+ * @param socketTimeoutMillis      The timeout for reading from a connection
+ * @param socketReadBufferSize     The size of the socket receive buffer in bytes
+ * @param socketWriteBufferSize    The size of the socket send buffer in bytes
+ * @param keepAlive                Whether connections are kept alive between requests
+ * @param maxErrorRetry            The number of retries of failed requests
+ */
+public record ObsConnectionProfile(String name,
+                                   @Nullable String endpoint,
+                                   @Nullable Integer maxConnections,
+                                   @Nullable Integer maxIdleConnections,
+                                   @Nullable Integer idleConnectionTimeMillis,
+                                   @Nullable Integer connectionTimeoutMillis,
+                                   @Nullable Integer socketTimeoutMillis,
+                                   @Nullable Integer socketReadBufferSize,
+                                   @Nullable Integer socketWriteBufferSize,
+                                   @Nullable Boolean keepAlive,
+                                   @Nullable Integer maxErrorRetry) {
+
+    public static final String ENDPOINT = "endpoint";
+    public static final String MAX_CONNECTIONS = "max.connections";
+    public static final String MAX_IDLE_CONNECTIONS = "max.idle.connections";
+    public static final String IDLE_CONNECTION_TIME = "idle.connection.time.ms";
+    public static final String CONNECTION_TIMEOUT = "connection.timeout.ms";
+    public static final String SOCKET_TIMEOUT = "socket.timeout.ms";
+    public static final String SOCKET_READ_BUFFER_SIZE = "socket.read.buffer.size";
+    public static final String SOCKET_WRITE_BUFFER_SIZE = "socket.write.buffer.size";
+    public static final String KEEP_ALIVE = "keep.alive";
+    public static final String MAX_ERROR_RETRY = "max.error.retry";
+
+    /**
+     * Reads a profile from its group of settings, the name of the group is the name of the profile.
+     *
+     * @param config The settings of the profile
+     * @return The profile
+     */
+    public static ObsConnectionProfile fromConfig(Config config) {
+        return new ObsConnectionProfile(
+                config.currentNode(),
+                config.getString(ENDPOINT, null),
+                config.getInteger(MAX_CONNECTIONS, null),
+                config.getInteger(MAX_IDLE_CONNECTIONS, null),
+                config.getInteger(IDLE_CONNECTION_TIME, null),
+                config.getInteger(CONNECTION_TIMEOUT, null),
+                config.getInteger(SOCKET_TIMEOUT, null),
+                config.getInteger(SOCKET_READ_BUFFER_SIZE, null),
+                config.getInteger(SOCKET_WRITE_BUFFER_SIZE, null),
+                config.getBoolean(KEEP_ALIVE, null),
+                config.getInteger(MAX_ERROR_RETRY, null));
+    }
+
+    /**
+     * Whether this is the default profile, which applies to all endpoints without a profile of their own.
+     */
+    public boolean isDefault() {
+        return endpoint == null;
+    }
+
+    /**
+     * Whether the profile applies to the endpoint, scheme, case and a trailing slash are ignored.
+     */
+    public boolean matches(String endpoint) {
+        return this.endpoint != null && endpoint != null && normalize(this.endpoint).equals(normalize(endpoint));
+    }
+
+    /**
+     * Sets the values of the profile on the configuration of a client.
+     */
+    public void applyTo(ObsConfiguration configuration) {
+        if (maxConnections != null) {
+            configuration.setMaxConnections(maxConnections);
+        }
+        if (maxIdleConnections != null) {
+            configuration.setMaxIdleConnections(maxIdleConnections);
+        }
+        if (idleConnectionTimeMillis != null) {
+            configuration.setIdleConnectionTime(idleConnectionTimeMillis);
+        }
+        if (connectionTimeoutMillis != null) {
+            configuration.setConnectionTimeout(connectionTimeoutMillis);
+        }
+        if (socketTimeoutMillis != null) {
+            configuration.setSocketTimeout(socketTimeoutMillis);
+        }
+        if (socketReadBufferSize != null) {
+            configuration.setSocketReadBufferSize(socketReadBufferSize);
+        }
+        if (socketWriteBufferSize != null) {
+            configuration.setSocketWriteBufferSize(socketWriteBufferSize);
+        }
+        if (keepAlive != null) {
+            configuration.setKeepAlive(keepAlive);
+        }
+        if (maxErrorRetry != null) {
+            configuration.setMaxErrorRetry(maxErrorRetry);
+        }
+    }
+
+    /**
+     * Returns the endpoint without scheme and trailing slash in lower case, under which the same endpoint always
+     * compares equal however it was configured.
+     */
+    public static String normalize(String endpoint) {
+        var normalized = endpoint.trim().toLowerCase(Locale.ROOT).replaceFirst("^https?://", "");
+        return normalized.endsWith("/") ? normalized.substring(0, normalized.length() - 1) : normalized;
+    }
+}
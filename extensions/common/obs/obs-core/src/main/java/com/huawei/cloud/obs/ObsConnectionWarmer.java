@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.obs;
+
+import com.obs.services.IObsClient;
+import com.obs.services.exception.ObsException;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static java.lang.String.format;
+
+/**
+ * Opens connections to OBS endpoints before the first transfer needs them, so that DNS resolution, TCP and TLS
+ * handshakes are off the critical path after a deployment. For every endpoint the configured number of HEAD bucket
+ * probes run concurrently on the pooled client of the endpoint for the credentials of the runtime, each of them opening
+ * a connection. Flows with credentials of their own use clients with connections of their own. An answer of the endpoint counts as a warm connection, also if the
+ * bucket does not exist or is not accessible. The client stays open for the client idle timeout, the connections for
+ * the idle connection time of the connection profile of the endpoint. Without a client idle timeout the client would be
+ * closed right after the probes, so there is no warm-up.
+ * <p>
+ * The outcome of every endpoint is passed to the listeners, e.g. to be reported with the transfer metrics.
+ */
+public class ObsConnectionWarmer {
+
+    private final ObsClientPool clientPool;
+    private final String bucketName;
+    private final int connections;
+    private final Duration timeout;
+    private final Monitor monitor;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    ObsConnectionWarmer(ObsClientPool clientPool, String bucketName, int connections, Duration timeout, Monitor monitor) {
+        this.clientPool = clientPool;
+        this.bucketName = bucketName;
+        this.connections = connections;
+        this.timeout = timeout;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Registers a listener for the outcome of the warm-up of the endpoints.
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Warms up the connections to the endpoints, waiting at most for the timeout.
+     *
+     * @param endpoints The OBS endpoints
+     */
+    public void warm(List<String> endpoints) {
+        if (endpoints.isEmpty() || connections <= 0) {
+            return;
+        }
+        if (clientPool.idleTimeout().isZero()) {
+            monitor.info("OBS: skipping connection warm-up, clients are closed right away without a client idle timeout");
+            return;
+        }
+        var executor = Executors.newFixedThreadPool(Math.min(endpoints.size() * connections, 64));
+        try {
+            var start = System.nanoTime();
+            var warmups = new ArrayList<CompletableFuture<Void>>();
+            endpoints.forEach(endpoint -> warmups.add(warm(endpoint, executor)));
+            try {
+                CompletableFuture.allOf(warmups.toArray(CompletableFuture[]::new)).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                monitor.warning(format("OBS: connection warm-up did not complete within %d ms, continuing without waiting", timeout.toMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                monitor.warning("OBS: connection warm-up failed", e.getCause());
+            }
+            monitor.info(format("OBS: connection warm-up of %d endpoints took %d ms", endpoints.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private CompletableFuture<Void> warm(String endpoint, Executor executor) {
+        var start = System.nanoTime();
+        var failedProbes = new AtomicInteger();
+        IObsClient client;
+        try {
+            client = clientPool.lease(endpoint);
+        } catch (RuntimeException e) {
+            monitor.warning(format("OBS: failed to create client for warm-up of %s", endpoint), e);
+            return CompletableFuture.completedFuture(null);
+        }
+        var probes = IntStream.range(0, connections)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> probe(client, endpoint, failedProbes), executor))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(probes)
+                .thenRun(() -> {
+                    var result = new WarmupResult(connections - failedProbes.get(), failedProbes.get(), Duration.ofNanos(System.nanoTime() - start));
+                    listeners.forEach(listener -> listener.warmedUp(endpoint, result));
+                })
+                .whenComplete((result, throwable) -> close(client, endpoint));
+    }
+
+    private void probe(IObsClient client, String endpoint, AtomicInteger failedProbes) {
+        try {
+            client.headBucket(bucketName);
+        } catch (RuntimeException e) {
+            // an error response, e.g. for a bucket that is not accessible, still opened the connection
+            if (!(e instanceof ObsException obsException) || obsException.getResponseCode() <= 0) {
+                failedProbes.incrementAndGet();
+                monitor.debug(format("OBS: warm-up probe of %s failed: %s", endpoint, e.getMessage()));
+            }
+        }
+    }
+
+    private void close(IObsClient client, String endpoint) {
+        try {
+            client.close();
+        } catch (IOException e) {
+            monitor.severe(format("Failed to close client with endpoint: %s", endpoint), e);
+        }
+    }
+
+    /**
+     * Receives the outcome of the warm-up of an endpoint.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Called once all probes of the endpoint completed.
+         *
+         * @param endpoint The endpoint
+         * @param result   The outcome
+         */
+        void warmedUp(String endpoint, WarmupResult result);
+    }
+
+    /**
+     * The outcome of the warm-up of an endpoint.
+     *
+     * @param connections  The number of probes the endpoint answered
+     * @param failedProbes The number of probes the endpoint did not answer
+     * @param duration     The time until all probes completed
+     */
+    public record WarmupResult(int connections, int failedProbes, Duration duration) {
+    }
+}
@@ -27,11 +27,19 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 import static java.lang.String.format;
 
 
 @Extension(ObsCoreExtension.NAME)
-@Provides(ObsClientProvider.class)
+@Provides({ ObsClientProvider.class, ObsSecretTokenCache.class, ObsTemporaryTokenIssuer.class, ObsConnectionWarmer.class })
 public class ObsCoreExtension implements ServiceExtension {
 
     @Setting(description = "The key of the secret where the AWS Access Key Id is stored")
@@ -40,8 +48,42 @@ public class ObsCoreExtension implements ServiceExtension {
     public static final String HUAWEI_SECRET_KEY = "edc.huawei.obs.alias.sk";
     @Setting(description = "If valued, the AWS clients will point to the specified endpoint")
     public static final String HUAWEI_IAM_ENDPOINT = "edc.huawei.iam.endpoint";
+    @Setting(description = "Seconds an OBS client no flow uses is kept open for later flows with the same endpoint and credentials, 0 closes it right away",
+            defaultValue = "300")
+    public static final String HUAWEI_OBS_CLIENT_IDLE_TIMEOUT = "edc.huawei.obs.client.idle.timeout.seconds";
+    private static final long DEFAULT_CLIENT_IDLE_TIMEOUT_SECONDS = 300;
+    @Setting(description = "Connection profiles of OBS endpoints, one group of settings per profile, e.g. edc.huawei.obs.connection.<profile>.endpoint and " +
+            "edc.huawei.obs.connection.<profile>.max.connections, see ObsConnectionProfile for all keys. A profile without endpoint applies to all " +
+            "endpoints without a profile of their own")
+    public static final String HUAWEI_OBS_CONNECTION_PROFILES = "edc.huawei.obs.connection";
+    @Setting(description = "Groups of OBS endpoints that serve the same buckets, one group of settings per group, e.g. " +
+            "edc.huawei.obs.endpoint.group.<group>.endpoints=https://a,https://b and edc.huawei.obs.endpoint.group.<group>.failover.cooldown.seconds. " +
+            "Requests to an endpoint of a group go to the healthiest endpoint of the group and fail over to the next one")
+    public static final String HUAWEI_OBS_ENDPOINT_GROUPS = "edc.huawei.obs.endpoint.group";
+    @Setting(description = "Maximum number of OBS secret tokens resolved from the vault that are cached, 0 disables the cache", defaultValue = "1000")
+    public static final String HUAWEI_OBS_SECRET_CACHE_SIZE = "edc.huawei.obs.secret.cache.size";
+    @Setting(description = "Seconds a cached OBS secret token is used at most, tokens that expire earlier are dropped at their expiration", defaultValue = "300")
+    public static final String HUAWEI_OBS_SECRET_CACHE_TTL = "edc.huawei.obs.secret.cache.ttl.seconds";
+    @Setting(description = "Comma separated OBS endpoints to which connections are opened at startup, so that the first transfers do not wait for DNS, TCP and TLS setup. " +
+            "Requires a client idle timeout, without one the connections are closed right away")
+    public static final String HUAWEI_OBS_PREWARM_ENDPOINTS = "edc.huawei.obs.prewarm.endpoints";
+    @Setting(description = "Number of connections opened to each warm-up endpoint", defaultValue = "4")
+    public static final String HUAWEI_OBS_PREWARM_CONNECTIONS = "edc.huawei.obs.prewarm.connections";
+    @Setting(description = "Bucket probed with HEAD requests to open the connections, an error response also opens the connection", defaultValue = "edc-connection-warmup")
+    public static final String HUAWEI_OBS_PREWARM_BUCKET = "edc.huawei.obs.prewarm.bucket";
+    @Setting(description = "Seconds the startup waits at most for the connection warm-up", defaultValue = "10")
+    public static final String HUAWEI_OBS_PREWARM_TIMEOUT = "edc.huawei.obs.prewarm.timeout.seconds";
+    private static final int DEFAULT_PREWARM_CONNECTIONS = 4;
+    private static final String DEFAULT_PREWARM_BUCKET = "edc-connection-warmup";
+    private static final long DEFAULT_PREWARM_TIMEOUT_SECONDS = 10;
+    private static final int DEFAULT_SECRET_CACHE_SIZE = 1000;
+    private static final long DEFAULT_SECRET_CACHE_TTL_SECONDS = 300;
     protected static final String NAME = "OBS Core";
-    private ObsClientProvider clientProvider;
+    private ObsClientProviderImpl clientProvider;
+    private ScheduledExecutorService clientEvictor;
+    private long clientIdleTimeoutSeconds;
+    private ObsConnectionWarmer connectionWarmer;
+    private List<String> prewarmEndpoints;
 
     @Inject
     private Vault vault;
@@ -58,22 +100,72 @@ public class ObsCoreExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
 
         var iamEndpoint = context.getConfig().getString(HUAWEI_IAM_ENDPOINT);
+        clientIdleTimeoutSeconds = Math.max(context.getConfig().getLong(HUAWEI_OBS_CLIENT_IDLE_TIMEOUT, DEFAULT_CLIENT_IDLE_TIMEOUT_SECONDS), 0);
 
         var configuration = ObsClientProviderConfiguration.Builder.newInstance()
                 .credentialsProvider(createCredentialsProvider(context))
                 .iamEndpoint(iamEndpoint)
+                .clientIdleTimeout(Duration.ofSeconds(clientIdleTimeoutSeconds))
+                .connectionProfiles(connectionProfiles(context))
+                .endpointGroups(endpointGroups(context))
                 .build();
 
         clientProvider = new ObsClientProviderImpl(configuration, monitor, vault);
 
         context.registerService(ObsClientProvider.class, clientProvider);
+
+        var secretTokenCache = new ObsSecretTokenCache(context.getConfig().getInteger(HUAWEI_OBS_SECRET_CACHE_SIZE, DEFAULT_SECRET_CACHE_SIZE),
+                Duration.ofSeconds(context.getConfig().getLong(HUAWEI_OBS_SECRET_CACHE_TTL, DEFAULT_SECRET_CACHE_TTL_SECONDS)), Clock.systemUTC());
+        context.registerService(ObsSecretTokenCache.class, secretTokenCache);
+        context.registerService(ObsTemporaryTokenIssuer.class, new ObsTemporaryTokenIssuer(clientProvider));
+
+        var endpoints = context.getConfig().getString(HUAWEI_OBS_PREWARM_ENDPOINTS, null);
+        prewarmEndpoints = endpoints == null ? List.of() : Arrays.stream(endpoints.split(","))
+                .map(String::trim)
+                .filter(endpoint -> !endpoint.isEmpty())
+                .toList();
+        connectionWarmer = new ObsConnectionWarmer(clientProvider.clientPool(),
+                context.getConfig().getString(HUAWEI_OBS_PREWARM_BUCKET, DEFAULT_PREWARM_BUCKET),
+                context.getConfig().getInteger(HUAWEI_OBS_PREWARM_CONNECTIONS, DEFAULT_PREWARM_CONNECTIONS),
+                Duration.ofSeconds(context.getConfig().getLong(HUAWEI_OBS_PREWARM_TIMEOUT, DEFAULT_PREWARM_TIMEOUT_SECONDS)), monitor);
+        context.registerService(ObsConnectionWarmer.class, connectionWarmer);
+    }
+
+    @Override
+    public void start() {
+        if (clientIdleTimeoutSeconds > 0) {
+            var interval = Math.max(clientIdleTimeoutSeconds / 2, 1);
+            clientEvictor = Executors.newSingleThreadScheduledExecutor();
+            clientEvictor.scheduleAtFixedRate(clientProvider::evictIdleClients, interval, interval, TimeUnit.SECONDS);
+        }
+        connectionWarmer.warm(prewarmEndpoints);
     }
 
     @Override
     public void shutdown() {
+        if (clientEvictor != null) {
+            clientEvictor.shutdownNow();
+        }
         clientProvider.shutdown();
     }
 
+    private List<ObsConnectionProfile> connectionProfiles(ServiceExtensionContext context) {
+        var profiles = context.getConfig(HUAWEI_OBS_CONNECTION_PROFILES).partition()
+                .map(ObsConnectionProfile::fromConfig)
+                .toList();
+        profiles.forEach(profile -> monitor.debug(format("OBS: connection profile %s applies to %s", profile.name(),
+                profile.isDefault() ? "all other endpoints" : profile.endpoint())));
+        return profiles;
+    }
+
+    private List<ObsEndpointGroup> endpointGroups(ServiceExtensionContext context) {
+        var groups = context.getConfig(HUAWEI_OBS_ENDPOINT_GROUPS).partition()
+                .map(config -> ObsEndpointGroup.fromConfig(config, Clock.systemUTC()))
+                .toList();
+        groups.forEach(group -> monitor.debug(format("OBS: endpoint group %s routes between %s", group.name(), group.endpoints())));
+        return groups;
+    }
+
     @NotNull
     private IObsCredentialsProvider createCredentialsProvider(ServiceExtensionContext context) {
         var accessKey = vault.resolveSecret(context.getSetting(HUAWEI_ACCESS_KEY, HUAWEI_ACCESS_KEY));
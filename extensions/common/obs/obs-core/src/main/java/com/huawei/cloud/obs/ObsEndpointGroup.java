@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.obs;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.system.configuration.Config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Several endpoints that serve the same buckets, e.g. the access points of a region. The group keeps the rolling
+ * latency and error rate of every endpoint: requests go to the endpoint with the lowest latency, weighed by its error
+ * rate, and an endpoint that fails a request is left out for the failover cooldown. After the cooldown it competes
+ * again, its error rate recovers with every request it answers. The latency is sampled from requests whose duration
+ * is the time to the first byte of the response, as the duration of a transfer depends on its size.
+ */
+public class ObsEndpointGroup {
+
+    public static final String ENDPOINTS = "endpoints";
+    public static final String FAILOVER_COOLDOWN = "failover.cooldown.seconds";
+    public static final long DEFAULT_FAILOVER_COOLDOWN_SECONDS = 30;
+
+    /**
+     * Weight of the latest sample in the rolling latency and error rate.
+     */
+    private static final double SMOOTHING = 0.2;
+    /**
+     * Factor by which an error rate of 1 increases the latency an endpoint is ranked with.
+     */
+    private static final double ERROR_PENALTY = 10;
+
+    private final String name;
+    private final Duration failoverCooldown;
+    private final Clock clock;
+    private final Map<String, EndpointStatistics> endpoints = new LinkedHashMap<>();
+
+    public ObsEndpointGroup(String name, List<String> endpoints, Duration failoverCooldown, Clock clock) {
+        if (endpoints.isEmpty()) {
+            throw new EdcException(format("OBS endpoint group %s has no endpoints", name));
+        }
+        this.name = name;
+        this.failoverCooldown = failoverCooldown;
+        this.clock = clock;
+        endpoints.forEach(endpoint -> this.endpoints.put(endpoint, new EndpointStatistics()));
+    }
+
+    /**
+     * Reads a group from its group of settings, the name of the settings group is the name of the endpoint group.
+     *
+     * @param config The settings of the group
+     * @param clock  The clock for the failover cooldown
+     * @return The group
+     */
+    public static ObsEndpointGroup fromConfig(Config config, Clock clock) {
+        var endpoints = Arrays.stream(config.getString(ENDPOINTS).split(","))
+                .map(String::trim)
+                .filter(endpoint -> !endpoint.isEmpty())
+                .distinct()
+                .toList();
+        return new ObsEndpointGroup(config.currentNode(), endpoints,
+                Duration.ofSeconds(config.getLong(FAILOVER_COOLDOWN, DEFAULT_FAILOVER_COOLDOWN_SECONDS)), clock);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public List<String> endpoints() {
+        return List.copyOf(endpoints.keySet());
+    }
+
+    /**
+     * Whether the endpoint is one of the group, scheme, case and a trailing slash are ignored.
+     */
+    public boolean contains(String endpoint) {
+        return endpoint != null && endpoints.keySet().stream()
+                .anyMatch(member -> ObsConnectionProfile.normalize(member).equals(ObsConnectionProfile.normalize(endpoint)));
+    }
+
+    /**
+     * Returns the endpoints in the order requests should try them: the available endpoints, healthiest first, then
+     * the ones that are left out, the one that comes back first first. Endpoints without a latency sample yet rank
+     * with the mean latency of the others, so that they are neither preferred nor starved.
+     *
+     * @return The endpoints
+     */
+    public synchronized List<String> candidates() {
+        var now = clock.instant();
+        endpoints.values().forEach(statistics -> statistics.readmit(now));
+        var available = new ArrayList<Map.Entry<String, EndpointStatistics>>();
+        var unavailable = new ArrayList<Map.Entry<String, EndpointStatistics>>();
+        for (var entry : endpoints.entrySet()) {
+            if (entry.getValue().unavailableUntil == null) {
+                available.add(entry);
+            } else {
+                unavailable.add(entry);
+            }
+        }
+        var neutralLatency = available.stream()
+                .mapToDouble(entry -> entry.getValue().latencyMillis)
+                .filter(latency -> latency >= 0)
+                .average()
+                .orElse(0);
+        available.sort(Comparator.comparingDouble(entry -> entry.getValue().score(neutralLatency)));
+        unavailable.sort(Comparator.comparing(entry -> entry.getValue().unavailableUntil));
+        available.addAll(unavailable);
+        return available.stream().map(Map.Entry::getKey).toList();
+    }
+
+    /**
+     * Records a request the endpoint answered, successful or not, together with its latency.
+     *
+     * @param endpoint The endpoint
+     * @param latency  The time to the first byte of the response
+     */
+    public synchronized void recordResponse(String endpoint, Duration latency) {
+        var statistics = endpoints.get(endpoint);
+        if (statistics != null) {
+            var millis = latency.toNanos() / 1_000_000d;
+            statistics.latencyMillis = statistics.latencyMillis < 0 ? millis : statistics.latencyMillis * (1 - SMOOTHING) + millis * SMOOTHING;
+            statistics.errorRate *= 1 - SMOOTHING;
+        }
+    }
+
+    /**
+     * Records a request the endpoint answered, successful or not, whose duration is no latency sample, e.g. one that
+     * transferred a body.
+     *
+     * @param endpoint The endpoint
+     */
+    public synchronized void recordResponse(String endpoint) {
+        var statistics = endpoints.get(endpoint);
+        if (statistics != null) {
+            statistics.errorRate *= 1 - SMOOTHING;
+        }
+    }
+
+    /**
+     * Records a request the endpoint failed, which leaves the endpoint out for the failover cooldown.
+     *
+     * @param endpoint The endpoint
+     */
+    public synchronized void recordFailure(String endpoint) {
+        var statistics = endpoints.get(endpoint);
+        if (statistics != null) {
+            statistics.errorRate = statistics.errorRate * (1 - SMOOTHING) + SMOOTHING;
+            statistics.unavailableUntil = clock.instant().plus(failoverCooldown);
+        }
+    }
+
+    /**
+     * Returns the rolling latency of the endpoint in milliseconds, negative if the endpoint answered no request yet.
+     */
+    public synchronized double latencyMillis(String endpoint) {
+        var statistics = endpoints.get(endpoint);
+        return statistics != null ? statistics.latencyMillis : -1;
+    }
+
+    /**
+     * Returns the rolling error rate of the endpoint, between 0 and 1.
+     */
+    public synchronized double errorRate(String endpoint) {
+        var statistics = endpoints.get(endpoint);
+        return statistics != null ? statistics.errorRate : 0;
+    }
+
+    @Override
+    public String toString() {
+        return name + endpoints.keySet();
+    }
+
+    private static class EndpointStatistics {
+
+        private double latencyMillis = -1;
+        private double errorRate;
+        private Instant unavailableUntil;
+
+        private double score(double neutralLatency) {
+            return (latencyMillis < 0 ? neutralLatency : latencyMillis) * (1 + ERROR_PENALTY * errorRate);
+        }
+
+        private void readmit(Instant now) {
+            if (unavailableUntil != null && !unavailableUntil.isAfter(now)) {
+                unavailableUntil = null;
+            }
+        }
+    }
+}
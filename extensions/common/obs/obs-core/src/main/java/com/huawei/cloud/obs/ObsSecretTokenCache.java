@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.obs;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Caches the {@link ObsSecretToken}s resolved from the vault by their secret name, so that starting a transfer needs no
+ * vault round trip and no parsing for a secret that was used before. A token is kept until its expiration, but at most
+ * for the time to live, so that secrets that are replaced in the vault are picked up again. Secrets deleted through
+ * this runtime are invalidated right away. The least recently used token is dropped when the cache is full, a cache
+ * with a maximum size of zero holds nothing.
+ */
+public class ObsSecretTokenCache {
+
+    private final int maxSize;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+
+    public ObsSecretTokenCache(int maxSize, Duration timeToLive, Clock clock) {
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the token of the secret, loading it if it is not cached or has expired. Null results of the loader are
+     * not cached.
+     *
+     * @param secretName The name of the secret in the vault
+     * @param loader     Resolves and parses the secret, returns null if there is none
+     * @return The token, null if the loader found none
+     */
+    @Nullable
+    public ObsSecretToken get(String secretName, Function<String, ObsSecretToken> loader) {
+        if (maxSize <= 0) {
+            return loader.apply(secretName);
+        }
+        var now = clock.instant();
+        synchronized (this) {
+            var entry = entries.get(secretName);
+            if (entry != null && entry.expiresAt().isAfter(now)) {
+                return entry.token();
+            }
+            entries.remove(secretName);
+        }
+
+        var token = loader.apply(secretName);
+        if (token != null) {
+            var expiresAt = expiresAt(token, now);
+            if (expiresAt.isAfter(now)) {
+                synchronized (this) {
+                    entries.put(secretName, new Entry(token, expiresAt));
+                }
+            }
+        }
+        return token;
+    }
+
+    /**
+     * Drops the token of a secret, e.g. because the secret was deleted from the vault.
+     *
+     * @param secretName The name of the secret in the vault
+     */
+    public synchronized void invalidate(String secretName) {
+        entries.remove(secretName);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private Instant expiresAt(ObsSecretToken token, Instant now) {
+        var maxExpiration = now.plus(timeToLive);
+        if (token.expiration() == null) {
+            return maxExpiration;
+        }
+        var expiration = Instant.ofEpochMilli(token.expiration());
+        return expiration.isBefore(maxExpiration) ? expiration : maxExpiration;
+    }
+
+    private record Entry(ObsSecretToken token, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.obs;
+
+import com.huaweicloud.sdk.iam.v3.model.CreateTemporaryAccessKeyByTokenRequest;
+import com.huaweicloud.sdk.iam.v3.model.CreateTemporaryAccessKeyByTokenRequestBody;
+import com.huaweicloud.sdk.iam.v3.model.IdentityToken;
+import com.huaweicloud.sdk.iam.v3.model.ServicePolicy;
+import com.huaweicloud.sdk.iam.v3.model.ServiceStatement;
+import com.huaweicloud.sdk.iam.v3.model.TokenAuth;
+import com.huaweicloud.sdk.iam.v3.model.TokenAuthIdentity;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+
+/**
+ * Issues temporary access keys through IAM that allow to write the objects of a single bucket. The keys it issued are
+ * remembered until they expire, so that only those are renewed with the IAM account of this runtime.
+ */
+public class ObsTemporaryTokenIssuer {
+
+    public static final String VERSION = "1.1";
+    public static final String ACTION_ITEM = "obs:object:PutObject";
+    // TODO restrict to region?
+    public static final String RESOURCE_ITEM = "obs:*:*:object:%s/*";
+
+    private final ObsClientProvider clientProvider;
+    private final Map<String, IssuedToken> issued = new ConcurrentHashMap<>();
+
+    public ObsTemporaryTokenIssuer(ObsClientProvider clientProvider) {
+        this.clientProvider = clientProvider;
+    }
+
+    /**
+     * Requests a temporary access key that may put objects into the bucket.
+     *
+     * @param bucketName      The bucket the key is restricted to
+     * @param durationSeconds How long the key is valid
+     * @return The key as secret token, with its expiration
+     */
+    public ObsSecretToken issue(String bucketName, int durationSeconds) {
+        var request = new CreateTemporaryAccessKeyByTokenRequest().withBody(
+                new CreateTemporaryAccessKeyByTokenRequestBody()
+                        .withAuth(new TokenAuth().withIdentity(identity -> tokenIdentity(identity, bucketName, durationSeconds))));
+
+        var credentials = clientProvider.iamClient().createTemporaryAccessKeyByToken(request).getCredential();
+        var expiration = Instant.parse(credentials.getExpiresAt()).toEpochMilli();
+        var now = System.currentTimeMillis();
+        issued.values().removeIf(token -> token.expiration() <= now);
+        issued.put(credentials.getAccess(), new IssuedToken(bucketName, expiration));
+        return new ObsSecretToken(credentials.getAccess(), credentials.getSecret(), credentials.getSecuritytoken(), expiration);
+    }
+
+    /**
+     * Whether the token was issued by this issuer for the bucket and has not expired yet.
+     *
+     * @param token      The token
+     * @param bucketName The bucket
+     * @return true if this issuer issued the token for the bucket
+     */
+    public boolean hasIssued(ObsSecretToken token, String bucketName) {
+        var issuedToken = issued.get(token.ak());
+        return issuedToken != null && issuedToken.bucketName().equals(bucketName) && issuedToken.expiration() > System.currentTimeMillis();
+    }
+
+    private void tokenIdentity(TokenAuthIdentity identity, String bucketName, int durationSeconds) {
+        identity.addMethodsItem(TokenAuthIdentity.MethodsEnum.TOKEN)
+                .withToken(new IdentityToken().withDurationSeconds(durationSeconds))
+                .withPolicy(new ServicePolicy().withVersion(VERSION)
+                        .addStatementItem(new ServiceStatement()
+                                .withEffect(ServiceStatement.EffectEnum.ALLOW)
+                                .addActionItem(ACTION_ITEM)
+                                .addResourceItem(format(RESOURCE_ITEM, bucketName))));
+    }
+
+    private record IssuedToken(String bucketName, long expiration) {
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.obs;
+
+import com.obs.services.BasicObsCredentialsProvider;
+import com.obs.services.IObsCredentialsProvider;
+import com.obs.services.model.ISecurityKey;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+
+import static java.lang.String.format;
+
+/**
+ * Provides temporary credentials that are renewed before they expire, so that transfers can outlive a single token.
+ * Once the token is within the refresh margin of its expiration, the next request for the key starts a renewal in the
+ * background and keeps using the current key until the renewal is done. Only requests that find the token already
+ * expired wait for the renewal. A failed renewal is tried again after the retry interval.
+ * <p>
+ * The renewer receives the current token and returns a token that expires later, or null if there is none yet.
+ */
+public class RefreshingObsCredentialsProvider implements IObsCredentialsProvider {
+
+    private final UnaryOperator<ObsSecretToken> renewer;
+    private final Duration refreshMargin;
+    private final Duration retryInterval;
+    private final Executor executor;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final AtomicBoolean renewing = new AtomicBoolean();
+    private volatile ObsSecretToken token;
+    private volatile IObsCredentialsProvider delegate;
+    private volatile Instant nextAttempt = Instant.MIN;
+
+    public RefreshingObsCredentialsProvider(ObsSecretToken token, UnaryOperator<ObsSecretToken> renewer, Duration refreshMargin, Duration retryInterval,
+                                            Executor executor, Clock clock, Monitor monitor) {
+        this.renewer = renewer;
+        this.refreshMargin = refreshMargin;
+        this.retryInterval = retryInterval;
+        this.executor = executor;
+        this.clock = clock;
+        this.monitor = monitor;
+        use(token);
+    }
+
+    @Override
+    public ISecurityKey getSecurityKey() {
+        var now = clock.instant();
+        var expiration = expiration(token);
+        if (expiration != null && !now.isBefore(expiration.minus(refreshMargin)) && !now.isBefore(nextAttempt)) {
+            if (now.isBefore(expiration)) {
+                renewInBackground();
+            } else {
+                renewNow();
+            }
+        }
+        return delegate.getSecurityKey();
+    }
+
+    @Override
+    public void setSecurityKey(ISecurityKey securityKey) {
+        throw new UnsupportedOperationException("The key of refreshing credentials is set by the renewer");
+    }
+
+    /**
+     * Returns the token that is currently used.
+     */
+    public ObsSecretToken token() {
+        return token;
+    }
+
+    private void renewInBackground() {
+        if (renewing.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        renew();
+                    } finally {
+                        renewing.set(false);
+                    }
+                });
+            } catch (RuntimeException e) {
+                renewing.set(false);
+                monitor.warning("Could not schedule the renewal of temporary OBS credentials", e);
+            }
+        }
+    }
+
+    private synchronized void renewNow() {
+        var expiration = expiration(token);
+        if (expiration != null && !clock.instant().isBefore(expiration) && !clock.instant().isBefore(nextAttempt)) {
+            renew();
+        }
+    }
+
+    private synchronized void renew() {
+        var current = token;
+        try {
+            var renewed = renewer.apply(current);
+            var renewedExpiration = renewed != null ? expiration(renewed) : null;
+            if (renewed != null && (renewedExpiration == null || renewedExpiration.isAfter(expiration(current)))) {
+                use(renewed);
+                monitor.debug(format("Renewed temporary OBS credentials %s, valid until %s", renewed.ak(), renewedExpiration));
+                return;
+            }
+            monitor.warning(format("No renewal for temporary OBS credentials %s yet, they expire at %s", current.ak(), expiration(current)));
+        } catch (RuntimeException e) {
+            monitor.warning(format("Failed to renew temporary OBS credentials %s, they expire at %s", current.ak(), expiration(current)), e);
+        }
+        nextAttempt = clock.instant().plus(retryInterval);
+    }
+
+    private void use(ObsSecretToken token) {
+        this.delegate = new BasicObsCredentialsProvider(token.ak(), token.sk(), token.securityToken());
+        this.token = token;
+        this.nextAttempt = Instant.MIN;
+    }
+
+    @Nullable
+    private static Instant expiration(ObsSecretToken token) {
+        return token.expiration() != null ? Instant.ofEpochMilli(token.expiration()) : null;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+
+package com.huawei.cloud.obs;
+
+import com.obs.services.IObsClient;
+import com.obs.services.exception.ObsException;
+import com.obs.services.model.GetObjectRequest;
+import com.obs.services.model.ObsObject;
+import com.obs.services.model.PutObjectRequest;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ObsClientHandleTest {
+
+    private final IObsClient sharedClient = mock();
+    private final AtomicInteger releases = new AtomicInteger();
+    private final IObsClient client = ObsClientHandle.create("http://test", sharedClient, releases::incrementAndGet, mock());
+
+    @Test
+    void invoke_passesOnEveryOperation() {
+        when(sharedClient.headBucket("bucket")).thenReturn(true);
+        when(sharedClient.getBucketLocation("bucket")).thenReturn("region");
+
+        assertThat(client.headBucket("bucket")).isTrue();
+        assertThat(client.getBucketLocation("bucket")).isEqualTo("region");
+    }
+
+    @Test
+    void invoke_rethrowsFailureOfRequest() {
+        when(sharedClient.headBucket("bucket")).thenThrow(new IllegalArgumentException("failed"));
+
+        assertThatThrownBy(() -> client.headBucket("bucket")).isInstanceOf(IllegalArgumentException.class).hasMessage("failed");
+    }
+
+    @Test
+    void close_releasesOnce() throws IOException {
+        client.close();
+        client.close();
+
+        assertThat(releases).hasValue(1);
+        verifyNoInteractions(sharedClient);
+    }
+
+    @Test
+    void invoke_afterClose_throws() throws IOException {
+        client.close();
+
+        assertThatThrownBy(() -> client.headBucket("bucket")).isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(sharedClient);
+    }
+
+    @Nested
+    class EndpointGroup {
+
+        private final IObsClient first = mock();
+        private final IObsClient second = mock();
+        private final ObsEndpointGroup group = new ObsEndpointGroup("region", List.of("https://a", "https://b"), Duration.ofSeconds(30), Clock.systemUTC());
+        private final IObsClient groupClient = ObsClientHandle.create(group, Map.of("https://a", first, "https://b", second), releases::incrementAndGet, mock());
+
+        @Test
+        void routesToHealthiestEndpoint() {
+            group.recordResponse("https://a", Duration.ofMillis(50));
+            group.recordResponse("https://b", Duration.ofMillis(10));
+            var object = new ObsObject();
+            when(second.getObject(any(GetObjectRequest.class))).thenReturn(object);
+
+            assertThat(groupClient.getObject(new GetObjectRequest("bucket", "key"))).isSameAs(object);
+            verify(first, never()).getObject(any(GetObjectRequest.class));
+        }
+
+        @Test
+        void failsOverOnServerError() {
+            var object = new ObsObject();
+            when(first.getObject(any(GetObjectRequest.class))).thenThrow(obsException(503));
+            when(second.getObject(any(GetObjectRequest.class))).thenReturn(object);
+
+            assertThat(groupClient.getObject(new GetObjectRequest("bucket", "key"))).isSameAs(object);
+            assertThat(group.errorRate("https://a")).isPositive();
+            assertThat(group.candidates()).containsExactly("https://b", "https://a");
+        }
+
+        @Test
+        void failsOverOnConnectionFailure() {
+            when(first.headBucket("bucket")).thenThrow(obsException(-1));
+            when(second.headBucket("bucket")).thenReturn(true);
+
+            assertThat(groupClient.headBucket("bucket")).isTrue();
+        }
+
+        @Test
+        void failsOverOnce() {
+            when(first.getObject(any(GetObjectRequest.class))).thenThrow(obsException(500));
+            when(second.getObject(any(GetObjectRequest.class))).thenThrow(obsException(500));
+
+            assertThatThrownBy(() -> groupClient.getObject(new GetObjectRequest("bucket", "key"))).isInstanceOf(ObsException.class);
+            assertThat(group.errorRate("https://a")).isPositive();
+            assertThat(group.errorRate("https://b")).isPositive();
+        }
+
+        @Test
+        void doesNotFailOverOnClientError() {
+            when(first.getObject(any(GetObjectRequest.class))).thenThrow(obsException(404));
+
+            assertThatThrownBy(() -> groupClient.getObject(new GetObjectRequest("bucket", "key"))).isInstanceOf(ObsException.class);
+            verify(second, never()).getObject(any(GetObjectRequest.class));
+            assertThat(group.errorRate("https://a")).isZero();
+            assertThat(group.latencyMillis("https://a")).isNotNegative();
+        }
+
+        @Test
+        void doesNotRetryStreamedBody() {
+            when(first.putObject(any(PutObjectRequest.class))).thenThrow(obsException(503));
+            var request = new PutObjectRequest("bucket", "key", new ByteArrayInputStream(new byte[]{ 1 }));
+
+            assertThatThrownBy(() -> groupClient.putObject(request)).isInstanceOf(ObsException.class);
+            verify(second, never()).putObject(any(PutObjectRequest.class));
+            assertThat(group.candidates()).containsExactly("https://b", "https://a");
+        }
+
+        @Test
+        void recordsLatencyOfFirstByteOperationsOnly() {
+            when(first.headBucket("bucket")).thenReturn(true);
+
+            groupClient.putObject(new PutObjectRequest("bucket", "key", new ByteArrayInputStream(new byte[]{ 1 })));
+            assertThat(group.latencyMillis("https://a")).isNegative();
+
+            groupClient.headBucket("bucket");
+            assertThat(group.latencyMillis("https://a")).isNotNegative();
+        }
+
+        @Test
+        void routesEveryOperation() {
+            when(first.getBucketLocation("bucket")).thenThrow(obsException(503));
+            when(second.getBucketLocation("bucket")).thenReturn("region");
+
+            assertThat(groupClient.getBucketLocation("bucket")).isEqualTo("region");
+        }
+
+        @Test
+        void close_releasesLeaseWithoutClosingEndpointClients() throws IOException {
+            groupClient.close();
+
+            assertThat(releases).hasValue(1);
+            verify(first, never()).close();
+            verify(second, never()).close();
+        }
+
+        private static ObsException obsException(int responseCode) {
+            var exception = new ObsException("failed");
+            exception.setResponseCode(responseCode);
+            return exception;
+        }
+    }
+}
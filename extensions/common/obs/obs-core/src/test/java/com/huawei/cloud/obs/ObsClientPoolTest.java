@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.obs;
+
+import com.obs.services.BasicObsCredentialsProvider;
+import com.obs.services.IObsCredentialsProvider;
+import com.obs.services.ObsConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ObsClientPoolTest {
+
+    private final Clock clock = mock();
+    private final IObsCredentialsProvider runtimeCredentials = mock();
+    private final ObsClientPool pool = new ObsClientPool(this::configuration, runtimeCredentials, Duration.ofMinutes(5), clock, mock());
+    private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+    @BeforeEach
+    void setup() {
+        when(clock.instant()).thenAnswer(invocation -> now);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void lease_sharesClientPerEndpointAndAccessKey() {
+        pool.lease("http://test", new BasicObsCredentialsProvider("ak", "sk"));
+        pool.lease("http://test", new BasicObsCredentialsProvider("ak", "sk"));
+        assertThat(pool.size()).isEqualTo(1);
+
+        pool.lease("http://test", new BasicObsCredentialsProvider("ak2", "sk"));
+        assertThat(pool.size()).isEqualTo(2);
+
+        pool.lease("http://test1", new BasicObsCredentialsProvider("ak", "sk"));
+        assertThat(pool.size()).isEqualTo(3);
+    }
+
+    @Test
+    void lease_runtimeCredentials_areNotResolved() {
+        pool.lease("http://test");
+        pool.lease("http://test");
+
+        assertThat(pool.size()).isEqualTo(1);
+        verifyNoInteractions(runtimeCredentials);
+    }
+
+    @Test
+    void lease_refreshingCredentials_keyedByTokenWithoutRenewal() {
+        var token = new ObsSecretToken("ak", "sk", "token", Instant.now().minusSeconds(1).toEpochMilli());
+        UnaryOperator<ObsSecretToken> renewer = mock();
+        var credentials = new RefreshingObsCredentialsProvider(token, renewer, Duration.ofMinutes(5), Duration.ofMinutes(1), Runnable::run, Clock.systemUTC(), mock());
+
+        pool.lease("http://test", credentials);
+        pool.lease("http://test", new BasicObsCredentialsProvider("ak", "sk", "token"));
+
+        assertThat(pool.size()).isEqualTo(1);
+        verifyNoInteractions(renewer);
+    }
+
+    @Test
+    void evictIdle_closesClientsIdleForTimeout() throws IOException {
+        pool.lease("http://test", new BasicObsCredentialsProvider("ak", "sk")).close();
+
+        now = now.plus(Duration.ofMinutes(4));
+        pool.evictIdle();
+        assertThat(pool.size()).isEqualTo(1);
+
+        now = now.plus(Duration.ofMinutes(1));
+        pool.evictIdle();
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    void evictIdle_keepsLeasedClients() throws IOException {
+        var client = pool.lease("http://test", new BasicObsCredentialsProvider("ak", "sk"));
+        pool.lease("http://test", new BasicObsCredentialsProvider("ak", "sk"));
+        client.close();
+
+        now = now.plus(Duration.ofHours(1));
+        pool.evictIdle();
+
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    void close_twiceEndsLeaseOnce() throws IOException {
+        var client = pool.lease("http://test", new BasicObsCredentialsProvider("ak", "sk"));
+        pool.lease("http://test", new BasicObsCredentialsProvider("ak", "sk"));
+        client.close();
+        client.close();
+
+        now = now.plus(Duration.ofHours(1));
+        pool.evictIdle();
+
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    void close_rejectsFurtherRequests() throws IOException {
+        var client = pool.lease("http://test", new BasicObsCredentialsProvider("ak", "sk"));
+        client.close();
+
+        assertThatThrownBy(() -> client.headBucket("bucket")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void lease_revivesIdleClient() throws IOException {
+        pool.lease("http://test", new BasicObsCredentialsProvider("ak", "sk")).close();
+        now = now.plus(Duration.ofMinutes(4));
+
+        pool.lease("http://test", new BasicObsCredentialsProvider("ak", "sk"));
+        now = now.plus(Duration.ofMinutes(10));
+        pool.evictIdle();
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    void close_withoutIdleTimeoutClosesRightAway() throws IOException {
+        var immediatePool = new ObsClientPool(this::configuration, runtimeCredentials, Duration.ZERO, clock, mock());
+
+        var client = immediatePool.lease("http://test", new BasicObsCredentialsProvider("ak", "sk"));
+        client.close();
+
+        assertThat(immediatePool.size()).isZero();
+    }
+
+    private ObsConfiguration configuration(String endpoint) {
+        var configuration = new ObsConfiguration();
+        configuration.setEndPoint(endpoint);
+        return configuration;
+    }
+}
@@ -18,6 +18,11 @@ import com.obs.services.BasicObsCredentialsProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
@@ -35,18 +40,59 @@ public class ObsClientProviderImplTest {
     }
 
     @Test
-    void obsClient() {
+    void obsClient_withCredentialsProvider_leasesClientPerCaller() throws IOException {
+        var client = clientProvider.obsClient("http://test", new BasicObsCredentialsProvider("ak", "sk"));
+        var other = clientProvider.obsClient("http://test", new BasicObsCredentialsProvider("other", "sk"));
+
+        assertThat(other).isNotSameAs(client);
+        client.close();
+        other.close();
+        clientProvider.shutdown();
+    }
+
+    @Test
+    void obsClient() throws IOException {
         var client = clientProvider.obsClient("http://test");
         assertThat(client).isNotNull();
 
-        var sameClient = clientProvider.obsClient("http://test");
+        var sameEndpoint = clientProvider.obsClient("http://test");
+        assertThat(clientProvider.clientPool().size()).isEqualTo(1);
 
-        assertThat(sameClient).isEqualTo(client);
+        clientProvider.obsClient("http://test1");
+        assertThat(clientProvider.clientPool().size()).isEqualTo(2);
 
-        var secondClient = clientProvider.obsClient("http://test1");
+        client.close();
+        sameEndpoint.close();
+        clientProvider.shutdown();
+    }
+
+    @Test
+    void obsClient_appliesConnectionProfile() {
+        var provider = new ObsClientProviderImpl(ObsClientProviderConfiguration.Builder.newInstance()
+                .credentialsProvider(new BasicObsCredentialsProvider("ak", "sk"))
+                .connectionProfiles(List.of(
+                        new ObsConnectionProfile("default", null, 64, null, null, null, null, null, null, null, null),
+                        new ObsConnectionProfile("fast", "https://fast", 512, null, null, null, null, null, null, null, null)))
+                .build(), mock());
 
-        assertThat(secondClient).isNotEqualTo(client);
+        assertThat(provider.getConfiguration().getConnectionProfile("https://fast").maxConnections()).isEqualTo(512);
+        assertThat(provider.getConfiguration().getConnectionProfile("https://other").maxConnections()).isEqualTo(64);
+        assertThat(provider.obsClient("https://fast")).isNotNull();
+        provider.shutdown();
+    }
+
+    @Test
+    void obsClient_routesEndpointGroup() {
+        var group = new ObsEndpointGroup("region", List.of("https://a", "https://b"), Duration.ofSeconds(30), Clock.systemUTC());
+        var provider = new ObsClientProviderImpl(ObsClientProviderConfiguration.Builder.newInstance()
+                .credentialsProvider(new BasicObsCredentialsProvider("ak", "sk"))
+                .endpointGroups(List.of(group))
+                .build(), mock());
 
+        assertThat(provider.obsClient("https://b")).hasToString("ObsClient[region]");
+        assertThat(provider.obsClient("https://a", new BasicObsCredentialsProvider("ak", "sk"))).hasToString("ObsClient[region]");
+        assertThat(provider.obsClient("https://c")).hasToString("ObsClient[https://c]");
+        provider.shutdown();
     }
 
     @Test
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.obs;
+
+import com.obs.services.BasicObsCredentialsProvider;
+import org.eclipse.edc.junit.annotations.EndToEndTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.lang.System.Logger.Level.INFO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Uploads the same set of objects with many concurrent flows, once with the SDK defaults and once with a tuned
+ * connection profile, and logs the duration of both runs. The timings depend on the machine, so they are only
+ * logged and the test is tagged as a benchmark; it only asserts that all objects arrived.
+ */
+@Testcontainers
+@EndToEndTest
+@Tag("benchmark")
+class ObsConnectionProfileLoadTest {
+
+    private static final System.Logger LOGGER = System.getLogger(ObsConnectionProfileLoadTest.class.getName());
+    private static final String MINIO_DOCKER_IMAGE = "bitnamilegacy/minio";
+    private static final String USER = "USER";
+    private static final String PASSWORD = "PASSWORD";
+    private static final int FLOWS = 64;
+    private static final int OBJECTS_PER_FLOW = 8;
+    private static final int OBJECT_SIZE = 256 * 1024;
+
+    @Container
+    private final GenericContainer<?> minioContainer = new GenericContainer<>(MINIO_DOCKER_IMAGE)
+            .withEnv("MINIO_ROOT_USER", USER)
+            .withEnv("MINIO_ROOT_PASSWORD", PASSWORD)
+            .withExposedPorts(9000);
+
+    @Test
+    void concurrentTransfers() throws IOException {
+        var endpoint = "http://localhost:%s".formatted(minioContainer.getMappedPort(9000));
+        var tuned = new ObsConnectionProfile("tuned", endpoint, FLOWS * 2, FLOWS, 60_000, 10_000, 60_000,
+                1024 * 1024, 1024 * 1024, true, 3);
+
+        var defaults = run(endpoint, "sdk-defaults", List.of());
+        var profiled = run(endpoint, "tuned", List.of(tuned));
+
+        LOGGER.log(INFO, () -> "OBS connection profiles, %s flows with %s objects of %s KB: SDK defaults %s ms, tuned profile %s ms".formatted(
+                FLOWS, OBJECTS_PER_FLOW, OBJECT_SIZE / 1024, defaults.toMillis(), profiled.toMillis()));
+    }
+
+    private Duration run(String endpoint, String bucketName, List<ObsConnectionProfile> profiles) throws IOException {
+        var credentials = new BasicObsCredentialsProvider(USER, PASSWORD);
+        var provider = new ObsClientProviderImpl(ObsClientProviderConfiguration.Builder.newInstance()
+                .credentialsProvider(credentials)
+                .connectionProfiles(profiles)
+                .build(), mock());
+        var executor = Executors.newFixedThreadPool(FLOWS);
+        var content = new byte[OBJECT_SIZE];
+        ThreadLocalRandom.current().nextBytes(content);
+        try (var client = provider.obsClient(endpoint, credentials)) {
+            client.createBucket(bucketName);
+
+            var start = System.nanoTime();
+            var flows = new ArrayList<CompletableFuture<Void>>();
+            for (var flow = 0; flow < FLOWS; flow++) {
+                var prefix = "flow-" + flow + "/";
+                flows.add(CompletableFuture.runAsync(() -> {
+                    try (var flowClient = provider.obsClient(endpoint, credentials)) {
+                        for (var i = 0; i < OBJECTS_PER_FLOW; i++) {
+                            flowClient.putObject(bucketName, prefix + i, new ByteArrayInputStream(content));
+                        }
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(flows.toArray(CompletableFuture[]::new)).join();
+            var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            assertThat(client.listObjects(bucketName).getObjects()).hasSize(FLOWS * OBJECTS_PER_FLOW);
+            return elapsed;
+        } finally {
+            executor.shutdownNow();
+            provider.shutdown();
+        }
+    }
+}
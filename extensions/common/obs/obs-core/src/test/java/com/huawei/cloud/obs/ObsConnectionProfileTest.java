@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.obs;
+
+import com.obs.services.ObsConfiguration;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsConnectionProfileTest {
+
+    @Test
+    void fromConfig() {
+        var config = ConfigFactory.fromMap(Map.of(
+                "fast.endpoint", "https://obs.eu-de.otc.t-systems.com",
+                "fast.max.connections", "512",
+                "fast.keep.alive", "true",
+                "fast.socket.write.buffer.size", "1048576"));
+
+        var profile = config.partition().map(ObsConnectionProfile::fromConfig).findFirst().orElseThrow();
+
+        assertThat(profile.name()).isEqualTo("fast");
+        assertThat(profile.endpoint()).isEqualTo("https://obs.eu-de.otc.t-systems.com");
+        assertThat(profile.maxConnections()).isEqualTo(512);
+        assertThat(profile.keepAlive()).isTrue();
+        assertThat(profile.socketWriteBufferSize()).isEqualTo(1048576);
+        assertThat(profile.maxErrorRetry()).isNull();
+        assertThat(profile.isDefault()).isFalse();
+    }
+
+    @Test
+    void matches_ignoresSchemeCaseAndTrailingSlash() {
+        var profile = profile("https://OBS.example.com/");
+
+        assertThat(profile.matches("http://obs.example.com")).isTrue();
+        assertThat(profile.matches("https://obs.other.com")).isFalse();
+        assertThat(profile(null).matches("https://obs.example.com")).isFalse();
+    }
+
+    @Test
+    void applyTo_keepsDefaultsOfUnsetValues() {
+        var defaults = new ObsConfiguration();
+        var configuration = new ObsConfiguration();
+
+        profile("https://obs.example.com").applyTo(configuration);
+
+        assertThat(configuration.getMaxConnections()).isEqualTo(256);
+        assertThat(configuration.getMaxErrorRetry()).isEqualTo(1);
+        assertThat(configuration.getSocketTimeout()).isEqualTo(defaults.getSocketTimeout());
+        assertThat(configuration.getConnectionTimeout()).isEqualTo(defaults.getConnectionTimeout());
+    }
+
+    private ObsConnectionProfile profile(String endpoint) {
+        return new ObsConnectionProfile("test", endpoint, 256, null, null, null, null, null, null, null, 1);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.obs;
+
+import com.obs.services.IObsClient;
+import com.obs.services.exception.ObsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ObsConnectionWarmerTest {
+
+    private final ObsClientPool clientPool = mock();
+    private final Map<String, ObsConnectionWarmer.WarmupResult> results = new ConcurrentHashMap<>();
+    private final ObsConnectionWarmer warmer = new ObsConnectionWarmer(clientPool, "bucket", 4, Duration.ofSeconds(5), mock());
+
+    @BeforeEach
+    void setup() {
+        when(clientPool.idleTimeout()).thenReturn(Duration.ofMinutes(5));
+        warmer.addListener(results::put);
+    }
+
+    @Test
+    void warm_probesEveryEndpointAnonymously() throws IOException {
+        var first = mock(IObsClient.class);
+        var second = mock(IObsClient.class);
+        when(clientPool.lease("https://a")).thenReturn(first);
+        when(clientPool.lease("https://b")).thenReturn(second);
+
+        warmer.warm(List.of("https://a", "https://b"));
+
+        verify(first, times(4)).headBucket("bucket");
+        verify(second, times(4)).headBucket("bucket");
+        verify(first).close();
+        verify(second).close();
+        assertThat(results).containsOnlyKeys("https://a", "https://b");
+        assertThat(results.get("https://a").connections()).isEqualTo(4);
+    }
+
+    @Test
+    void warm_countsErrorResponsesAsConnections() {
+        var client = mock(IObsClient.class);
+        when(clientPool.lease("https://a")).thenReturn(client);
+        when(client.headBucket("bucket")).thenThrow(obsException(403)).thenThrow(obsException(-1)).thenReturn(true);
+
+        warmer.warm(List.of("https://a"));
+
+        assertThat(results.get("https://a")).satisfies(result -> {
+            assertThat(result.connections()).isEqualTo(3);
+            assertThat(result.failedProbes()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void warm_returnsAfterTimeout() throws IOException {
+        var client = mock(IObsClient.class);
+        var release = new CountDownLatch(1);
+        when(clientPool.lease("https://a")).thenReturn(client);
+        when(client.headBucket("bucket")).thenAnswer(invocation -> release.await());
+        var warmer = new ObsConnectionWarmer(clientPool, "bucket", 2, Duration.ofMillis(100), mock());
+        warmer.addListener(results::put);
+
+        warmer.warm(List.of("https://a"));
+
+        assertThat(results).isEmpty();
+        verify(client, never()).close();
+        release.countDown();
+    }
+
+    @Test
+    void warm_withoutIdleTimeout_skipsWarmup() {
+        when(clientPool.idleTimeout()).thenReturn(Duration.ZERO);
+
+        warmer.warm(List.of("https://a"));
+
+        verify(clientPool, never()).lease(anyString());
+    }
+
+    @Test
+    void warm_noEndpoints() {
+        warmer.warm(List.of());
+
+        verify(clientPool, never()).lease(anyString());
+    }
+
+    private static ObsException obsException(int responseCode) {
+        var exception = new ObsException("failed");
+        exception.setResponseCode(responseCode);
+        return exception;
+    }
+}
@@ -29,7 +29,7 @@ import static com.huawei.cloud.obs.ObsCoreExtension.HUAWEI_ACCESS_KEY;
 import static com.huawei.cloud.obs.ObsCoreExtension.HUAWEI_IAM_ENDPOINT;
 import static com.huawei.cloud.obs.ObsCoreExtension.HUAWEI_SECRET_KEY;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -66,7 +66,7 @@ public class ObsCoreExtensionTest {
 
         extension.initialize(context);
 
-        verify(context).registerService(any(), captor.capture());
+        verify(context).registerService(eq(ObsClientProvider.class), captor.capture());
 
         var clientProviderCfg = captor.getValue().getConfiguration();
 
@@ -92,7 +92,7 @@ public class ObsCoreExtensionTest {
 
         extension.initialize(context);
 
-        verify(context).registerService(any(), captor.capture());
+        verify(context).registerService(eq(ObsClientProvider.class), captor.capture());
 
         var clientProviderCfg = captor.getValue().getConfiguration();
 
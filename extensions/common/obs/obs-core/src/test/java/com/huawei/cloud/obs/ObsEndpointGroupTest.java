@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.obs;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ObsEndpointGroupTest {
+
+    private final Clock clock = mock();
+    private final ObsEndpointGroup group = new ObsEndpointGroup("region", List.of("https://a", "https://b", "https://c"), Duration.ofSeconds(30), clock);
+    private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+    @BeforeEach
+    void setup() {
+        when(clock.instant()).thenAnswer(invocation -> now);
+    }
+
+    @Test
+    void candidates_ranksEndpointsWithoutLatencyWithMeanLatency() {
+        group.recordResponse("https://a", Duration.ofMillis(30));
+        group.recordResponse("https://b", Duration.ofMillis(10));
+
+        assertThat(group.candidates()).containsExactly("https://b", "https://c", "https://a");
+    }
+
+    @Test
+    void candidates_prefersLowestLatency() {
+        group.recordResponse("https://a", Duration.ofMillis(50));
+        group.recordResponse("https://b", Duration.ofMillis(10));
+        group.recordResponse("https://c", Duration.ofMillis(20));
+
+        assertThat(group.candidates()).containsExactly("https://b", "https://c", "https://a");
+    }
+
+    @Test
+    void recordResponse_smoothsLatency() {
+        group.recordResponse("https://a", Duration.ofMillis(10));
+        group.recordResponse("https://a", Duration.ofMillis(60));
+
+        assertThat(group.latencyMillis("https://a")).isEqualTo(20);
+        assertThat(group.latencyMillis("https://b")).isNegative();
+    }
+
+    @Test
+    void recordResponse_withoutLatency_recoversErrorRate() {
+        group.recordFailure("https://a");
+        group.recordResponse("https://a");
+
+        assertThat(group.errorRate("https://a")).isCloseTo(0.16, within(1e-9));
+        assertThat(group.latencyMillis("https://a")).isNegative();
+    }
+
+    @Test
+    void recordFailure_leavesEndpointOutForCooldown() {
+        group.recordResponse("https://a", Duration.ofMillis(10));
+        group.recordResponse("https://b", Duration.ofMillis(20));
+        group.recordResponse("https://c", Duration.ofMillis(40));
+
+        group.recordFailure("https://a");
+        now = now.plusSeconds(1);
+        group.recordFailure("https://b");
+
+        assertThat(group.errorRate("https://a")).isEqualTo(0.2);
+        assertThat(group.candidates()).containsExactly("https://c", "https://a", "https://b");
+
+        now = now.plusSeconds(29);
+        assertThat(group.candidates()).containsExactly("https://a", "https://c", "https://b");
+        assertThat(group.errorRate("https://a")).isEqualTo(0.2);
+    }
+
+    @Test
+    void candidates_weighsErrorRate() {
+        var twoEndpoints = new ObsEndpointGroup("region", List.of("https://a", "https://b"), Duration.ZERO, clock);
+        twoEndpoints.recordResponse("https://a", Duration.ofMillis(10));
+        twoEndpoints.recordResponse("https://b", Duration.ofMillis(20));
+        twoEndpoints.recordFailure("https://a");
+
+        assertThat(twoEndpoints.candidates()).containsExactly("https://b", "https://a");
+    }
+
+    @Test
+    void contains_ignoresSchemeAndCase() {
+        assertThat(group.contains("HTTP://A/")).isTrue();
+        assertThat(group.contains("https://d")).isFalse();
+        assertThat(group.contains(null)).isFalse();
+    }
+
+    @Test
+    void fromConfig() {
+        var config = ConfigFactory.fromMap(Map.of(
+                "region.endpoints", "https://a, https://b,,https://a",
+                "region.failover.cooldown.seconds", "5"));
+
+        var groups = config.partition().map(partition -> ObsEndpointGroup.fromConfig(partition, clock)).toList();
+
+        assertThat(groups).singleElement().satisfies(read -> {
+            assertThat(read.name()).isEqualTo("region");
+            assertThat(read.endpoints()).containsExactly("https://a", "https://b");
+        });
+    }
+
+    @Test
+    void verify_endpointsRequired() {
+        assertThatThrownBy(() -> new ObsEndpointGroup("region", List.of(), Duration.ZERO, clock)).isInstanceOf(EdcException.class);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.obs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ObsSecretTokenCacheTest {
+
+    private final Clock clock = mock();
+    private final AtomicInteger loads = new AtomicInteger();
+    private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+    @BeforeEach
+    void setup() {
+        when(clock.instant()).thenAnswer(invocation -> now);
+    }
+
+    @Test
+    void get_returnsCachedToken() {
+        var cache = new ObsSecretTokenCache(10, Duration.ofMinutes(5), clock);
+        var token = token(now.plus(Duration.ofHours(1)));
+
+        assertThat(cache.get("secret", name -> load(token))).isSameAs(token);
+        assertThat(cache.get("secret", name -> load(token))).isSameAs(token);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_reloadsAtTokenExpiration() {
+        var cache = new ObsSecretTokenCache(10, Duration.ofMinutes(5), clock);
+        var token = token(now.plus(Duration.ofMinutes(1)));
+        cache.get("secret", name -> load(token));
+
+        now = now.plus(Duration.ofMinutes(1));
+        cache.get("secret", name -> load(token));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_reloadsAfterTimeToLive() {
+        var cache = new ObsSecretTokenCache(10, Duration.ofMinutes(5), clock);
+        cache.get("secret", name -> load(new ObsSecretToken("ak", "sk", null, null)));
+
+        now = now.plus(Duration.ofMinutes(4));
+        cache.get("secret", name -> load(new ObsSecretToken("ak", "sk", null, null)));
+        assertThat(loads).hasValue(1);
+
+        now = now.plus(Duration.ofMinutes(1));
+        cache.get("secret", name -> load(new ObsSecretToken("ak", "sk", null, null)));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_doesNotCacheMissingOrExpiredTokens() {
+        var cache = new ObsSecretTokenCache(10, Duration.ofMinutes(5), clock);
+
+        assertThat(cache.get("missing", name -> load(null))).isNull();
+        cache.get("expired", name -> load(token(now.minusSeconds(1))));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_dropsLeastRecentlyUsedToken() {
+        var cache = new ObsSecretTokenCache(2, Duration.ofMinutes(5), clock);
+        var token = token(now.plus(Duration.ofHours(1)));
+        cache.get("first", name -> load(token));
+        cache.get("second", name -> load(token));
+        cache.get("first", name -> load(token));
+
+        cache.get("third", name -> load(token));
+        cache.get("first", name -> load(token));
+        cache.get("second", name -> load(token));
+
+        assertThat(loads).hasValue(4);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidate() {
+        var cache = new ObsSecretTokenCache(10, Duration.ofMinutes(5), clock);
+        var token = token(now.plus(Duration.ofHours(1)));
+        cache.get("secret", name -> load(token));
+
+        cache.invalidate("secret");
+        cache.get("secret", name -> load(token));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_withoutSizeAlwaysLoads() {
+        var cache = new ObsSecretTokenCache(0, Duration.ofMinutes(5), clock);
+        var token = token(now.plus(Duration.ofHours(1)));
+
+        cache.get("secret", name -> load(token));
+        cache.get("secret", name -> load(token));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private ObsSecretToken load(ObsSecretToken token) {
+        loads.incrementAndGet();
+        return token;
+    }
+
+    private ObsSecretToken token(Instant expiration) {
+        return new ObsSecretToken("ak", "sk", "token", expiration.toEpochMilli());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.obs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RefreshingObsCredentialsProviderTest {
+
+    private final Clock clock = mock();
+    private final List<Runnable> backgroundTasks = new ArrayList<>();
+    private final AtomicInteger renewals = new AtomicInteger();
+    private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+    @BeforeEach
+    void setup() {
+        when(clock.instant()).thenAnswer(invocation -> now);
+    }
+
+    @Test
+    void getSecurityKey_usesTokenOutsideRefreshMargin() {
+        var provider = provider(token("ak1", now.plus(Duration.ofHours(1))), current -> renewed("ak2", Duration.ofHours(2)));
+
+        assertThat(provider.getSecurityKey().getAccessKey()).isEqualTo("ak1");
+        assertThat(backgroundTasks).isEmpty();
+    }
+
+    @Test
+    void getSecurityKey_renewsInBackgroundWithinRefreshMargin() {
+        var provider = provider(token("ak1", now.plus(Duration.ofHours(1))), current -> renewed("ak2", Duration.ofHours(2)));
+        now = now.plus(Duration.ofMinutes(56));
+
+        assertThat(provider.getSecurityKey().getAccessKey()).isEqualTo("ak1");
+        assertThat(provider.getSecurityKey().getAccessKey()).isEqualTo("ak1");
+        assertThat(backgroundTasks).hasSize(1);
+
+        backgroundTasks.get(0).run();
+
+        assertThat(provider.getSecurityKey().getAccessKey()).isEqualTo("ak2");
+        assertThat(provider.getSecurityKey().getSecurityToken()).isEqualTo("token-ak2");
+        assertThat(renewals).hasValue(1);
+    }
+
+    @Test
+    void getSecurityKey_renewsRightAwayWhenExpired() {
+        var provider = provider(token("ak1", now.plus(Duration.ofHours(1))), current -> renewed("ak2", Duration.ofHours(2)));
+        now = now.plus(Duration.ofHours(1));
+
+        assertThat(provider.getSecurityKey().getAccessKey()).isEqualTo("ak2");
+        assertThat(backgroundTasks).isEmpty();
+    }
+
+    @Test
+    void getSecurityKey_retriesFailedRenewalAfterInterval() {
+        var provider = provider(token("ak1", now.plus(Duration.ofHours(1))), current -> {
+            renewals.incrementAndGet();
+            throw new IllegalStateException("IAM unavailable");
+        });
+        now = now.plus(Duration.ofMinutes(56));
+
+        provider.getSecurityKey();
+        backgroundTasks.remove(0).run();
+        provider.getSecurityKey();
+        assertThat(backgroundTasks).isEmpty();
+
+        now = now.plus(Duration.ofSeconds(30));
+        provider.getSecurityKey();
+        assertThat(backgroundTasks).hasSize(1);
+        assertThat(provider.token().ak()).isEqualTo("ak1");
+    }
+
+    @Test
+    void getSecurityKey_keepsTokenWhenRenewalIsNotLater() {
+        var token = token("ak1", now.plus(Duration.ofHours(1)));
+        var provider = provider(token, current -> {
+            renewals.incrementAndGet();
+            return current;
+        });
+        now = now.plus(Duration.ofMinutes(56));
+
+        provider.getSecurityKey();
+        backgroundTasks.remove(0).run();
+
+        assertThat(provider.token()).isSameAs(token);
+        assertThat(renewals).hasValue(1);
+    }
+
+    private RefreshingObsCredentialsProvider provider(ObsSecretToken token, UnaryOperator<ObsSecretToken> renewer) {
+        return new RefreshingObsCredentialsProvider(token, renewer, Duration.ofMinutes(5), Duration.ofSeconds(30), backgroundTasks::add, clock, mock());
+    }
+
+    private ObsSecretToken renewed(String ak, Duration validity) {
+        renewals.incrementAndGet();
+        return token(ak, now.plus(validity));
+    }
+
+    private ObsSecretToken token(String ak, Instant expiration) {
+        return new ObsSecretToken(ak, "sk-" + ak, "token-" + ak, expiration.toEpochMilli());
+    }
+}
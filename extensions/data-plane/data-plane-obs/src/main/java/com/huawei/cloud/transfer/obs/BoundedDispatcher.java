@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Runs tasks on an executor with at most {@code limit} of them running at the same time. Tasks beyond the limit wait
+ * here, in the order they were submitted, and are handed to the executor as running ones complete, so that no thread of
+ * the executor is parked waiting for a slot.
+ */
+class BoundedDispatcher {
+
+    private final Executor executor;
+    private final int limit;
+    private final Queue<Runnable> queued = new ArrayDeque<>();
+    private int running;
+
+    BoundedDispatcher(Executor executor, int limit) {
+        this.executor = executor;
+        this.limit = limit;
+    }
+
+    /**
+     * Submits a task, which starts right away if less than {@code limit} tasks are running.
+     *
+     * @param task The task
+     * @return The result of the task
+     */
+    <T> CompletableFuture<T> submit(Supplier<T> task) {
+        var future = new CompletableFuture<T>();
+        Runnable start = () -> start(task, future);
+        synchronized (this) {
+            if (running >= limit) {
+                queued.add(start);
+                return future;
+            }
+            running++;
+        }
+        start.run();
+        return future;
+    }
+
+    private <T> void start(Supplier<T> task, CompletableFuture<T> future) {
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(task.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    next();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+            next();
+        }
+    }
+
+    private void next() {
+        Runnable start;
+        synchronized (this) {
+            start = queued.poll();
+            if (start == null) {
+                running--;
+                return;
+            }
+        }
+        start.run();
+    }
+}
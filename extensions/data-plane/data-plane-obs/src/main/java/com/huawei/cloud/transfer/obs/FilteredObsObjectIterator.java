@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs;
+
+import com.obs.services.model.ObsObject;
+
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Passes on the objects of another iterator that match a predicate.
+ */
+class FilteredObsObjectIterator implements ObsObjectIterator {
+
+    private final ObsObjectIterator objects;
+    private final Predicate<ObsObject> predicate;
+    private ObsObject next;
+
+    FilteredObsObjectIterator(ObsObjectIterator objects, Predicate<ObsObject> predicate) {
+        this.objects = objects;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && objects.hasNext()) {
+            var candidate = objects.next();
+            if (predicate.test(candidate)) {
+                next = candidate;
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public ObsObject next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        var object = next;
+        next = null;
+        return object;
+    }
+
+    @Override
+    public void close() {
+        objects.close();
+    }
+}
@@ -14,85 +14,808 @@
 
 package com.huawei.cloud.transfer.obs;
 
-import com.obs.services.ObsClient;
+import com.huawei.cloud.obs.ObsConnectionProfile;
+import com.huawei.cloud.transfer.obs.buffer.ChunkBuffer;
+import com.huawei.cloud.transfer.obs.buffer.ChunkBufferPool;
+import com.huawei.cloud.transfer.obs.bundle.ObsBundlePart;
+import com.huawei.cloud.transfer.obs.checkpoint.ObsUploadCheckpoint;
+import com.huawei.cloud.transfer.obs.checkpoint.ObsUploadCheckpointStore;
+import com.huawei.cloud.transfer.obs.checkpoint.ObsUploadedPart;
+import com.huawei.cloud.transfer.obs.incremental.ObsTransferSummary;
+import com.huawei.cloud.transfer.obs.incremental.ObsTransferWatermarkStore;
+import com.huawei.cloud.transfer.obs.metrics.FlowTransferMetrics;
+import com.huawei.cloud.transfer.obs.metrics.ObsTransferMetrics;
+import com.obs.services.IObsClient;
 import com.obs.services.exception.ObsException;
+import com.obs.services.model.AbortMultipartUploadRequest;
 import com.obs.services.model.CompleteMultipartUploadRequest;
+import com.obs.services.model.CopyObjectRequest;
+import com.obs.services.model.CopyPartRequest;
 import com.obs.services.model.InitiateMultipartUploadRequest;
+import com.obs.services.model.ListPartsRequest;
+import com.obs.services.model.ListPartsResult;
+import com.obs.services.model.Multipart;
+import com.obs.services.model.ObjectMetadata;
 import com.obs.services.model.PartEtag;
+import com.obs.services.model.PutObjectRequest;
 import com.obs.services.model.UploadPartRequest;
+import com.obs.services.model.UploadPartResult;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part.SIZE_UNKNOWN;
 
 /**
  * This class represents a data sink for uploading data to an OBS (Object Storage Service) bucket.
  * It extends the ParallelSink class.
+ * <p>
+ * Large objects are uploaded as multipart uploads. Up to {@code partConcurrency} parts of the same object are uploaded
+ * concurrently on the part executor, the ETags are collected and sorted by part number before completing the upload.
+ * With a concurrency of 1 (the default) parts are uploaded sequentially on the calling thread.
+ * <p>
+ * With a {@code readAhead} greater than zero, the next chunks are read from the source while the current parts are
+ * still uploading, so that download and upload overlap. An object then holds at most {@code partConcurrency + readAhead}
+ * buffers at any time.
+ * <p>
+ * Objects that fit into a single part are written with one {@code putObject} request instead: objects whose size is
+ * known to be below the single put threshold are streamed straight from the source, all others are detected when the
+ * first chunk already holds the whole object.
+ * <p>
+ * The size of the parts is chosen per object by a {@link PartSizer}, based on the size reported by the source part.
+ * Objects too large for {@link PartSizer#MAX_PARTS} parts of the max part size use larger parts with fewer of them in
+ * flight, up to the largest buffer of the pool, which caps known-size uploads at 10,000 times that buffer.
+ * <p>
+ * Chunks are read into buffers leased from a {@link ChunkBufferPool}, which is usually shared by all sinks, so that the
+ * memory used for uploads is bounded no matter how many flows are running.
+ * <p>
+ * If a {@link ObsUploadCheckpointStore} is set, the upload id and the uploaded parts of every multipart upload are
+ * checkpointed per flow. When the flow is started again, the parts OBS already holds are listed and the upload resumes
+ * from the first missing part, skipping the bytes of the completed parts in the source stream.
+ * <p>
+ * Objects read by an {@link ObsDataSource} on the same endpoint are not streamed through the data plane at all: they
+ * are copied by OBS with {@code copyObject}, or with concurrent {@code copyPart} requests if they span several parts.
+ * This requires the destination credentials to be allowed to read the source object, if they are not the object is
+ * streamed as usual.
+ * <p>
+ * Up to {@code objectConcurrency} objects of a flow are transferred at the same time on the object executor. The
+ * objects are dispatched by a single task per flow on the sink executor, so a flow with many objects does not crowd
+ * out the others, and every object holds a permit of the global object semaphore, which is fair and shared by all
+ * sinks, so that the total number of objects in flight is capped as well. The parts of the source are therefore streamed
+ * instead of being split into partitions as {@link ParallelSink} does, and a partition size set on the builder is ignored.
+ * <p>
+ * Uploaded bytes, parts and objects, part latencies and failures are recorded in the {@link FlowTransferMetrics} of the
+ * flow, which are closed when the transfer ends.
+ * <p>
+ * In incremental mode, objects the destination already holds are skipped: objects of an {@link ObsDataSource} that were
+ * modified before the watermark of the asset, and objects whose destination counterpart has the same size and the
+ * ETag of the source object, either as its own ETag or in the {@code source-etag} metadata the sink writes. When all
+ * objects were transferred, the time the listing of the source started, less a margin for the clock skew between this
+ * runtime and OBS, becomes the new watermark, so that objects written while the source was listed are transferred by
+ * the next run, and the result holds an {@link ObsTransferSummary} with the skipped objects and bytes.
+ * <p>
+ * {@link ObsBundlePart}s of coalesced small objects are unpacked: every member is read from the source and written with
+ * its own {@code putObject}, so that the destination looks the same as without coalescing. With {@code keepBundles} the
+ * archive is stored as one object instead, next to an index of the offsets of its members.
  */
 public class ObsDataSink extends ParallelSink {
 
+    private static final String SOURCE_ETAG_METADATA = "source-etag";
+    // objects modified within the margin before the listing started are compared by ETag in the next run
+    private static final Duration WATERMARK_CLOCK_SKEW = Duration.ofMinutes(5);
+
     private String bucketName;
     private int chunkSize;
-    private ObsClient obsClient;
+    private int maxPartSize;
+    private long singlePutThreshold;
+    private int partConcurrency = 1;
+    private int readAhead;
+    private IObsClient obsClient;
+    private Executor partExecutor;
+    private ChunkBufferPool bufferPool;
+    private String flowId;
+    private ObsUploadCheckpointStore checkpointStore;
+    private String endpoint;
+    private boolean serverSideCopy;
+    private int objectConcurrency = 1;
+    private Executor objectExecutor;
+    private Semaphore globalObjectPermits;
+    private FlowTransferMetrics metrics;
+    private boolean incremental;
+    private String assetId;
+    private ObsTransferWatermarkStore watermarkStore;
+    private boolean keepBundles;
+    private boolean closeClient;
+    private Clock clock = Clock.systemUTC();
+
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+        return transferSource(source).whenComplete((result, throwable) -> {
+            metrics.close();
+            releaseClient();
+        });
+    }
+
+    private CompletableFuture<StreamResult<Object>> transferSource(DataSource source) {
+        try {
+            var streamResult = source.openPartStream();
+            if (streamResult.failed()) {
+                return CompletableFuture.completedFuture(StreamResult.failure(streamResult.getFailure()));
+            }
+
+            var partStream = streamResult.getContent();
+            return CompletableFuture.supplyAsync(() -> {
+                try (partStream) {
+                    return transferParts(partStream.iterator());
+                }
+            }, executorService)
+                    .exceptionally(throwable -> StreamResult.error("Unhandled exception raised when transferring data: " + throwable.getMessage()));
+        } catch (Exception e) {
+            var message = format("Error processing data transfer request - Request ID: %s", requestId);
+            monitor.severe(message, e);
+            return CompletableFuture.completedFuture(StreamResult.error(message));
+        }
+    }
+
+    private void releaseClient() {
+        if (closeClient) {
+            try {
+                obsClient.close();
+            } catch (IOException e) {
+                monitor.warning(format("Failed to close the OBS client of %s", flowId), e);
+            }
+        }
+    }
 
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
-        for (var part : parts) {
-            var partNumber = 1;
-            var bytesTransferred = 0L;
-            try (var input = part.openStream()) {
-                var completedParts = new ArrayList<PartEtag>();
-                var request = new InitiateMultipartUploadRequest(bucketName, part.name());
-                var uploadId = obsClient.initiateMultipartUpload(request).getUploadId();
-                //todo: parallelize? It is supported by OBS: https://support.huaweicloud.com/eu/sdk-java-devg-obs/obs_21_0607.html#section3
-                while (true) {
-                    var bytesChunk = input.readNBytes(chunkSize);
-
-                    if (bytesChunk.length < 1) {
-                        break;
+        return transferParts(parts.iterator());
+    }
+
+    private StreamResult<Object> transferParts(Iterator<DataSource.Part> parts) {
+        var executor = objectExecutor != null ? objectExecutor : (Executor) Runnable::run;
+        var flowPermits = new Semaphore(objectConcurrency);
+        var failure = new AtomicReference<StreamResult<Object>>();
+        var transfers = new ArrayList<CompletableFuture<Void>>();
+        var watermark = incremental && watermarkStore != null && assetId != null ? watermarkStore.find(assetId, bucketName) : null;
+        // the listing is lazy, objects written while it runs may be missed by it but not by the next run
+        var nextWatermark = clock.instant().minus(WATERMARK_CLOCK_SKEW);
+        try {
+            while (failure.get() == null && parts.hasNext()) {
+                var part = parts.next();
+                flowPermits.acquire();
+                try {
+                    globalObjectPermits.acquire();
+                } catch (InterruptedException e) {
+                    flowPermits.release();
+                    throw e;
+                }
+                var transfer = CompletableFuture.runAsync(() -> {
+                    try {
+                        if (incremental && isUnchanged(part, watermark)) {
+                            metrics.objectSkipped(part.size());
+                            return;
+                        }
+                        metrics.objectStarted(part.size());
+                        var result = transferPart(part);
+                        if (result.succeeded()) {
+                            metrics.objectTransferred();
+                        } else {
+                            failure.compareAndSet(null, result);
+                        }
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, uploadFailure(e, part.name(), 1));
+                    } finally {
+                        globalObjectPermits.release();
+                        flowPermits.release();
                     }
-                    var uploadRequest = new UploadPartRequest(bucketName, part.name());
-                    uploadRequest.setUploadId(uploadId);
-                    uploadRequest.setPartNumber(partNumber);
-                    uploadRequest.setPartSize((long) bytesChunk.length);
-                    uploadRequest.setOffset(bytesTransferred);
-                    uploadRequest.setInput(new ByteArrayInputStream(bytesChunk));
+                }, executor);
+                transfers.add(transfer);
+                transfers.removeIf(CompletableFuture::isDone);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, StreamResult.error("Interrupted while waiting to transfer the next object"));
+        } catch (RuntimeException e) {
+            // a failed listing must not end the flow while objects are still being transferred with its client
+            var message = format("Error reading the next object to transfer into the %s bucket: %s", bucketName, e.getMessage());
+            monitor.severe(message, e);
+            failure.compareAndSet(null, StreamResult.error(message));
+        }
+
+        CompletableFuture.allOf(transfers.toArray(CompletableFuture[]::new)).join();
+        if (failure.get() != null) {
+            return failure.get();
+        }
+        return incremental ? completeIncremental(nextWatermark) : StreamResult.success();
+    }
 
-                    var uploadResult = obsClient.uploadPart(uploadRequest);
+    private StreamResult<Object> completeIncremental(Instant watermark) {
+        if (watermarkStore != null && assetId != null) {
+            watermarkStore.save(assetId, bucketName, watermark);
+        }
+        var summary = new ObsTransferSummary(metrics.objects(), metrics.skippedObjects(), metrics.skippedBytes());
+        monitor.info(format("Incremental transfer %s into the %s bucket: %s objects transferred, %s unchanged objects with %s bytes skipped",
+                flowId, bucketName, summary.transferredObjects(), summary.skippedObjects(), summary.skippedBytes()));
+        return StreamResult.success(summary);
+    }
 
-                    bytesTransferred += bytesChunk.length;
-                    System.out.printf("transferred part %s, bytes: %s%n", partNumber, bytesTransferred);
+    /**
+     * Whether the destination already holds the object: it was modified before the watermark, or the destination object
+     * has the same size and carries the ETag of the source object.
+     */
+    private boolean isUnchanged(DataSource.Part part, @Nullable Instant watermark) {
+        if (!(part instanceof ObsDataSource.ObsPart obsPart)) {
+            return false;
+        }
+        if (watermark != null && obsPart.lastModified() != null && obsPart.lastModified().isBefore(watermark)) {
+            return true;
+        }
+        if (obsPart.etag() == null) {
+            return false;
+        }
 
-                    completedParts.add(new PartEtag(uploadResult.getEtag(), uploadResult.getPartNumber()));
-                    partNumber++;
-                }
-                var competeRequest = new CompleteMultipartUploadRequest(bucketName, part.name(), uploadId, completedParts);
-                obsClient.completeMultipartUpload(competeRequest);
+        ObjectMetadata destination;
+        try {
+            destination = obsClient.getObjectMetadata(bucketName, part.name());
+        } catch (ObsException e) {
+            if (e.getResponseCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+        var sameSize = part.size() == SIZE_UNKNOWN || Objects.equals(destination.getContentLength(), part.size());
+        var sourceEtag = unquote(obsPart.etag());
+        var copiedEtag = destination.getUserMetadata(SOURCE_ETAG_METADATA);
+        return sameSize && (sourceEtag.equals(unquote(destination.getEtag())) || (copiedEtag != null && sourceEtag.equals(unquote(copiedEtag.toString()))));
+    }
+
+    /**
+     * Metadata that records the ETag of the source object on the destination object in incremental mode, as objects
+     * written with other part sizes get a different ETag. Returns null if there is nothing to record.
+     */
+    @Nullable
+    private ObjectMetadata sourceMetadata(@Nullable String sourceEtag) {
+        if (!incremental || sourceEtag == null) {
+            return null;
+        }
+        var metadata = new ObjectMetadata();
+        metadata.addUserMetadata(SOURCE_ETAG_METADATA, sourceEtag);
+        return metadata;
+    }
+
+    private StreamResult<Object> transferPart(DataSource.Part part) {
+        if (part instanceof ObsBundlePart bundle) {
+            return keepBundles ? keep(bundle) : unpack(bundle);
+        }
+        if (serverSideCopy && part instanceof ObsDataSource.ObsPart obsPart && isSameEndpoint(obsPart.endpoint())) {
+            var copyResult = copy(obsPart);
+            if (copyResult != null) {
+                return copyResult;
+            }
+        }
+        return upload(part);
+    }
+
+    /**
+     * Sizes the parts of an uploaded object. Objects of known size that only fit into {@link PartSizer#MAX_PARTS} parts
+     * larger than the max part size get those, up to the largest buffer of the pool, and upload fewer of them at a
+     * time so that their buffers still fit into the memory budget.
+     */
+    private PartSizer partSizer(long size) {
+        if (size != SIZE_UNKNOWN) {
+            var required = PartSizer.requiredPartSize(size);
+            if (required > maxPartSize && required > bufferPool.maxBufferSize()) {
+                throw new IllegalArgumentException(format("Object of %s bytes needs parts of %s bytes, more than the largest chunk buffer of %s bytes, " +
+                        "raise the buffer budget (edc.obs.sink.buffer.budget.mb)", size, required, bufferPool.maxBufferSize()));
+            }
+            if (required > maxPartSize) {
+                return new PartSizer(size, chunkSize, (int) required);
+            }
+        }
+        return new PartSizer(size, chunkSize, maxPartSize);
+    }
+
+    private StreamResult<Object> upload(DataSource.Part part) {
+        var sourceEtag = part instanceof ObsDataSource.ObsPart obsPart ? obsPart.etag() : null;
+        var failedPart = new AtomicInteger(1);
+        try (var input = part.openStream()) {
+            var sizer = partSizer(part.size());
+            if (sizer.isSizeKnown() && part.size() <= singlePutThreshold) {
+                putObject(part.name(), input, part.size(), sourceEtag);
+                return StreamResult.success();
+            }
+
+            var channel = Channels.newChannel(input);
+            var firstChunk = bufferPool.acquire(sizer.sizeOf(1));
+            int bytesRead;
+            try {
+                bytesRead = firstChunk.readFrom(channel);
             } catch (Exception e) {
-                return uploadFailure(e, part.name(), partNumber);
+                firstChunk.close();
+                throw e;
+            }
+
+            var wholeObject = bytesRead < sizer.sizeOf(1) || (sizer.isSizeKnown() && bytesRead >= part.size());
+            if (wholeObject) {
+                try (firstChunk) {
+                    putObject(part.name(), firstChunk.inputStream(), bytesRead, sourceEtag);
+                }
+            } else {
+                uploadMultipart(part.name(), input, channel, sizer, firstChunk, failedPart, sourceEtag, part.size());
             }
+        } catch (Exception e) {
+            return uploadFailure(unwrap(e), part.name(), failedPart.get());
         }
 
         return StreamResult.success();
     }
 
+    /**
+     * Stores the archive as it is, followed by its index, which is only written once the archive is complete.
+     */
+    private StreamResult<Object> keep(ObsBundlePart bundle) {
+        var result = upload(bundle);
+        if (result.failed()) {
+            return result;
+        }
+        var indexName = bundle.name() + ObsBundlePart.INDEX_SUFFIX;
+        try {
+            var index = bundle.index().getBytes(StandardCharsets.UTF_8);
+            putObject(indexName, new ByteArrayInputStream(index), index.length, null);
+        } catch (Exception e) {
+            return uploadFailure(e, indexName, 1);
+        }
+        return StreamResult.success();
+    }
+
+    /**
+     * Writes every member of the bundle as an object of its own, up to {@code partConcurrency} at the same time. The
+     * members are read from the source one by one, the archive is only produced to store the bundle as it is.
+     */
+    private StreamResult<Object> unpack(ObsBundlePart bundle) {
+        var executor = partExecutor != null ? partExecutor : (Executor) Runnable::run;
+        var permits = new Semaphore(partConcurrency);
+        var failure = new AtomicReference<StreamResult<Object>>();
+        var puts = new ArrayList<CompletableFuture<Void>>();
+        try {
+            for (var member : bundle.members()) {
+                if (failure.get() != null) {
+                    break;
+                }
+                permits.acquire();
+                var put = CompletableFuture.runAsync(() -> {
+                    // members are small, reading them first keeps the put repeatable
+                    try (var input = member.openStream()) {
+                        var content = input.readAllBytes();
+                        putObject(member.keyName(), new ByteArrayInputStream(content), content.length, member.etag());
+                    } catch (Exception e) {
+                        failure.compareAndSet(null, uploadFailure(unwrap(e), member.keyName(), 1));
+                    } finally {
+                        permits.release();
+                    }
+                }, executor);
+                puts.add(put);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, StreamResult.error("Interrupted while unpacking " + bundle.name()));
+        }
+
+        CompletableFuture.allOf(puts.toArray(CompletableFuture[]::new)).join();
+        return failure.get() != null ? failure.get() : StreamResult.success();
+    }
+
+    /**
+     * Copies an object server-side. Returns null if the object has to be streamed instead, because the destination
+     * credentials must not read it.
+     */
+    @Nullable
+    private StreamResult<Object> copy(ObsDataSource.ObsPart part) {
+        var failedPart = new AtomicInteger(1);
+        try {
+            long size = part.size() != SIZE_UNKNOWN ? part.size() : objectSize(part);
+            // copied parts are not buffered, only the OBS limits apply
+            var sizer = new PartSizer(size, chunkSize, Integer.MAX_VALUE);
+            if (size <= sizer.sizeOf(1)) {
+                obsClient.copyObject(new CopyObjectRequest(part.bucketName(), part.keyName(), bucketName, part.name()));
+                metrics.objectCopied(size);
+            } else {
+                // the part ranges must cover the object as it is, a size from a manifest may be stale
+                var actualSize = part.size() != SIZE_UNKNOWN ? objectSize(part) : size;
+                copyMultipart(part, actualSize, new PartSizer(actualSize, chunkSize, Integer.MAX_VALUE), failedPart);
+                metrics.objectCopied(actualSize);
+            }
+        } catch (Exception e) {
+            var cause = unwrap(e);
+            if (cause instanceof ObsException obsException && obsException.getResponseCode() == 403) {
+                monitor.warning(format("Not allowed to copy %s from the %s bucket server-side, streaming it instead", part.keyName(), part.bucketName()));
+                return null;
+            }
+            return uploadFailure(cause, part.name(), failedPart.get());
+        }
+        return StreamResult.success();
+    }
+
+    private long objectSize(ObsDataSource.ObsPart part) {
+        return obsClient.getObjectMetadata(part.bucketName(), part.keyName()).getContentLength();
+    }
+
+    private void copyMultipart(ObsDataSource.ObsPart part, long size, PartSizer sizer, AtomicInteger failedPart) throws InterruptedException {
+        var initiateRequest = new InitiateMultipartUploadRequest(bucketName, part.name());
+        initiateRequest.setMetadata(sourceMetadata(part.etag()));
+        var uploadId = obsClient.initiateMultipartUpload(initiateRequest).getUploadId();
+
+        var executor = partExecutor != null ? partExecutor : (Executor) Runnable::run;
+        var permits = new Semaphore(partConcurrency);
+        var failed = new AtomicBoolean();
+        var copies = new ArrayList<CompletableFuture<PartEtag>>();
+        var offset = 0L;
+        for (var partNumber = 1; offset < size && !failed.get(); partNumber++) {
+            var currentPart = partNumber;
+            var rangeStart = offset;
+            var rangeEnd = Math.min(offset + sizer.sizeOf(partNumber), size) - 1;
+            permits.acquire();
+            var copy = CompletableFuture
+                    .supplyAsync(() -> copyPart(part, uploadId, currentPart, rangeStart, rangeEnd), executor)
+                    .whenComplete((etag, throwable) -> {
+                        permits.release();
+                        if (throwable != null && failed.compareAndSet(false, true)) {
+                            failedPart.set(currentPart);
+                        }
+                    });
+            copies.add(copy);
+            offset = rangeEnd + 1;
+        }
+
+        try {
+            CompletableFuture.allOf(copies.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            obsClient.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, part.name(), uploadId));
+            throw e;
+        }
+
+        var completedParts = copies.stream()
+                .map(CompletableFuture::join)
+                .sorted(Comparator.comparing(PartEtag::getPartNumber))
+                .collect(Collectors.toCollection(ArrayList::new));
+        obsClient.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, part.name(), uploadId, completedParts));
+    }
+
+    private PartEtag copyPart(ObsDataSource.ObsPart part, String uploadId, int partNumber, long rangeStart, long rangeEnd) {
+        var request = new CopyPartRequest();
+        request.setUploadId(uploadId);
+        request.setSourceBucketName(part.bucketName());
+        request.setSourceObjectKey(part.keyName());
+        request.setDestinationBucketName(bucketName);
+        request.setDestinationObjectKey(part.name());
+        request.setPartNumber(partNumber);
+        request.setByteRangeStart(rangeStart);
+        request.setByteRangeEnd(rangeEnd);
+
+        var result = obsClient.copyPart(request);
+        return new PartEtag(result.getEtag(), result.getPartNumber());
+    }
+
+    private boolean isSameEndpoint(@Nullable String sourceEndpoint) {
+        return sourceEndpoint != null && endpoint != null && ObsConnectionProfile.normalize(sourceEndpoint).equals(ObsConnectionProfile.normalize(endpoint));
+    }
+
+    private void putObject(String keyName, InputStream input, long length, @Nullable String sourceEtag) {
+        var metadata = Objects.requireNonNullElseGet(sourceMetadata(sourceEtag), ObjectMetadata::new);
+        metadata.setContentLength(length);
+        var request = new PutObjectRequest(bucketName, keyName, input);
+        request.setMetadata(metadata);
+
+        metrics.partStarted();
+        var start = System.nanoTime();
+        try {
+            obsClient.putObject(request);
+        } catch (RuntimeException e) {
+            metrics.partFailed();
+            throw e;
+        }
+        metrics.partUploaded(length, System.nanoTime() - start);
+    }
+
+    private void uploadMultipart(String keyName, InputStream input, ReadableByteChannel channel, PartSizer sizer, ChunkBuffer firstChunk,
+                                 AtomicInteger failedPart, @Nullable String sourceEtag, long sourceSize) throws Exception {
+        MultipartUpload multipartUpload;
+        try {
+            multipartUpload = startOrResume(keyName, sizer, sourceEtag, sourceSize);
+        } catch (Exception e) {
+            firstChunk.close();
+            throw e;
+        }
+        var uploadId = multipartUpload.uploadId();
+        try {
+            uploadParts(keyName, input, channel, sizer, firstChunk, failedPart, multipartUpload);
+        } catch (Exception e) {
+            if (checkpointStore == null) {
+                // nothing resumes the upload, the parts OBS already holds would be kept and billed until they are aborted
+                abortMultipartUpload(keyName, uploadId);
+            }
+            throw e;
+        }
+        if (checkpointStore != null) {
+            checkpointStore.delete(flowId, bucketName, keyName);
+        }
+    }
+
+    private void uploadParts(String keyName, InputStream input, ReadableByteChannel channel, PartSizer sizer, ChunkBuffer firstChunk,
+                             AtomicInteger failedPart, MultipartUpload multipartUpload) throws Exception {
+        var uploadId = multipartUpload.uploadId();
+
+        var executor = partExecutor != null ? partExecutor : (Executor) Runnable::run;
+        // parts above the max part size only fit into the memory budget with fewer of them in flight
+        var buffers = partConcurrency + readAhead;
+        if (sizer.sizeOf(1) > maxPartSize) {
+            buffers = (int) Math.max(Math.min(buffers, bufferPool.budget() / sizer.sizeOf(1)), 1);
+        }
+        // buffers are leased before reading, so that up to readAhead chunks can be filled while the parts upload
+        var bufferPermits = new Semaphore(buffers);
+        // the chunks read ahead wait in the dispatcher, not on a thread of the part executor
+        var dispatcher = new BoundedDispatcher(executor, Math.min(partConcurrency, buffers));
+        var failed = new AtomicBoolean();
+        var uploads = new ArrayList<CompletableFuture<PartEtag>>();
+        var chunk = firstChunk;
+        var partNumber = multipartUpload.completedParts().size() + 1;
+        var bytesTransferred = multipartUpload.bytesUploaded();
+        bufferPermits.acquire();
+        if (partNumber > 1) {
+            // the first chunk holds part 1, which OBS already has
+            var skipped = bytesTransferred - firstChunk.size();
+            firstChunk.close();
+            failedPart.set(partNumber);
+            input.skipNBytes(skipped);
+            chunk = nextChunk(keyName, input, channel, sizer, partNumber, bytesTransferred);
+            if (chunk == null) {
+                bufferPermits.release();
+            }
+        }
+        while (chunk != null) {
+            var currentChunk = chunk;
+            var currentPart = partNumber;
+            var offset = bytesTransferred;
+            var upload = dispatcher
+                    .submit(() -> uploadPart(keyName, uploadId, currentPart, offset, currentChunk))
+                    .whenComplete((etag, throwable) -> {
+                        currentChunk.close();
+                        bufferPermits.release();
+                        if (throwable != null && failed.compareAndSet(false, true)) {
+                            failedPart.set(currentPart);
+                        }
+                    });
+            uploads.add(upload);
+
+            bytesTransferred += currentChunk.size();
+            partNumber++;
+            if (failed.get()) {
+                break;
+            }
+            bufferPermits.acquire();
+            chunk = nextChunk(keyName, input, channel, sizer, partNumber, bytesTransferred);
+            if (chunk == null) {
+                bufferPermits.release();
+            }
+        }
+
+        CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+
+        var completedParts = Stream.concat(multipartUpload.completedParts().stream(), uploads.stream().map(CompletableFuture::join))
+                .sorted(Comparator.comparing(PartEtag::getPartNumber))
+                .collect(Collectors.toCollection(ArrayList::new));
+        obsClient.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, keyName, uploadId, completedParts));
+    }
+
+    private MultipartUpload startOrResume(String keyName, PartSizer sizer, @Nullable String sourceEtag, long sourceSize) {
+        if (checkpointStore != null) {
+            var checkpoint = checkpointStore.find(flowId, bucketName, keyName);
+            if (checkpoint != null && isSameSource(checkpoint, sourceEtag, sourceSize)) {
+                var resumed = resume(checkpoint, sizer);
+                if (resumed != null) {
+                    return resumed;
+                }
+            } else if (checkpoint != null) {
+                monitor.info(format("Source of %s changed since multipart upload %s was started, starting over", keyName, checkpoint.uploadId()));
+                abortMultipartUpload(keyName, checkpoint.uploadId());
+            }
+        }
+
+        var request = new InitiateMultipartUploadRequest(bucketName, keyName);
+        request.setMetadata(sourceMetadata(sourceEtag));
+        var uploadId = obsClient.initiateMultipartUpload(request).getUploadId();
+        if (checkpointStore != null) {
+            checkpointStore.save(new ObsUploadCheckpoint(flowId, bucketName, keyName, uploadId, sourceEtag, sourceSize, List.of()));
+        }
+        return new MultipartUpload(uploadId, List.of(), 0);
+    }
+
+    /**
+     * Whether the checkpointed upload was started for the same version of the source object, so that the parts it holds
+     * can be completed with the rest of the current object. Sources without ETag and size cannot be told apart.
+     */
+    private boolean isSameSource(ObsUploadCheckpoint checkpoint, @Nullable String sourceEtag, long sourceSize) {
+        return checkpoint.sourceSize() == sourceSize && Objects.equals(unquote(checkpoint.sourceEtag()), unquote(sourceEtag));
+    }
+
+    private void abortMultipartUpload(String keyName, String uploadId) {
+        try {
+            obsClient.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, keyName, uploadId));
+        } catch (RuntimeException e) {
+            monitor.warning(format("Could not abort multipart upload %s of %s: %s", uploadId, keyName, e.getMessage()));
+        }
+    }
+
+    /**
+     * Reconciles a checkpoint with the parts OBS actually holds. Only the leading parts that are listed by OBS, match the
+     * checkpointed ETag (if any) and have the size the sizer expects can be kept, everything after them is uploaded again.
+     */
+    @Nullable
+    private MultipartUpload resume(ObsUploadCheckpoint checkpoint, PartSizer sizer) {
+        Map<Integer, Multipart> listedParts;
+        try {
+            listedParts = listParts(checkpoint.objectKey(), checkpoint.uploadId());
+        } catch (ObsException e) {
+            if (e.getResponseCode() == 404) {
+                monitor.debug(() -> format("Multipart upload %s of %s no longer exists, starting over", checkpoint.uploadId(), checkpoint.objectKey()));
+                return null;
+            }
+            throw e;
+        }
+
+        var checkpointedEtags = checkpoint.parts().stream()
+                .collect(Collectors.toMap(ObsUploadedPart::partNumber, part -> unquote(part.etag()), (first, second) -> second));
+        var completedParts = new ArrayList<PartEtag>();
+        var bytesUploaded = 0L;
+        for (var partNumber = 1; listedParts.containsKey(partNumber); partNumber++) {
+            var listed = listedParts.get(partNumber);
+            var checkpointedEtag = checkpointedEtags.get(partNumber);
+            var sameEtag = checkpointedEtag == null || checkpointedEtag.equals(unquote(listed.getEtag()));
+            if (!sameEtag || listed.getSize() == null || listed.getSize() != sizer.sizeOf(partNumber)) {
+                break;
+            }
+            completedParts.add(new PartEtag(listed.getEtag(), partNumber));
+            bytesUploaded += listed.getSize();
+        }
+
+        monitor.info(format("Resuming multipart upload %s of %s after %s parts", checkpoint.uploadId(), checkpoint.objectKey(), completedParts.size()));
+        return new MultipartUpload(checkpoint.uploadId(), completedParts, bytesUploaded);
+    }
+
+    private Map<Integer, Multipart> listParts(String keyName, String uploadId) {
+        var parts = new HashMap<Integer, Multipart>();
+        var request = new ListPartsRequest(bucketName, keyName, uploadId);
+        ListPartsResult result;
+        do {
+            result = obsClient.listParts(request);
+            result.getMultipartList().forEach(part -> parts.put(part.getPartNumber(), part));
+            if (result.isTruncated()) {
+                request.setPartNumberMarker(Integer.valueOf(result.getNextPartNumberMarker()));
+            }
+        } while (result.isTruncated());
+        return parts;
+    }
+
+    private static String unquote(String etag) {
+        return etag == null ? null : etag.replace("\"", "");
+    }
+
+    /**
+     * Reads the chunk of the next part, or returns null at the end of the object. Nothing is read beyond a known size or
+     * past the last part, and data found there fails the upload rather than being cut off.
+     */
+    @Nullable
+    private ChunkBuffer nextChunk(String keyName, InputStream input, ReadableByteChannel channel, PartSizer sizer, int partNumber, long offset)
+            throws IOException, InterruptedException {
+        if (sizer.hasPart(partNumber, offset)) {
+            return readChunk(channel, sizer.sizeOf(partNumber));
+        }
+        if (input.read() != -1) {
+            throw new IOException(format("Source of %s has more data than the %s bytes in %s parts it was sized for", keyName, offset, partNumber - 1));
+        }
+        return null;
+    }
+
+    @Nullable
+    private ChunkBuffer readChunk(ReadableByteChannel channel, int size) throws IOException, InterruptedException {
+        var chunk = bufferPool.acquire(size);
+        try {
+            if (chunk.readFrom(channel) > 0) {
+                return chunk;
+            }
+        } catch (IOException e) {
+            chunk.close();
+            throw e;
+        }
+        chunk.close();
+        return null;
+    }
+
+    private PartEtag uploadPart(String keyName, String uploadId, int partNumber, long offset, ChunkBuffer chunk) {
+        var uploadRequest = new UploadPartRequest(bucketName, keyName);
+        uploadRequest.setUploadId(uploadId);
+        uploadRequest.setPartNumber(partNumber);
+        uploadRequest.setPartSize((long) chunk.size());
+        uploadRequest.setOffset(offset);
+        uploadRequest.setInput(chunk.inputStream());
+
+        metrics.partStarted();
+        var start = System.nanoTime();
+        UploadPartResult uploadResult;
+        try {
+            uploadResult = obsClient.uploadPart(uploadRequest);
+        } catch (RuntimeException e) {
+            metrics.partFailed();
+            throw e;
+        }
+        metrics.partUploaded(chunk.size(), System.nanoTime() - start);
+
+        if (checkpointStore != null) {
+            checkpoint(keyName, new ObsUploadedPart(partNumber, uploadResult.getEtag(), chunk.size()));
+        }
+        return new PartEtag(uploadResult.getEtag(), uploadResult.getPartNumber());
+    }
+
+    private void checkpoint(String keyName, ObsUploadedPart part) {
+        try {
+            checkpointStore.savePart(flowId, bucketName, keyName, part);
+        } catch (Exception e) {
+            // OBS is the source of truth when resuming, a missing checkpoint entry only means the part is not cross-checked
+            monitor.warning(format("Could not checkpoint part %s of %s: %s", part.partNumber(), keyName, e.getMessage()));
+        }
+    }
+
+    private Exception unwrap(Exception e) {
+        if (e instanceof CompletionException && e.getCause() instanceof Exception cause) {
+            return cause;
+        }
+        return e;
+    }
+
     @NotNull
     private StreamResult<Object> uploadFailure(Exception e, String keyName, int partNumber) {
         String msg = e instanceof ObsException ?
                 ((ObsException) e).getErrorMessage() :
                 e.getMessage();
         var message = format("Error writing part %s of the %s object on the %s bucket: %s.", partNumber, keyName, bucketName, msg);
+        metrics.objectFailed(bucketName);
         monitor.severe(message, e);
         return StreamResult.error(message);
     }
 
+    private record MultipartUpload(String uploadId, List<PartEtag> completedParts, long bytesUploaded) {
+    }
+
     public static class Builder extends ParallelSink.Builder<Builder, ObsDataSink> {
 
         private Builder() {
@@ -103,7 +826,16 @@ public class ObsDataSink extends ParallelSink {
             return new Builder();
         }
 
-        public Builder client(ObsClient client) {
+        /**
+         * Accepted for compatibility with other parallel sinks, but ignored: the parts of the source are streamed and
+         * transferred {@link #objectConcurrency(int)} at a time instead of being split into partitions.
+         */
+        @Override
+        public Builder partitionSize(int partitionSize) {
+            return super.partitionSize(partitionSize);
+        }
+
+        public Builder client(IObsClient client) {
             sink.obsClient = client;
             return this;
         }
@@ -113,15 +845,220 @@ public class ObsDataSink extends ParallelSink {
             return this;
         }
 
+        /**
+         * The preferred part size. Larger parts are used for objects that would not fit into the maximum number of parts.
+         */
         public Builder chunkSizeBytes(int chunkSize) {
             sink.chunkSize = chunkSize;
             return this;
         }
 
+        /**
+         * Upper bound for the part size, defaults to the largest buffer the pool can hand out.
+         */
+        public Builder maxPartSizeBytes(int maxPartSize) {
+            sink.maxPartSize = maxPartSize;
+            return this;
+        }
+
+        /**
+         * Objects whose size is known and not larger than this are streamed with a single put request.
+         */
+        public Builder singlePutThresholdBytes(long singlePutThreshold) {
+            sink.singlePutThreshold = singlePutThreshold;
+            return this;
+        }
+
+        /**
+         * Maximum number of parts of a single object that are uploaded concurrently.
+         */
+        public Builder partConcurrency(int partConcurrency) {
+            sink.partConcurrency = partConcurrency;
+            return this;
+        }
+
+        /**
+         * Number of chunks that are read ahead of the part uploads. Requires a part executor when greater than zero.
+         */
+        public Builder readAhead(int readAhead) {
+            sink.readAhead = readAhead;
+            return this;
+        }
+
+        /**
+         * Executor on which part uploads are run when {@link #partConcurrency(int)} or {@link #readAhead(int)} is
+         * greater than the default.
+         * Must not be the executor the sink itself runs on, as the sink blocks until all parts of an object completed.
+         */
+        public Builder partExecutor(Executor partExecutor) {
+            sink.partExecutor = partExecutor;
+            return this;
+        }
+
+        /**
+         * Pool from which chunk buffers are leased. If none is set, the sink uses a private heap pool that is just big
+         * enough for its own concurrent parts.
+         */
+        public Builder bufferPool(ChunkBufferPool bufferPool) {
+            sink.bufferPool = bufferPool;
+            return this;
+        }
+
+        /**
+         * The endpoint of the destination bucket, objects from sources on the same endpoint can be copied server-side.
+         */
+        public Builder endpoint(String endpoint) {
+            sink.endpoint = endpoint;
+            return this;
+        }
+
+        /**
+         * Whether objects of OBS sources on the same endpoint are copied by OBS instead of being streamed.
+         */
+        public Builder serverSideCopy(boolean serverSideCopy) {
+            sink.serverSideCopy = serverSideCopy;
+            return this;
+        }
+
+        /**
+         * Maximum number of objects of the flow that are transferred concurrently.
+         */
+        public Builder objectConcurrency(int objectConcurrency) {
+            sink.objectConcurrency = objectConcurrency;
+            return this;
+        }
+
+        /**
+         * Executor on which objects are transferred when {@link #objectConcurrency(int)} is greater than one. Must be
+         * neither the sink executor nor the part executor, as object transfers block on their parts.
+         */
+        public Builder objectExecutor(Executor objectExecutor) {
+            sink.objectExecutor = objectExecutor;
+            return this;
+        }
+
+        /**
+         * Semaphore shared by all sinks that caps the number of objects transferred at the same time. It should be fair,
+         * so that permits are handed out to the flows in the order they asked for them.
+         */
+        public Builder globalObjectPermits(Semaphore globalObjectPermits) {
+            sink.globalObjectPermits = globalObjectPermits;
+            return this;
+        }
+
+        /**
+         * Counters of the flow. If none are set, the sink records into counters of its own.
+         */
+        public Builder metrics(FlowTransferMetrics metrics) {
+            sink.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Id of the data flow, used to look up checkpoints of interrupted uploads.
+         */
+        public Builder flowId(String flowId) {
+            sink.flowId = flowId;
+            return this;
+        }
+
+        /**
+         * Store in which multipart uploads are checkpointed. Uploads are not resumable if none is set.
+         */
+        public Builder checkpointStore(ObsUploadCheckpointStore checkpointStore) {
+            sink.checkpointStore = checkpointStore;
+            return this;
+        }
+
+        /**
+         * Whether objects the destination already holds are skipped.
+         */
+        public Builder incremental(boolean incremental) {
+            sink.incremental = incremental;
+            return this;
+        }
+
+        /**
+         * Id of the transferred asset, under which the watermark of incremental transfers is stored.
+         */
+        public Builder assetId(String assetId) {
+            sink.assetId = assetId;
+            return this;
+        }
+
+        /**
+         * Store of the watermarks of incremental transfers. Without one, every object is compared with the destination.
+         */
+        public Builder watermarkStore(ObsTransferWatermarkStore watermarkStore) {
+            sink.watermarkStore = watermarkStore;
+            return this;
+        }
+
+        /**
+         * Clock the watermark of incremental transfers is taken from.
+         */
+        public Builder clock(Clock clock) {
+            sink.clock = clock;
+            return this;
+        }
+
+        /**
+         * Whether archives of coalesced objects are stored as they are, with an index, instead of being unpacked.
+         */
+        public Builder keepBundles(boolean keepBundles) {
+            sink.keepBundles = keepBundles;
+            return this;
+        }
+
+        /**
+         * Whether the client is closed when the transfer ends, which returns a client leased from the
+         * {@link com.huawei.cloud.obs.ObsClientProvider} to its pool.
+         */
+        public Builder closeClient(boolean closeClient) {
+            sink.closeClient = closeClient;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.bucketName, "Must have a bucket name");
             Objects.requireNonNull(sink.obsClient, "Must have an obsClient");
+            if (sink.partConcurrency < 1) {
+                throw new IllegalArgumentException("Part concurrency must be at least 1");
+            }
+            if (sink.readAhead < 0) {
+                throw new IllegalArgumentException("Read ahead must not be negative");
+            }
+            if (sink.partConcurrency > 1 || sink.readAhead > 0) {
+                Objects.requireNonNull(sink.partExecutor, "Must have a part executor when uploading parts concurrently or reading ahead");
+            }
+            if (sink.objectConcurrency < 1) {
+                throw new IllegalArgumentException("Object concurrency must be at least 1");
+            }
+            if (sink.objectConcurrency > 1) {
+                Objects.requireNonNull(sink.objectExecutor, "Must have an object executor when transferring objects concurrently");
+            }
+            if (sink.globalObjectPermits == null) {
+                sink.globalObjectPermits = new Semaphore(sink.objectConcurrency, true);
+            }
+            if (sink.metrics == null) {
+                sink.metrics = new ObsTransferMetrics().forFlow(String.valueOf(sink.flowId));
+            }
+            if (sink.checkpointStore != null) {
+                Objects.requireNonNull(sink.flowId, "Must have a flow id when checkpointing uploads");
+            }
+            if (sink.chunkSize < 1) {
+                throw new IllegalArgumentException("Chunk size must be positive");
+            }
+            if (sink.bufferPool == null) {
+                sink.bufferPool = ChunkBufferPool.forChunks(sink.chunkSize, sink.partConcurrency + sink.readAhead, false);
+            }
+            if (sink.maxPartSize == 0) {
+                sink.maxPartSize = Math.max(sink.bufferPool.maxBufferSize(), sink.chunkSize);
+            }
+            if (sink.chunkSize > sink.maxPartSize || sink.maxPartSize > sink.bufferPool.maxBufferSize()) {
+                throw new IllegalArgumentException("Chunk size must not exceed the max part size, which must not exceed the maximum buffer size of the pool");
+            }
         }
     }
 }
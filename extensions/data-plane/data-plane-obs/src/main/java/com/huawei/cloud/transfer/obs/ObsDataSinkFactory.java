@@ -16,6 +16,12 @@ package com.huawei.cloud.transfer.obs;
 
 import com.huawei.cloud.obs.ObsBucketSchema;
 import com.huawei.cloud.obs.ObsClientProvider;
+import com.huawei.cloud.obs.ObsSecretTokenCache;
+import com.huawei.cloud.transfer.obs.buffer.ChunkBufferPool;
+import com.huawei.cloud.transfer.obs.checkpoint.ObsUploadCheckpointStore;
+import com.huawei.cloud.transfer.obs.credentials.ObsCredentialsRefresher;
+import com.huawei.cloud.transfer.obs.incremental.ObsTransferWatermarkStore;
+import com.huawei.cloud.transfer.obs.metrics.ObsTransferMetrics;
 import com.huawei.cloud.transfer.obs.validation.ObsDataAddressValidator;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
@@ -28,20 +34,49 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.validator.spi.Validator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 
 public class ObsDataSinkFactory extends ObsFactory implements DataSinkFactory {
 
-    private static final int CHUNK_SIZE_BYTES = 1024 * 1024 * 500; //transfer 500mb at a time
+    private static final int MB = 1024 * 1024;
     private final Validator<DataAddress> validation = new ObsDataAddressValidator();
     private final Monitor monitor;
     private final ExecutorService executorService;
+    private final ExecutorService partExecutor;
+    private final ExecutorService objectExecutor;
+    private final Semaphore globalObjectPermits;
+    private final ObsTransferConfiguration configuration;
+    private final ChunkBufferPool bufferPool;
+    private final ObsUploadCheckpointStore checkpointStore;
+    private final ObsTransferMetrics metrics;
+    private final ObsTransferWatermarkStore watermarkStore;
+    private final int chunkSize;
+    private final int maxPartSize;
 
-    public ObsDataSinkFactory(Vault vault, TypeManager typeManager, Monitor monitor, ExecutorService executorService, ObsClientProvider clientProvider) {
-        super(vault, typeManager, clientProvider);
+    public ObsDataSinkFactory(Vault vault, TypeManager typeManager, Monitor monitor, ExecutorService executorService, ExecutorService partExecutor,
+                              ExecutorService objectExecutor, ObsClientProvider clientProvider, ObsSecretTokenCache secretTokenCache,
+                              @Nullable ObsCredentialsRefresher credentialsRefresher, ObsTransferConfiguration configuration, ChunkBufferPool bufferPool,
+                              @Nullable ObsUploadCheckpointStore checkpointStore, ObsTransferMetrics metrics, ObsTransferWatermarkStore watermarkStore) {
+        super(vault, typeManager, clientProvider, secretTokenCache, credentialsRefresher);
         this.monitor = monitor;
         this.executorService = executorService;
+        this.partExecutor = partExecutor;
+        this.objectExecutor = objectExecutor;
+        this.globalObjectPermits = new Semaphore(configuration.globalObjectConcurrency(), true);
+        this.configuration = configuration;
+        this.bufferPool = bufferPool;
+        this.checkpointStore = checkpointStore;
+        this.metrics = metrics;
+        this.watermarkStore = watermarkStore;
+        // the buffers of one object in flight at the same time must fit into the memory budget, larger objects get larger
+        // parts with fewer of them in flight from the sink, up to the largest buffer of the pool
+        var buffersPerObject = configuration.partConcurrency() + configuration.readAhead();
+        var budgetPerPart = Math.max(bufferPool.budget() / buffersPerObject, ChunkBufferPool.MIN_BUFFER_SIZE);
+        this.maxPartSize = (int) Math.min(Long.highestOneBit(budgetPerPart), bufferPool.maxBufferSize());
+        this.chunkSize = (int) Math.min((long) configuration.chunkSizeMb() * MB, maxPartSize);
     }
 
 
@@ -59,14 +94,33 @@ public class ObsDataSinkFactory extends ObsFactory implements DataSinkFactory {
 
         var destination = request.getDestinationDataAddress();
 
-        var obsClient = createObsClient(destination);
+        var obsClient = createObsClient(destination, true);
         return ObsDataSink.Builder.newInstance()
                 .bucketName(destination.getStringProperty(ObsBucketSchema.BUCKET_NAME))
                 .monitor(monitor)
                 .executorService(executorService)
                 .requestId(request.getId())
                 .client(obsClient)
-                .chunkSizeBytes(CHUNK_SIZE_BYTES)
+                .chunkSizeBytes(chunkSize)
+                .maxPartSizeBytes(maxPartSize)
+                .singlePutThresholdBytes((long) configuration.singlePutThresholdMb() * MB)
+                .bufferPool(bufferPool)
+                .partConcurrency(configuration.partConcurrency())
+                .readAhead(configuration.readAhead())
+                .partExecutor(partExecutor)
+                .objectConcurrency(configuration.objectConcurrency())
+                .objectExecutor(objectExecutor)
+                .globalObjectPermits(globalObjectPermits)
+                .endpoint(destination.getStringProperty(ObsBucketSchema.ENDPOINT))
+                .serverSideCopy(configuration.serverSideCopy())
+                .flowId(request.getProcessId())
+                .checkpointStore(checkpointStore)
+                .metrics(metrics.forFlow(request.getProcessId()))
+                .incremental(Boolean.parseBoolean(destination.getStringProperty(ObsBucketSchema.INCREMENTAL, "false")))
+                .assetId(request.getAssetId())
+                .watermarkStore(watermarkStore)
+                .closeClient(true)
+                .keepBundles(Boolean.parseBoolean(destination.getStringProperty(ObsBucketSchema.KEEP_BUNDLES, "false")))
                 .build();
     }
 
@@ -15,20 +15,29 @@
 package com.huawei.cloud.transfer.obs;
 
 
-import com.obs.services.ObsClient;
-import com.obs.services.model.GetObjectRequest;
-import com.obs.services.model.ListObjectsRequest;
-import com.obs.services.model.ObjectListing;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.huawei.cloud.transfer.obs.bundle.ObsBundlePart;
+import com.huawei.cloud.transfer.obs.bundle.ObsPartBundler;
+import com.huawei.cloud.transfer.obs.download.ObsDownloadOptions;
+import com.huawei.cloud.transfer.obs.download.RangedObjectInputStream;
+import com.huawei.cloud.transfer.obs.download.ResumableObjectInputStream;
+import com.obs.services.IObsClient;
 import com.obs.services.model.ObsObject;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.EdcException;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.InputStream;
-import java.util.ArrayList;
+import java.time.Instant;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.failure;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
@@ -41,44 +50,81 @@ import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.succ
  * and creating {@code ObsPart} instances for each object. It also provides a way to close the
  * connection to the OBS.
  * <p>
+ * The listing is paged lazily: only the first page is fetched when the stream is opened, the following pages are
+ * fetched as the parts are consumed, optionally one page ahead on the prefetch executor. With a listing fan-out above
+ * one, the prefix is listed as concurrently listed sub-prefixes instead, see {@link ObsShardedLister}. With a manifest
+ * key, the bucket is not listed at all: the parts are the objects named in the manifest, see {@link ObsManifestReader}.
+ * An optional filter selects the objects by the metadata of the listing before any part is created. With a coalescing
+ * threshold, consecutive objects below it are packed into tar archives, see {@link ObsBundlePart}.
+ * <p>
+ * Large objects can be read as concurrently fetched byte ranges, and reads are resumed after retriable errors, see
+ * {@link ObsDownloadOptions}.
+ * <p>
  * Note: The usage example assumes that there is a configured ObsClient, a valid bucketName,
  * and a optional prefix for the OBS objects.
  */
 public class ObsDataSource implements DataSource {
-    private ObsClient client;
+    private IObsClient client;
     private String bucketName;
     private String keyPrefix;
+    private String endpoint;
+    private Executor prefetchExecutor;
+    private int listingFanOut = 1;
+    private Executor listingExecutor;
+    private String manifestKey;
+    private ObjectMapper objectMapper;
+    private Predicate<ObsObject> filter;
+    private ObsDownloadOptions downloadOptions = ObsDownloadOptions.singleRequest();
+    private long coalesceThreshold;
+    private long bundleSize;
+    private int bundlePrefetch = 1;
 
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
 
-        var obsObjects = listObjectsWithPrefix(bucketName, keyPrefix);
+        var objects = openObjects();
+
+        try {
+            if (!objects.hasNext()) {
+                objects.close();
+                return failure(new StreamFailure(List.of("Error listing OBS Objects: Object not found"), StreamFailure.Reason.NOT_FOUND));
+            }
+        } catch (EdcException e) {
+            objects.close();
+            return failure(new StreamFailure(List.of(e.getMessage()), StreamFailure.Reason.GENERAL_ERROR));
+        }
 
-        if (obsObjects.isEmpty()) {
-            return failure(new StreamFailure(List.of("Error listing OBS Objects: Object not found"), StreamFailure.Reason.NOT_FOUND));
+        var parts = StreamSupport.stream(Spliterators.spliteratorUnknownSize(objects, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .map(this::toPart);
+        if (coalesceThreshold > 0) {
+            var bundler = new ObsPartBundler(parts.iterator(), coalesceThreshold, bundleSize, downloadOptions.executor(), bundlePrefetch);
+            parts = StreamSupport.stream(Spliterators.spliteratorUnknownSize(bundler, Spliterator.ORDERED | Spliterator.NONNULL), false);
         }
+        return success(parts.onClose(objects::close));
 
-        var parts = obsObjects.stream()
-                .map(ObsObject::getObjectKey)
-                .map(key -> (Part) new ObsPart(client, key, bucketName));
-        return success(parts);
+    }
 
+    private ObsObjectIterator openObjects() {
+        var objects = listObjects();
+        return filter != null ? new FilteredObsObjectIterator(objects, filter) : objects;
     }
 
-    private List<ObsObject> listObjectsWithPrefix(String bucketName, @Nullable String prefix) {
-        List<ObsObject> objects = new ArrayList<>();
-        var rq = new ListObjectsRequest(bucketName);
-        if (prefix != null) {
-            rq.setPrefix(prefix);
+    private ObsObjectIterator listObjects() {
+        if (manifestKey != null) {
+            var manifest = new ResumableObjectInputStream(client, bucketName, manifestKey, 0, -1, null, downloadOptions.retryPolicy());
+            return new ObsManifestReader(manifest, objectMapper, manifestKey);
         }
-        ObjectListing result;
-        do {
-            result = client.listObjects(rq);
-            objects.addAll(result.getObjects());
-            rq.setMarker(result.getNextMarker());
-        } while (result.isTruncated());
+        return listingFanOut > 1
+                ? new ObsShardedLister(client, bucketName, keyPrefix, listingFanOut, listingExecutor)
+                : new ObsObjectPager(client, bucketName, keyPrefix, prefetchExecutor);
+    }
 
-        return objects;
+    private Part toPart(ObsObject obsObject) {
+        var metadata = obsObject.getMetadata();
+        var size = metadata != null && metadata.getContentLength() != null ? metadata.getContentLength() : Part.SIZE_UNKNOWN;
+        var etag = metadata != null ? metadata.getEtag() : null;
+        var lastModified = metadata != null && metadata.getLastModified() != null ? metadata.getLastModified().toInstant() : null;
+        return new ObsPart(client, obsObject.getObjectKey(), bucketName, endpoint, size, etag, lastModified, downloadOptions);
     }
 
     @Override
@@ -86,7 +132,13 @@ public class ObsDataSource implements DataSource {
         client.close();
     }
 
-    public record ObsPart(ObsClient client, String keyName, String bucketName) implements Part {
+    /**
+     * An object in an OBS bucket. The endpoint allows sinks on the same OBS endpoint to copy the object server-side,
+     * size, ETag and modification time are taken from the listing, so that sinks need no extra request to learn them.
+     * A size from a manifest may be stale, reading the object fails if its actual size differs.
+     */
+    public record ObsPart(IObsClient client, String keyName, String bucketName, String endpoint, long size, @Nullable String etag,
+                          @Nullable Instant lastModified, ObsDownloadOptions downloadOptions) implements Part {
 
         @Override
         public String name() {
@@ -95,13 +147,18 @@ public class ObsDataSource implements DataSource {
 
         @Override
         public long size() {
-            return Part.super.size();
+            return size;
         }
 
         @Override
         public InputStream openStream() {
-            var request = new GetObjectRequest(bucketName, keyName);
-            return client.getObject(request).getObjectContent();
+            if (downloadOptions.isRanged(size)) {
+                return new RangedObjectInputStream(client, bucketName, keyName, size, etag, downloadOptions);
+            }
+            if (size == SIZE_UNKNOWN) {
+                return new ResumableObjectInputStream(client, bucketName, keyName, 0, -1, etag, downloadOptions.retryPolicy());
+            }
+            return new ResumableObjectInputStream(client, bucketName, keyName, size, etag, downloadOptions.retryPolicy());
         }
     }
 
@@ -126,11 +183,68 @@ public class ObsDataSource implements DataSource {
             return this;
         }
 
-        public Builder client(ObsClient client) {
+        public Builder client(IObsClient client) {
             source.client = client;
             return this;
         }
 
+        public Builder endpoint(String endpoint) {
+            source.endpoint = endpoint;
+            return this;
+        }
+
+        /**
+         * Executor on which the next page of the listing is fetched ahead. Pages are fetched on demand if none is set.
+         */
+        public Builder prefetchExecutor(Executor prefetchExecutor) {
+            source.prefetchExecutor = prefetchExecutor;
+            return this;
+        }
+
+        public Builder listingFanOut(int listingFanOut, Executor listingExecutor) {
+            source.listingFanOut = listingFanOut;
+            source.listingExecutor = listingExecutor;
+            return this;
+        }
+
+        /**
+         * Key of a manifest object in the bucket that names the objects to transfer, instead of listing the key prefix.
+         */
+        public Builder manifestKey(String manifestKey) {
+            source.manifestKey = manifestKey;
+            return this;
+        }
+
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            source.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * Selects the objects to transfer by the metadata of the listing. All objects are transferred if none is set.
+         */
+        public Builder filter(Predicate<ObsObject> filter) {
+            source.filter = filter;
+            return this;
+        }
+
+        /**
+         * Packs objects smaller than the threshold into tar archives of about the bundle size, with up to
+         * {@code prefetch} objects of an archive fetched concurrently. Only sinks that understand {@link ObsBundlePart}s
+         * should receive them. A threshold of zero, the default, transfers every object on its own.
+         */
+        public Builder coalescing(long threshold, long bundleSize, int prefetch) {
+            source.coalesceThreshold = threshold;
+            source.bundleSize = bundleSize;
+            source.bundlePrefetch = prefetch;
+            return this;
+        }
+
+        public Builder downloadOptions(ObsDownloadOptions downloadOptions) {
+            source.downloadOptions = downloadOptions;
+            return this;
+        }
+
         public ObsDataSource build() {
             return source;
         }
@@ -16,6 +16,10 @@ package com.huawei.cloud.transfer.obs;
 
 import com.huawei.cloud.obs.ObsBucketSchema;
 import com.huawei.cloud.obs.ObsClientProvider;
+import com.huawei.cloud.obs.ObsSecretTokenCache;
+import com.huawei.cloud.transfer.obs.credentials.ObsCredentialsRefresher;
+import com.huawei.cloud.transfer.obs.download.ObsDownloadOptions;
+import com.huawei.cloud.transfer.obs.download.ObsRetryPolicy;
 import com.huawei.cloud.transfer.obs.validation.ObsDataAddressValidator;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
@@ -27,16 +31,36 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.validator.spi.Validator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.concurrent.ExecutorService;
 
 import static com.huawei.cloud.obs.ObsBucketSchema.BUCKET_NAME;
+import static com.huawei.cloud.obs.ObsBucketSchema.ENDPOINT;
 import static com.huawei.cloud.obs.ObsBucketSchema.KEY_PREFIX;
+import static com.huawei.cloud.obs.ObsBucketSchema.MANIFEST_KEY;
 
 public class ObsDataSourceFactory extends ObsFactory implements DataSourceFactory {
 
+    private static final int MB = 1024 * 1024;
     private final Validator<DataAddress> validation = new ObsDataAddressValidator();
+    private final ObsSourceConfiguration configuration;
+    private final ExecutorService listingExecutor;
+    private final ObsDownloadOptions downloadOptions;
+    private final TypeManager typeManager;
+    private final Clock clock = Clock.systemUTC();
 
-    public ObsDataSourceFactory(Vault vault, TypeManager typeManager, ObsClientProvider clientProvider) {
-        super(vault, typeManager, clientProvider);
+    public ObsDataSourceFactory(Vault vault, TypeManager typeManager, ObsClientProvider clientProvider, ObsSecretTokenCache secretTokenCache,
+                                @Nullable ObsCredentialsRefresher credentialsRefresher, ObsSourceConfiguration configuration, ExecutorService listingExecutor,
+                                ExecutorService downloadExecutor) {
+        super(vault, typeManager, clientProvider, secretTokenCache, credentialsRefresher);
+        this.configuration = configuration;
+        this.listingExecutor = listingExecutor;
+        this.typeManager = typeManager;
+        this.downloadOptions = new ObsDownloadOptions(downloadExecutor, (long) configuration.rangeThresholdMb() * MB,
+                configuration.rangeSizeMb() * MB, configuration.rangeConcurrency(),
+                new ObsRetryPolicy(configuration.retryMax(), configuration.retryBackoffMillis()));
     }
 
     @Override
@@ -52,20 +76,47 @@ public class ObsDataSourceFactory extends ObsFactory implements DataSourceFactor
         }
 
         var source = request.getSourceDataAddress();
+        var filterResult = ObsObjectFilter.from(source, clock);
+        if (filterResult.failed()) {
+            throw new EdcException(filterResult.getFailureDetail());
+        }
+        var filter = filterResult.getContent();
 
         return ObsDataSource.Builder.newInstance()
                 .bucketName(source.getStringProperty(BUCKET_NAME))
                 .client(createObsClient(source))
                 .keyPrefix(source.getStringProperty(KEY_PREFIX, null))
+                .manifestKey(source.getStringProperty(MANIFEST_KEY, null))
+                .objectMapper(typeManager.getMapper())
+                .filter(filter.isEmpty() ? null : filter)
+                .endpoint(source.getStringProperty(ENDPOINT))
+                .prefetchExecutor(configuration.listingPrefetch() ? listingExecutor : null)
+                .listingFanOut(configuration.listingFanOut(), listingExecutor)
+                .downloadOptions(downloadOptions)
+                .coalescing(isObsDestination(request) ? (long) configuration.coalesceThresholdKb() * 1024 : 0,
+                        (long) configuration.coalesceBundleSizeMb() * MB, configuration.coalesceConcurrency())
                 .build();
     }
 
+    /**
+     * Bundles of coalesced objects are only understood by the OBS sink.
+     */
+    private boolean isObsDestination(DataFlowStartMessage request) {
+        var destination = request.getDestinationDataAddress();
+        return destination != null && ObsBucketSchema.TYPE.equals(destination.getType());
+    }
+
 
     @Override
     public @NotNull Result<Void> validateRequest(DataFlowStartMessage request) {
         var source = request.getSourceDataAddress();
 
-        return validation.validate(source).toResult();
+        var result = validation.validate(source).toResult();
+        if (result.failed()) {
+            return result;
+        }
+        var filter = ObsObjectFilter.from(source, clock);
+        return filter.failed() ? Result.failure(filter.getFailureMessages()) : Result.success();
     }
 
 }
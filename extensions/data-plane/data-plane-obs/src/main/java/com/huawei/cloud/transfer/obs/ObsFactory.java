@@ -16,15 +16,18 @@ package com.huawei.cloud.transfer.obs;
 
 import com.huawei.cloud.obs.ObsClientProvider;
 import com.huawei.cloud.obs.ObsSecretToken;
+import com.huawei.cloud.obs.ObsSecretTokenCache;
+import com.huawei.cloud.transfer.obs.credentials.ObsCredentialsRefresher;
 import com.huawei.cloud.transfer.obs.validation.ObsDataAddressCredentialsValidator;
 import com.obs.services.BasicObsCredentialsProvider;
 import com.obs.services.EnvironmentVariableObsCredentialsProvider;
+import com.obs.services.IObsClient;
 import com.obs.services.IObsCredentialsProvider;
-import com.obs.services.ObsClient;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.validator.spi.Validator;
+import org.jetbrains.annotations.Nullable;
 
 import static com.huawei.cloud.obs.ObsBucketSchema.ACCESS_KEY_ID;
 import static com.huawei.cloud.obs.ObsBucketSchema.ENDPOINT;
@@ -35,21 +38,34 @@ public abstract class ObsFactory {
     private final Vault vault;
     private final TypeManager typeManager;
     private final ObsClientProvider clientProvider;
+    private final ObsSecretTokenCache secretTokenCache;
+    private final ObsCredentialsRefresher credentialsRefresher;
 
-    protected ObsFactory(Vault vault, TypeManager typeManager, ObsClientProvider clientProvider) {
+    protected ObsFactory(Vault vault, TypeManager typeManager, ObsClientProvider clientProvider, ObsSecretTokenCache secretTokenCache,
+                         @Nullable ObsCredentialsRefresher credentialsRefresher) {
         this.vault = vault;
         this.typeManager = typeManager;
         this.clientProvider = clientProvider;
+        this.secretTokenCache = secretTokenCache;
+        this.credentialsRefresher = credentialsRefresher;
     }
 
-    protected ObsClient createObsClient(DataAddress dataAddress) {
+    protected IObsClient createObsClient(DataAddress dataAddress) {
+        return createObsClient(dataAddress, false);
+    }
+
+    /**
+     * Creates the client for a data address. Temporary credentials from the vault are renewed while the client is
+     * used, for destinations also by issuing new ones.
+     */
+    protected IObsClient createObsClient(DataAddress dataAddress, boolean destination) {
         var endpoint = dataAddress.getStringProperty(ENDPOINT);
-        var secret = vault.resolveSecret(dataAddress.getKeyName());
+        var token = dataAddress.getKeyName() != null ? secretTokenCache.get(dataAddress.getKeyName(), this::resolveToken) : null;
         IObsCredentialsProvider provider;
 
-        if (secret != null) { // AK/SK was stored in vault ->interpret secret as JSON
-            var token = typeManager.readValue(secret, ObsSecretToken.class);
-            provider = new BasicObsCredentialsProvider(token.ak(), token.sk(), token.securityToken());
+        if (token != null) { // AK/SK was stored in vault ->interpret secret as JSON
+            provider = credentialsRefresher != null ? credentialsRefresher.credentialsProvider(dataAddress, token, destination) :
+                    new BasicObsCredentialsProvider(token.ak(), token.sk(), token.securityToken());
         } else if (credentials.validate(dataAddress).succeeded()) { //AK and SK are stored directly on data address
             var ak = dataAddress.getStringProperty(ACCESS_KEY_ID);
             var sk = dataAddress.getStringProperty(SECRET_ACCESS_KEY);
@@ -60,4 +76,9 @@ public abstract class ObsFactory {
 
         return clientProvider.obsClient(endpoint, provider);
     }
+
+    private ObsSecretToken resolveToken(String keyName) {
+        var secret = vault.resolveSecret(keyName);
+        return secret != null ? typeManager.readValue(secret, ObsSecretToken.class) : null;
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.obs.services.model.ObjectMetadata;
+import com.obs.services.model.ObsObject;
+import org.eclipse.edc.spi.EdcException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+import static java.lang.String.format;
+
+/**
+ * Iterates over the objects named in a manifest, so that a source can be transferred without listing the bucket.
+ * The manifest is read line by line as the objects are consumed. Every line names one object key, either as plain
+ * text, optionally followed by a tab and the size of the object, or as a JSON object with a {@code key} and optional
+ * {@code size} and {@code etag} fields. Blank lines are ignored.
+ * <p>
+ * Sizes are taken as they are, without a request per object: they only size the reads of the objects, which fail if
+ * an object was rewritten to another size since the manifest was written.
+ */
+class ObsManifestReader implements ObsObjectIterator {
+
+    private final BufferedReader reader;
+    private final ObjectMapper mapper;
+    private final String manifestKey;
+    private ObsObject next;
+    private int lineNumber;
+    private boolean finished;
+
+    ObsManifestReader(InputStream manifest, ObjectMapper mapper, String manifestKey) {
+        this.reader = new BufferedReader(new InputStreamReader(manifest, StandardCharsets.UTF_8));
+        this.mapper = mapper;
+        this.manifestKey = manifestKey;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && !finished) {
+            var line = readLine();
+            if (line == null) {
+                close();
+            } else if (!line.isBlank()) {
+                next = parse(line.strip());
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public ObsObject next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        var object = next;
+        next = null;
+        return object;
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        try {
+            reader.close();
+        } catch (IOException ignored) {
+            // nothing is read anymore
+        }
+    }
+
+    private String readLine() {
+        try {
+            lineNumber++;
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new EdcException(format("Error reading the manifest %s: %s", manifestKey, e.getMessage()), e);
+        }
+    }
+
+    private ObsObject parse(String line) {
+        try {
+            if (line.startsWith("{")) {
+                var entry = mapper.readTree(line);
+                var key = entry.path("key").asText(null);
+                if (key == null || key.isBlank()) {
+                    throw invalidLine("missing key");
+                }
+                return obsObject(key, entry.hasNonNull("size") ? entry.get("size").asLong() : null, entry.path("etag").asText(null));
+            }
+            var separator = line.lastIndexOf('\t');
+            if (separator < 0) {
+                return obsObject(line, null, null);
+            }
+            return obsObject(line.substring(0, separator), Long.parseLong(line.substring(separator + 1).strip()), null);
+        } catch (JsonProcessingException | NumberFormatException e) {
+            throw invalidLine(e.getMessage());
+        }
+    }
+
+    private ObsObject obsObject(String key, Long size, String etag) {
+        var metadata = new ObjectMetadata();
+        metadata.setContentLength(size);
+        metadata.setEtag(etag);
+        var obsObject = new ObsObject();
+        obsObject.setObjectKey(key);
+        obsObject.setMetadata(metadata);
+        return obsObject;
+    }
+
+    private EdcException invalidLine(String reason) {
+        return new EdcException(format("Invalid line %s of the manifest %s: %s", lineNumber, manifestKey, reason));
+    }
+}
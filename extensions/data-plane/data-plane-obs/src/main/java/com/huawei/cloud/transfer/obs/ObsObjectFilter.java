@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs;
+
+import com.obs.services.model.ObsObject;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static com.huawei.cloud.obs.ObsBucketSchema.KEY_PATTERN;
+import static com.huawei.cloud.obs.ObsBucketSchema.MAX_SIZE;
+import static com.huawei.cloud.obs.ObsBucketSchema.MIN_SIZE;
+import static com.huawei.cloud.obs.ObsBucketSchema.MODIFIED_AFTER;
+import static com.huawei.cloud.obs.ObsBucketSchema.MODIFIED_BEFORE;
+import static java.lang.String.format;
+
+/**
+ * Selects the objects of a source by the metadata of the listing, so that no request is made for excluded objects.
+ * <p>
+ * The key pattern is a glob in which {@code *} and {@code ?} do not cross a {@code /}, {@code **} does, and
+ * {@code {a,b}} matches either alternative. A pattern without {@code /} is matched against the last segment of the key,
+ * others against the whole key. Sizes are in bytes and inclusive. Modification times are ISO-8601 instants, or ISO-8601
+ * durations that are subtracted from the time the filter was created, so that {@code PT24H} selects the last day.
+ * Objects whose size or modification time is not known, as with manifests, are not excluded by these criteria.
+ */
+class ObsObjectFilter implements Predicate<ObsObject> {
+
+    private static final ObsObjectFilter ALL = new ObsObjectFilter(null, false, -1, Long.MAX_VALUE, null, null);
+
+    private final Pattern keyPattern;
+    private final boolean matchName;
+    private final long minSize;
+    private final long maxSize;
+    private final Instant modifiedAfter;
+    private final Instant modifiedBefore;
+
+    private ObsObjectFilter(@Nullable Pattern keyPattern, boolean matchName, long minSize, long maxSize, @Nullable Instant modifiedAfter,
+                            @Nullable Instant modifiedBefore) {
+        this.keyPattern = keyPattern;
+        this.matchName = matchName;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.modifiedAfter = modifiedAfter;
+        this.modifiedBefore = modifiedBefore;
+    }
+
+    /**
+     * Creates the filter described by the properties of a data address, or a failure naming the invalid properties.
+     */
+    static Result<ObsObjectFilter> from(DataAddress address, Clock clock) {
+        var failures = new ArrayList<String>();
+        var pattern = address.getStringProperty(KEY_PATTERN, null);
+        var keyPattern = parsePattern(pattern, failures);
+        var minSize = parseSize(address, MIN_SIZE, -1, failures);
+        var maxSize = parseSize(address, MAX_SIZE, Long.MAX_VALUE, failures);
+        var modifiedAfter = parseTime(address, MODIFIED_AFTER, clock, failures);
+        var modifiedBefore = parseTime(address, MODIFIED_BEFORE, clock, failures);
+        if (!failures.isEmpty()) {
+            return Result.failure(failures);
+        }
+        if (pattern == null && minSize < 0 && maxSize == Long.MAX_VALUE && modifiedAfter == null && modifiedBefore == null) {
+            return Result.success(ALL);
+        }
+        var matchName = pattern != null && !pattern.contains("/");
+        return Result.success(new ObsObjectFilter(keyPattern, matchName, minSize, maxSize, modifiedAfter, modifiedBefore));
+    }
+
+    /**
+     * Whether the filter lets every object pass.
+     */
+    boolean isEmpty() {
+        return this == ALL;
+    }
+
+    @Override
+    public boolean test(ObsObject object) {
+        if (keyPattern != null) {
+            var key = object.getObjectKey();
+            var matched = matchName ? key.substring(key.lastIndexOf('/') + 1) : key;
+            if (!keyPattern.matcher(matched).matches()) {
+                return false;
+            }
+        }
+        var metadata = object.getMetadata();
+        if (metadata == null) {
+            return true;
+        }
+        var size = metadata.getContentLength();
+        if (size != null && (size < minSize || size > maxSize)) {
+            return false;
+        }
+        var lastModified = metadata.getLastModified();
+        if (lastModified != null) {
+            var modified = lastModified.toInstant();
+            return (modifiedAfter == null || modified.isAfter(modifiedAfter)) && (modifiedBefore == null || modified.isBefore(modifiedBefore));
+        }
+        return true;
+    }
+
+    static String globToRegex(String glob) {
+        var regex = new StringBuilder();
+        var inAlternatives = false;
+        for (var i = 0; i < glob.length(); i++) {
+            var c = glob.charAt(i);
+            switch (c) {
+                case '*' -> {
+                    if (i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                        regex.append(".*");
+                        i++;
+                    } else {
+                        regex.append("[^/]*");
+                    }
+                }
+                case '?' -> regex.append("[^/]");
+                case '{' -> {
+                    inAlternatives = true;
+                    regex.append("(?:");
+                }
+                case '}' -> {
+                    inAlternatives = false;
+                    regex.append(')');
+                }
+                case ',' -> regex.append(inAlternatives ? "|" : ",");
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return regex.toString();
+    }
+
+    @Nullable
+    private static Pattern parsePattern(@Nullable String pattern, List<String> failures) {
+        if (pattern == null) {
+            return null;
+        }
+        try {
+            return Pattern.compile(globToRegex(pattern));
+        } catch (PatternSyntaxException e) {
+            failures.add(format("Property '%s' must be a valid glob, but was '%s': %s", KEY_PATTERN, pattern, e.getDescription()));
+            return null;
+        }
+    }
+
+    private static long parseSize(DataAddress address, String property, long defaultValue, List<String> failures) {
+        var value = address.getStringProperty(property, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            var size = Long.parseLong(value.trim());
+            if (size >= 0) {
+                return size;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        failures.add(format("Property '%s' must be a number of bytes, but was '%s'", property, value));
+        return defaultValue;
+    }
+
+    @Nullable
+    private static Instant parseTime(DataAddress address, String property, Clock clock, List<String> failures) {
+        var value = address.getStringProperty(property, null);
+        if (value == null) {
+            return null;
+        }
+        try {
+            if (value.trim().startsWith("P")) {
+                return clock.instant().minus(Duration.parse(value.trim()));
+            }
+            return Instant.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            failures.add(format("Property '%s' must be an ISO-8601 instant or duration, but was '%s'", property, value));
+            return null;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs;
+
+import com.obs.services.model.ObsObject;
+
+import java.util.Iterator;
+
+/**
+ * Iterates over the objects of an OBS listing. Closing the iterator stops any listing requests still in progress.
+ */
+interface ObsObjectIterator extends Iterator<ObsObject>, AutoCloseable {
+
+    @Override
+    void close();
+}
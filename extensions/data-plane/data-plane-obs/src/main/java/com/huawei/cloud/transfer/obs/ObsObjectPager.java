@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs;
+
+import com.obs.services.IObsClient;
+import com.obs.services.model.ListObjectsRequest;
+import com.obs.services.model.ObjectListing;
+import com.obs.services.model.ObsObject;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Iterates over the objects of a bucket, fetching the pages of the listing only as they are consumed. With a prefetch
+ * executor, the next page is requested as soon as the current one arrived, so that at most one page is held ahead.
+ */
+class ObsObjectPager implements ObsObjectIterator {
+
+    private final IObsClient client;
+    private final ListObjectsRequest request;
+    private final Executor prefetchExecutor;
+    private Iterator<ObsObject> page = Collections.emptyIterator();
+    private CompletableFuture<ObjectListing> nextPage;
+    private boolean morePages = true;
+
+    ObsObjectPager(IObsClient client, String bucketName, @Nullable String prefix, @Nullable Executor prefetchExecutor) {
+        this.client = client;
+        this.prefetchExecutor = prefetchExecutor;
+        request = new ListObjectsRequest(bucketName);
+        if (prefix != null) {
+            request.setPrefix(prefix);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext() && morePages) {
+            fetchPage();
+        }
+        return page.hasNext();
+    }
+
+    @Override
+    public ObsObject next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    @Override
+    public void close() {
+        if (nextPage != null) {
+            nextPage.cancel(true);
+        }
+        morePages = false;
+    }
+
+    private void fetchPage() {
+        var listing = nextPage != null ? join(nextPage) : client.listObjects(request);
+        nextPage = null;
+        var objects = listing.getObjects();
+        // not every OBS compatible store returns a marker when listing without a delimiter
+        var marker = listing.getNextMarker() != null || objects.isEmpty() ? listing.getNextMarker() : objects.get(objects.size() - 1).getObjectKey();
+        morePages = listing.isTruncated() && marker != null;
+        if (morePages) {
+            request.setMarker(marker);
+            if (prefetchExecutor != null) {
+                nextPage = CompletableFuture.supplyAsync(() -> client.listObjects(request), prefetchExecutor);
+            }
+        }
+        page = objects.iterator();
+    }
+
+    private ObjectListing join(CompletableFuture<ObjectListing> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
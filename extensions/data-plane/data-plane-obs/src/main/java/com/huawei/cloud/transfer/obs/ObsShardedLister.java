@@ -0,0 +1,276 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs;
+
+import com.obs.services.IObsClient;
+import com.obs.services.model.ListObjectsRequest;
+import com.obs.services.model.ObsObject;
+import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.String.format;
+
+/**
+ * Lists a prefix by splitting it into shards along the {@code /} delimiter and listing up to {@code fanOut} shards
+ * concurrently. Every shard is listed with the delimiter, so that the objects directly under it are returned and its
+ * sub-prefixes are scheduled as further shards, which spreads deep key hierarchies over all listing workers.
+ * <p>
+ * The objects of all shards are merged into a queue of bounded size. Workers never wait for the consumer, as they run
+ * on a pool shared with other listings: when the queue is full, a worker parks its shard, with the rest of the listed
+ * page, and ends its task, and the consumer resumes the parked shards on new tasks once it has taken half of the queue.
+ * Unlike {@link ObsObjectPager}, objects are not returned in key order.
+ */
+class ObsShardedLister implements ObsObjectIterator {
+
+    private static final String DELIMITER = "/";
+    private static final int QUEUED_OBJECTS_PER_WORKER = 1000;
+    private static final ObsObject END = new ObsObject();
+
+    private final IObsClient client;
+    private final String bucketName;
+    private final int fanOut;
+    private final Executor executor;
+    private final int capacity;
+    // unbounded, so that the end always fits, the workers keep it within the capacity
+    private final BlockingQueue<ObsObject> objects = new LinkedBlockingQueue<>();
+    private final Deque<Shard> shards = new ArrayDeque<>();
+    private final Deque<Shard> parked = new ArrayDeque<>();
+    private final AtomicInteger outstandingShards = new AtomicInteger();
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private final AtomicBoolean endPublished = new AtomicBoolean();
+    private volatile boolean stopped;
+    private int workers;
+    private ObsObject next;
+    private boolean finished;
+
+    ObsShardedLister(IObsClient client, String bucketName, @Nullable String prefix, int fanOut, Executor executor) {
+        this.client = client;
+        this.bucketName = bucketName;
+        this.fanOut = fanOut;
+        this.executor = executor;
+        capacity = fanOut * QUEUED_OBJECTS_PER_WORKER;
+        schedule(prefix != null ? prefix : "");
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            var object = take();
+            if (object == END) {
+                finished = true;
+                var error = failure.get();
+                if (error != null) {
+                    throw error;
+                }
+            } else {
+                next = object;
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public ObsObject next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        var object = next;
+        next = null;
+        return object;
+    }
+
+    @Override
+    public void close() {
+        stopped = true;
+        finished = true;
+        synchronized (shards) {
+            parked.clear();
+        }
+        objects.clear();
+    }
+
+    private void schedule(String prefix) {
+        outstandingShards.incrementAndGet();
+        synchronized (shards) {
+            shards.add(new Shard(prefix));
+            startWorkers();
+        }
+    }
+
+    /**
+     * Starts a task for every shard that is ready to be listed, up to the fan-out. Callers hold the lock of the shards.
+     */
+    private void startWorkers() {
+        while (workers < fanOut && workers < shards.size()) {
+            workers++;
+            executor.execute(this::work);
+        }
+    }
+
+    private void work() {
+        while (true) {
+            Shard shard;
+            synchronized (shards) {
+                shard = shards.poll();
+                if (shard == null) {
+                    workers--;
+                    return;
+                }
+            }
+            boolean done;
+            try {
+                done = stopped || list(shard);
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+                stopped = true;
+                publishEnd();
+                done = true;
+            }
+            if (!done) {
+                park(shard);
+            } else if (outstandingShards.decrementAndGet() == 0) {
+                publishEnd();
+            }
+        }
+    }
+
+    /**
+     * Publishes the listed objects of the shard and lists its next pages. Returns false, without waiting, when the
+     * queue is full, with the objects that were not published left in the shard.
+     */
+    private boolean list(Shard shard) {
+        while (true) {
+            while (!shard.pending.isEmpty()) {
+                if (stopped) {
+                    return true;
+                }
+                if (!hasRoom()) {
+                    return false;
+                }
+                objects.add(shard.pending.poll());
+            }
+            if (!shard.morePages || stopped) {
+                return true;
+            }
+            // a page is only listed when it can be published, so that parked shards hold at most one page each
+            if (!hasRoom()) {
+                return false;
+            }
+            listPage(shard);
+        }
+    }
+
+    private void listPage(Shard shard) {
+        var request = new ListObjectsRequest(bucketName);
+        if (!shard.prefix.isEmpty()) {
+            request.setPrefix(shard.prefix);
+        }
+        request.setDelimiter(DELIMITER);
+        request.setMarker(shard.marker);
+        var listing = client.listObjects(request);
+        String lastKey = null;
+        for (var object : listing.getObjects()) {
+            shard.pending.add(object);
+            lastKey = max(lastKey, object.getObjectKey());
+        }
+        for (var subPrefix : listing.getCommonPrefixes()) {
+            schedule(subPrefix);
+            lastKey = max(lastKey, subPrefix);
+        }
+        // not every OBS compatible store returns a marker, the last key or prefix of the page serves as well
+        var marker = listing.getNextMarker() != null ? listing.getNextMarker() : lastKey;
+        shard.morePages = listing.isTruncated() && marker != null;
+        shard.marker = marker;
+    }
+
+    /**
+     * Parks a shard until the consumer made room. If it already did since the queue was found full, the shard is
+     * resumed right away, as the consumer may be waiting for it.
+     */
+    private void park(Shard shard) {
+        synchronized (shards) {
+            parked.add(shard);
+            if (objects.size() <= capacity / 2) {
+                resumeParked();
+            }
+        }
+    }
+
+    /**
+     * Moves the parked shards back to the ready ones. Callers hold the lock of the shards.
+     */
+    private void resumeParked() {
+        shards.addAll(parked);
+        parked.clear();
+        startWorkers();
+    }
+
+    private boolean hasRoom() {
+        return objects.size() < capacity;
+    }
+
+    /**
+     * Publishes the end of the listing once, either when the last shard is listed or when the listing failed.
+     */
+    private void publishEnd() {
+        if (endPublished.compareAndSet(false, true)) {
+            objects.add(END);
+        }
+    }
+
+    private ObsObject take() {
+        synchronized (shards) {
+            if (!parked.isEmpty() && objects.size() <= capacity / 2) {
+                resumeParked();
+            }
+        }
+        try {
+            return objects.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new EdcException(format("Interrupted while listing the %s bucket", bucketName), e);
+        }
+    }
+
+    private static String max(@Nullable String current, String candidate) {
+        return current == null || candidate.compareTo(current) > 0 ? candidate : current;
+    }
+
+    /**
+     * A prefix that is listed page by page, with the objects of the last page that were not published yet.
+     */
+    private static class Shard {
+
+        private final String prefix;
+        private final Deque<ObsObject> pending = new ArrayDeque<>();
+        private String marker;
+        private boolean morePages = true;
+
+        Shard(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+}
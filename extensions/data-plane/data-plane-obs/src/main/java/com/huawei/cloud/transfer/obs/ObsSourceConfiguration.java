@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record ObsSourceConfiguration(
+        @Setting(
+                key = "edc.obs.source.listing.prefetch",
+                description = "Whether the next page of the object listing is fetched while the objects of the current page are transferred",
+                defaultValue = "true"
+        )
+        boolean listingPrefetch,
+        @Setting(
+                key = "edc.obs.source.range.concurrency",
+                description = "Number of byte ranges of a large object that are fetched concurrently, 1 reads every object with a single request",
+                defaultValue = "4"
+        )
+        int rangeConcurrency,
+        @Setting(
+                key = "edc.obs.source.range.size.mb",
+                description = "Size in MB of the byte ranges in which large objects are fetched",
+                defaultValue = "8"
+        )
+        int rangeSizeMb,
+        @Setting(
+                key = "edc.obs.source.range.threshold.mb",
+                description = "Objects of at least this size in MB are fetched in concurrent byte ranges",
+                defaultValue = "64"
+        )
+        int rangeThresholdMb,
+        @Setting(
+                key = "edc.obs.source.retry.max",
+                description = "Number of consecutive attempts to resume a failed object read without progress before the read fails",
+                defaultValue = "5"
+        )
+        int retryMax,
+        @Setting(
+                key = "edc.obs.source.retry.backoff.ms",
+                description = "Delay in milliseconds before the first attempt to resume a failed object read, doubled for every further attempt",
+                defaultValue = "500"
+        )
+        long retryBackoffMillis,
+        @Setting(
+                key = "edc.obs.source.listing.fan.out",
+                description = "Number of sub-prefixes, split at the / delimiter, that are listed concurrently. 1 lists the prefix with a single paginated listing in key order",
+                defaultValue = "1"
+        )
+        int listingFanOut,
+        @Setting(
+                key = "edc.obs.source.coalesce.threshold.kb",
+                description = "Objects smaller than this size in KB are packed into tar archives when they are transferred to OBS, 0 disables coalescing",
+                defaultValue = "0"
+        )
+        int coalesceThresholdKb,
+        @Setting(
+                key = "edc.obs.source.coalesce.bundle.size.mb",
+                description = "Size in MB at which an archive of coalesced objects is closed",
+                defaultValue = "64"
+        )
+        int coalesceBundleSizeMb,
+        @Setting(
+                key = "edc.obs.source.coalesce.concurrency",
+                description = "Number of objects of an archive that are fetched concurrently",
+                defaultValue = "16"
+        )
+        int coalesceConcurrency
+) {
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record ObsTransferConfiguration(
+        @Setting(
+                key = "edc.obs.sink.part.concurrency",
+                description = "Maximum number of parts of a single object that are uploaded concurrently",
+                defaultValue = "4"
+        )
+        int partConcurrency,
+        @Setting(
+                key = "edc.obs.sink.read.ahead",
+                description = "Number of chunks of an object that are read from the source while its parts are uploading",
+                defaultValue = "1"
+        )
+        int readAhead,
+        @Setting(
+                key = "edc.obs.sink.object.concurrency",
+                description = "Maximum number of objects of a single flow that are transferred concurrently",
+                defaultValue = "4"
+        )
+        int objectConcurrency,
+        @Setting(
+                key = "edc.obs.sink.object.concurrency.global",
+                description = "Maximum number of objects that are transferred concurrently by all flows of the runtime",
+                defaultValue = "64"
+        )
+        int globalObjectConcurrency,
+        @Setting(
+                key = "edc.obs.sink.chunk.size.mb",
+                description = "Size in MB of the parts of a multipart upload",
+                defaultValue = "64"
+        )
+        int chunkSizeMb,
+        @Setting(
+                key = "edc.obs.sink.single.put.threshold.mb",
+                description = "Objects of known size up to this size in MB are streamed with a single put request instead of a multipart upload",
+                defaultValue = "5"
+        )
+        int singlePutThresholdMb,
+        @Setting(
+                key = "edc.obs.sink.buffer.budget.mb",
+                description = "Memory in MB that all OBS sinks of the runtime may use for chunk buffers together. The largest part is this budget " +
+                        "rounded down to a power of two, at most 1024 MB, which limits uploads to 10,000 such parts",
+                defaultValue = "1024"
+        )
+        long bufferBudgetMb,
+        @Setting(
+                key = "edc.obs.sink.buffer.direct",
+                description = "Whether chunk buffers are allocated off-heap",
+                defaultValue = "true"
+        )
+        boolean directBuffers,
+        @Setting(
+                key = "edc.obs.sink.resume.enabled",
+                description = "Whether multipart uploads are checkpointed, so that an interrupted flow resumes from the first missing part",
+                defaultValue = "true"
+        )
+        boolean resumeEnabled,
+        @Setting(
+                key = "edc.obs.sink.server.side.copy",
+                description = "Whether objects are copied by OBS itself when source and destination are on the same endpoint",
+                defaultValue = "true"
+        )
+        boolean serverSideCopy,
+        @Setting(
+                key = "edc.obs.metrics.report.interval.seconds",
+                description = "Interval in seconds at which the OBS transfer metrics are written to the monitor, 0 disables the report",
+                defaultValue = "60"
+        )
+        int metricsReportIntervalSeconds
+) {
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs;
+
+import com.huawei.cloud.transfer.obs.checkpoint.InMemoryObsUploadCheckpointStore;
+import com.huawei.cloud.transfer.obs.checkpoint.ObsUploadCheckpointStore;
+import com.huawei.cloud.transfer.obs.incremental.InMemoryObsTransferWatermarkStore;
+import com.huawei.cloud.transfer.obs.incremental.ObsTransferWatermarkStore;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.system.ServiceExtension;
+
+/**
+ * Provides the in-memory defaults of the services the OBS transfer can be configured with.
+ */
+@Extension(ObsTransferDefaultServicesExtension.NAME)
+public class ObsTransferDefaultServicesExtension implements ServiceExtension {
+
+    public static final String NAME = "Huawei OBS Data Transfer Default Services";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider(isDefault = true)
+    public ObsUploadCheckpointStore uploadCheckpointStore() {
+        return new InMemoryObsUploadCheckpointStore();
+    }
+
+    @Provider(isDefault = true)
+    public ObsTransferWatermarkStore transferWatermarkStore() {
+        return new InMemoryObsTransferWatermarkStore();
+    }
+}
@@ -15,16 +15,37 @@
 package com.huawei.cloud.transfer.obs;
 
 import com.huawei.cloud.obs.ObsClientProvider;
+import com.huawei.cloud.obs.ObsConnectionWarmer;
+import com.huawei.cloud.obs.ObsSecretTokenCache;
+import com.huawei.cloud.obs.ObsTemporaryTokenIssuer;
+import com.huawei.cloud.transfer.obs.buffer.ChunkBufferPool;
+import com.huawei.cloud.transfer.obs.checkpoint.ObsUploadCheckpointStore;
+import com.huawei.cloud.transfer.obs.credentials.ObsCredentialsConfiguration;
+import com.huawei.cloud.transfer.obs.credentials.ObsCredentialsRefresher;
+import com.huawei.cloud.transfer.obs.incremental.ObsTransferWatermarkStore;
+import com.huawei.cloud.transfer.obs.metrics.ObsTransferMetrics;
+import com.huawei.cloud.transfer.obs.metrics.ObsTransferMetricsReporter;
 import org.eclipse.edc.connector.dataplane.spi.iam.PublicEndpointGeneratorService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Extension(ObsTransferExtension.NAME)
 public class ObsTransferExtension implements ServiceExtension {
@@ -39,21 +60,95 @@ public class ObsTransferExtension implements ServiceExtension {
     private Vault vault;
     @Inject
     private ObsClientProvider clientProvider;
+    @Inject
+    private ObsSecretTokenCache secretTokenCache;
+    @Inject
+    private ObsTemporaryTokenIssuer tokenIssuer;
+    @Inject
+    private ObsConnectionWarmer connectionWarmer;
+
+    @Inject
+    private ObsUploadCheckpointStore checkpointStore;
+    @Inject
+    private ObsTransferWatermarkStore watermarkStore;
 
     @Inject
     private PublicEndpointGeneratorService publicEndpointGeneratorService;
+    @Configuration
+    ObsTransferConfiguration obsTransferConfiguration;
+    @Configuration
+    ObsSourceConfiguration obsSourceConfiguration;
+    @Configuration
+    ObsCredentialsConfiguration obsCredentialsConfiguration;
+
+    private final ObsTransferMetrics transferMetrics = new ObsTransferMetrics();
+    private final List<ExecutorService> executors = new ArrayList<>();
+    private Monitor monitor;
+    private ScheduledExecutorService metricsReporter;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
+        monitor = context.getMonitor();
+        connectionWarmer.addListener((endpoint, result) -> transferMetrics.connectionsWarmedUp(endpoint, result.duration()));
 
-        var sourceFactory = new ObsDataSourceFactory(vault, typeManager, clientProvider);
+        // renewals are rare, they are started by the first request within the refresh margin of a token
+        var credentialsRefresher = new ObsCredentialsRefresher(vault, typeManager, secretTokenCache, tokenIssuer, obsCredentialsConfiguration,
+                boundedPool(2), Clock.systemUTC(), context.getMonitor().withPrefix("ObsCredentialsRefresher"));
+
+        var globalObjects = obsTransferConfiguration.globalObjectConcurrency();
+        // listings run ahead of the objects they feed, one request per object that can be in flight suffices
+        var listingExecutor = boundedPool(globalObjects);
+        // every object in flight fetches at most its range or archive member concurrency at a time
+        var downloadExecutor = boundedPool(globalObjects * Math.max(obsSourceConfiguration.rangeConcurrency(), obsSourceConfiguration.coalesceConcurrency()));
+        var sourceFactory = new ObsDataSourceFactory(vault, typeManager, clientProvider, secretTokenCache, credentialsRefresher, obsSourceConfiguration,
+                listingExecutor, downloadExecutor);
         pipelineService.registerFactory(sourceFactory);
 
-        var executor = Executors.newFixedThreadPool(10);
-        var sinkFactory = new ObsDataSinkFactory(vault, typeManager, context.getMonitor(), executor, clientProvider);
+        var executor = boundedPool(10);
+        // objects are only submitted with a permit of the global object semaphore, parts with a permit of their object,
+        // so neither pool queues tasks that wait for a slot
+        var partExecutor = boundedPool(globalObjects * obsTransferConfiguration.partConcurrency());
+        var objectExecutor = boundedPool(globalObjects);
+        var bufferPool = new ChunkBufferPool(obsTransferConfiguration.bufferBudgetMb() * 1024 * 1024, obsTransferConfiguration.directBuffers());
+        var sinkFactory = new ObsDataSinkFactory(vault, typeManager, context.getMonitor(), executor, partExecutor, objectExecutor, clientProvider, secretTokenCache,
+                credentialsRefresher, obsTransferConfiguration, bufferPool, obsTransferConfiguration.resumeEnabled() ? checkpointStore : null, transferMetrics,
+                watermarkStore);
         pipelineService.registerFactory(sinkFactory);
     }
 
+    @Override
+    public void start() {
+        var interval = obsTransferConfiguration.metricsReportIntervalSeconds();
+        if (interval > 0) {
+            metricsReporter = Executors.newSingleThreadScheduledExecutor();
+            metricsReporter.scheduleAtFixedRate(new ObsTransferMetricsReporter(transferMetrics, monitor), interval, interval, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (metricsReporter != null) {
+            metricsReporter.shutdownNow();
+        }
+        executors.forEach(ExecutorService::shutdownNow);
+    }
+
+    /**
+     * Creates a pool of at most the given number of threads, whose threads end when they are idle.
+     */
+    private ExecutorService boundedPool(int threads) {
+        var size = Math.max(threads, 1);
+        var pool = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        pool.allowCoreThreadTimeOut(true);
+        executors.add(pool);
+        return pool;
+    }
+
+    @Provider
+    public ObsTransferMetrics transferMetrics() {
+        return transferMetrics;
+    }
+
     @Override
     public String name() {
         return NAME;
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+
+import static java.lang.String.format;
+
+/**
+ * Chooses the size of every part of a multipart upload, respecting the OBS limits.
+ * <p>
+ * When the object size is known, all parts have the same size: the configured base size, raised to the next power of
+ * two if the object would not fit into {@link #MAX_PARTS} parts otherwise. Objects smaller than that use a single part
+ * of exactly their size. When the size is unknown, the part size starts at the base size and doubles every
+ * {@link #GROWTH_INTERVAL} parts, up to the maximum size.
+ * <p>
+ * The size of a part only depends on its number, which keeps the layout reproducible, e.g. when resuming an upload.
+ */
+public class PartSizer {
+
+    public static final int MAX_PARTS = 10_000;
+    public static final int MIN_PART_SIZE = 100 * 1024;
+    public static final long MAX_PART_SIZE = 5L * 1024 * 1024 * 1024;
+    public static final int GROWTH_INTERVAL = 1_000;
+
+    private final long objectSize;
+    private final int baseSize;
+    private final int maxSize;
+
+    /**
+     * Creates a sizer for one object.
+     *
+     * @param objectSize the size of the object, or {@link DataSource.Part#SIZE_UNKNOWN}
+     * @param baseSize   the preferred part size
+     * @param maxSize    the largest part size that fits into the memory budget
+     */
+    public PartSizer(long objectSize, int baseSize, int maxSize) {
+        if (baseSize < MIN_PART_SIZE || maxSize < baseSize) {
+            throw new IllegalArgumentException(format("Part sizes must satisfy %s <= base size (%s) <= max size (%s)", MIN_PART_SIZE, baseSize, maxSize));
+        }
+        this.objectSize = objectSize;
+        this.baseSize = baseSize;
+        this.maxSize = (int) Math.min(maxSize, MAX_PART_SIZE);
+
+        if (isSizeKnown() && divideRoundingUp(objectSize, this.maxSize) > MAX_PARTS) {
+            throw new IllegalArgumentException(format("Object of %s bytes does not fit into %s parts of at most %s bytes", objectSize, MAX_PARTS, this.maxSize));
+        }
+    }
+
+    /**
+     * Returns the size of the given part. For objects of known size the last part may contain less data.
+     *
+     * @param partNumber the part number, starting with 1
+     * @return the size in bytes
+     */
+    public int sizeOf(int partNumber) {
+        if (partNumber < 1 || partNumber > MAX_PARTS) {
+            throw new IllegalArgumentException(format("Part number must be between 1 and %s but was %s", MAX_PARTS, partNumber));
+        }
+        if (isSizeKnown()) {
+            return fixedSize();
+        }
+        var doublings = (partNumber - 1) / GROWTH_INTERVAL;
+        var size = (long) baseSize << Math.min(doublings, 32);
+        return (int) Math.min(size, maxSize);
+    }
+
+    /**
+     * Whether a part with the given number, starting at the given offset, is still to be read: for objects of known size
+     * until the size is consumed, otherwise up to {@link #MAX_PARTS}. Data beyond that does not fit into the upload.
+     *
+     * @param partNumber the part number, starting with 1
+     * @param offset     the number of bytes in the parts before it
+     * @return whether the part can be sized
+     */
+    public boolean hasPart(int partNumber, long offset) {
+        if (isSizeKnown()) {
+            return offset < objectSize;
+        }
+        return partNumber <= MAX_PARTS;
+    }
+
+    /**
+     * Whether the object size is known.
+     */
+    public boolean isSizeKnown() {
+        return objectSize >= 0;
+    }
+
+    /**
+     * Returns the smallest power of two part size with which an object of the given size fits into {@link #MAX_PARTS}
+     * parts.
+     *
+     * @param objectSize the size of the object
+     * @return the size in bytes
+     */
+    public static long requiredPartSize(long objectSize) {
+        var minimum = Math.max(divideRoundingUp(objectSize, MAX_PARTS), 1);
+        var size = Long.highestOneBit(minimum);
+        return size < minimum ? size << 1 : size;
+    }
+
+    private int fixedSize() {
+        if (objectSize <= baseSize) {
+            return (int) Math.max(objectSize, 1);
+        }
+        if (divideRoundingUp(objectSize, MAX_PARTS) <= baseSize) {
+            return baseSize;
+        }
+        return (int) Math.min(requiredPartSize(objectSize), maxSize);
+    }
+
+    private static long divideRoundingUp(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.buffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A buffer leased from a {@link ChunkBufferPool}. Closing it returns the memory to the pool, closing it more than once
+ * has no effect.
+ */
+public class ChunkBuffer implements AutoCloseable {
+
+    private final ChunkBufferPool pool;
+    private final ByteBuffer buffer;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    ChunkBuffer(ChunkBufferPool pool, ByteBuffer buffer) {
+        this.pool = pool;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Reads from the channel until the buffer is full or the end of the stream is reached.
+     *
+     * @param channel the channel to read from
+     * @return the number of bytes read, 0 if the channel was already exhausted
+     * @throws IOException if reading fails
+     */
+    public int readFrom(ReadableByteChannel channel) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer.remaining();
+    }
+
+    /**
+     * Number of readable bytes, valid after {@link #readFrom(ReadableByteChannel)}.
+     */
+    public int size() {
+        return buffer.remaining();
+    }
+
+    /**
+     * Returns a new stream over the readable bytes. The stream supports mark/reset, so it can be replayed on retries.
+     */
+    public InputStream inputStream() {
+        return new ByteBufferInputStream(buffer.duplicate());
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            pool.release(buffer);
+        }
+    }
+}
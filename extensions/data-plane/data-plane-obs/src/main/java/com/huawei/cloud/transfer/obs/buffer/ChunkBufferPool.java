@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.lang.String.format;
+
+/**
+ * Bounded pool of reusable chunk buffers that is shared by all OBS sinks of a runtime.
+ * <p>
+ * Buffer capacities are rounded up to the next power of two (at least {@link #MIN_BUFFER_SIZE}), so that buffers can be
+ * reused across parts of slightly different sizes. The sum of the capacities of all buffers that are either handed out
+ * or cached for reuse never exceeds the configured budget: {@link #acquire(int)} blocks until enough memory is returned,
+ * evicting cached buffers of other sizes when necessary.
+ */
+public class ChunkBufferPool {
+
+    public static final int MIN_BUFFER_SIZE = 64 * 1024;
+    public static final int MAX_BUFFER_SIZE = 1 << 30;
+
+    private final long budget;
+    private final boolean direct;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final Map<Integer, Deque<ByteBuffer>> cache = new TreeMap<>();
+    private long allocated;
+    private long cached;
+
+    /**
+     * Creates a pool.
+     *
+     * @param budget maximum number of bytes held by the pool, must be at least {@link #MIN_BUFFER_SIZE}
+     * @param direct whether off-heap buffers should be allocated
+     */
+    public ChunkBufferPool(long budget, boolean direct) {
+        if (budget < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException(format("Buffer budget must be at least %s bytes", MIN_BUFFER_SIZE));
+        }
+        this.budget = budget;
+        this.direct = direct;
+    }
+
+    /**
+     * Creates a pool that holds exactly {@code count} buffers of the given chunk size.
+     *
+     * @param chunkSize the size of the chunks
+     * @param count     the number of buffers
+     * @param direct    whether off-heap buffers should be allocated
+     * @return the pool
+     */
+    public static ChunkBufferPool forChunks(int chunkSize, int count, boolean direct) {
+        return new ChunkBufferPool((long) capacityFor(chunkSize) * count, direct);
+    }
+
+    /**
+     * Acquires a buffer that can hold at least {@code size} bytes, blocking until the budget allows it.
+     *
+     * @param size the number of bytes needed
+     * @return the buffer, with its limit set to {@code size}. Must be closed to return it to the pool.
+     * @throws InterruptedException if the thread is interrupted while waiting for memory
+     */
+    public ChunkBuffer acquire(int size) throws InterruptedException {
+        var capacity = capacityFor(size);
+        if (capacity > budget) {
+            throw new IllegalArgumentException(format("Requested buffer of %s bytes exceeds the pool budget of %s bytes", size, budget));
+        }
+
+        ByteBuffer buffer = null;
+        lock.lockInterruptibly();
+        try {
+            while (buffer == null) {
+                var reusable = cache.get(capacity);
+                if (reusable != null && !reusable.isEmpty()) {
+                    buffer = reusable.pop();
+                    cached -= capacity;
+                } else if (allocated + capacity <= budget) {
+                    allocated += capacity;
+                    break;
+                } else if (cached > 0) {
+                    evictOne();
+                } else {
+                    released.await();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (buffer == null) {
+            buffer = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        }
+        buffer.clear().limit(size);
+        return new ChunkBuffer(this, buffer);
+    }
+
+    /**
+     * Largest buffer size this pool can hand out.
+     */
+    public int maxBufferSize() {
+        var max = Integer.highestOneBit((int) Math.min(budget, MAX_BUFFER_SIZE));
+        return Math.max(max, MIN_BUFFER_SIZE);
+    }
+
+    /**
+     * The total number of bytes this pool may hold.
+     */
+    public long budget() {
+        return budget;
+    }
+
+    /**
+     * The number of bytes currently handed out.
+     */
+    public long inUse() {
+        lock.lock();
+        try {
+            return allocated - cached;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(ByteBuffer buffer) {
+        lock.lock();
+        try {
+            buffer.clear();
+            cache.computeIfAbsent(buffer.capacity(), c -> new ArrayDeque<>()).push(buffer);
+            cached += buffer.capacity();
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictOne() {
+        var iterator = cache.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            if (!entry.getValue().isEmpty()) {
+                entry.getValue().pop();
+                cached -= entry.getKey();
+                allocated -= entry.getKey();
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    private static int capacityFor(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        if (size > MAX_BUFFER_SIZE) {
+            throw new IllegalArgumentException(format("Buffer size must not exceed %s bytes", MAX_BUFFER_SIZE));
+        }
+        if (size <= MIN_BUFFER_SIZE) {
+            return MIN_BUFFER_SIZE;
+        }
+        var capacity = Integer.highestOneBit(size);
+        return capacity == size ? size : capacity << 1;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.bundle;
+
+import com.huawei.cloud.transfer.obs.ObsDataSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import static java.lang.String.format;
+
+/**
+ * Writes the tar archive of a bundle while it is read. The content of the members is fetched on the executor, up to
+ * {@code prefetch} members ahead of the reader, and handed out in archive order.
+ */
+class BundleInputStream extends InputStream {
+
+    private final List<ObsDataSource.ObsPart> members;
+    private final Executor executor;
+    private final int prefetch;
+    private final Deque<CompletableFuture<byte[]>> window = new ArrayDeque<>();
+    private final byte[] single = new byte[1];
+    private int nextFetch;
+    private int nextMember;
+    private InputStream current = InputStream.nullInputStream();
+    private boolean endWritten;
+    private boolean closed;
+
+    BundleInputStream(List<ObsDataSource.ObsPart> members, Executor executor, int prefetch) {
+        this.members = members;
+        this.executor = executor;
+        this.prefetch = Math.max(prefetch, 1);
+        fillWindow();
+    }
+
+    @Override
+    public int read() throws IOException {
+        var count = read(single, 0, 1);
+        return count == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (length == 0) {
+            return 0;
+        }
+        while (true) {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            var count = current.read(buffer, offset, length);
+            if (count >= 0) {
+                return count;
+            }
+            if (!advance()) {
+                return -1;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        window.forEach(fetch -> fetch.cancel(true));
+        window.clear();
+    }
+
+    /**
+     * Moves on to the next member, or to the end of the archive. Returns false when the archive was read completely.
+     */
+    private boolean advance() throws IOException {
+        if (nextMember < members.size()) {
+            var member = members.get(nextMember++);
+            var content = await(Objects.requireNonNull(window.poll()), member);
+            fillWindow();
+            if (content.length != member.size()) {
+                throw new IOException(format("Object %s has %s bytes instead of the listed %s", member.keyName(), content.length, member.size()));
+            }
+            var modified = member.lastModified() != null ? member.lastModified().getEpochSecond() : 0;
+            var headers = TarFormat.headers(member.keyName(), content.length, modified);
+            var entry = new byte[(int) (headers.length + TarFormat.padded(content.length))];
+            System.arraycopy(headers, 0, entry, 0, headers.length);
+            System.arraycopy(content, 0, entry, headers.length, content.length);
+            current = new ByteArrayInputStream(entry);
+            return true;
+        }
+        if (!endWritten) {
+            endWritten = true;
+            current = new ByteArrayInputStream(new byte[TarFormat.END_OF_ARCHIVE_SIZE]);
+            return true;
+        }
+        return false;
+    }
+
+    private void fillWindow() {
+        while (window.size() < prefetch && nextFetch < members.size()) {
+            var member = members.get(nextFetch++);
+            window.add(CompletableFuture.supplyAsync(() -> fetch(member), executor));
+        }
+    }
+
+    private byte[] fetch(ObsDataSource.ObsPart member) {
+        try (var content = member.openStream()) {
+            return content.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] await(CompletableFuture<byte[]> fetch, ObsDataSource.ObsPart member) throws IOException {
+        try {
+            return fetch.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException cause) {
+                throw cause.getCause();
+            }
+            throw new IOException(format("Error reading %s from the %s bucket", member.keyName(), member.bucketName()), e.getCause());
+        }
+    }
+}
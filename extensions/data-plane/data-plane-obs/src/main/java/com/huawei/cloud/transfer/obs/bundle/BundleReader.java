@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.bundle;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static java.lang.String.format;
+
+/**
+ * Reads the members of a bundle archive one after the other, so that a sink can store them as separate objects.
+ */
+public class BundleReader implements AutoCloseable {
+
+    private final InputStream archive;
+
+    public BundleReader(InputStream archive) {
+        this.archive = archive;
+    }
+
+    /**
+     * Returns the next member of the archive, or null at the end of the archive.
+     */
+    @Nullable
+    public Member next() throws IOException {
+        var header = readBlock();
+        if (header == null || TarFormat.isEndOfArchive(header)) {
+            return null;
+        }
+        String path = null;
+        if (TarFormat.type(header) == TarFormat.PAX_HEADER) {
+            path = TarFormat.paxPath(readContent(TarFormat.size(header)));
+            header = readBlock();
+            if (header == null) {
+                throw new EOFException("Bundle ends after an extended header");
+            }
+        }
+        var type = TarFormat.type(header);
+        if (type != TarFormat.REGULAR_FILE && type != 0) {
+            throw new IOException(format("Unsupported entry type %s in bundle", (char) type));
+        }
+        var name = path != null ? path : TarFormat.name(header);
+        return new Member(name, readContent(TarFormat.size(header)));
+    }
+
+    @Override
+    public void close() throws IOException {
+        archive.close();
+    }
+
+    @Nullable
+    private byte[] readBlock() throws IOException {
+        var block = archive.readNBytes(TarFormat.BLOCK_SIZE);
+        if (block.length == 0) {
+            return null;
+        }
+        if (block.length < TarFormat.BLOCK_SIZE) {
+            throw new EOFException("Bundle ends within a header");
+        }
+        return block;
+    }
+
+    private byte[] readContent(long size) throws IOException {
+        var content = archive.readNBytes((int) size);
+        if (content.length < size) {
+            throw new EOFException("Bundle ends within an entry");
+        }
+        archive.skipNBytes(TarFormat.padded(size) - size);
+        return content;
+    }
+
+    /**
+     * An object of a bundle.
+     *
+     * @param key     the key of the object
+     * @param content the content of the object
+     */
+    public record Member(String key, byte[] content) {
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.bundle;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.huawei.cloud.transfer.obs.ObsDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.spi.EdcException;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * A tar archive of small objects of an OBS bucket that is transferred as a single part. The archive is produced on the
+ * fly while it is read, with up to {@code prefetch} members fetched concurrently ahead of the reader.
+ * <p>
+ * The size of the archive is known up front from the sizes of the members, and the {@link #index()} names the offset
+ * of every member in it, so that a sink can store the archive as it is and still find the objects in it.
+ *
+ * @param name     name of the archive, derived from the key of its first member
+ * @param members  the objects in the archive, in archive order
+ * @param executor executor on which members are fetched
+ * @param prefetch number of members fetched ahead of the reader
+ */
+public record ObsBundlePart(String name, List<ObsDataSource.ObsPart> members, Executor executor, int prefetch) implements DataSource.Part {
+
+    public static final String NAME_SUFFIX = ".bundle.tar";
+    public static final String INDEX_SUFFIX = ".index.jsonl";
+
+    private static final ObjectMapper INDEX_MAPPER = new ObjectMapper();
+
+    public ObsBundlePart {
+        members = List.copyOf(members);
+    }
+
+    @Override
+    public long size() {
+        var size = (long) TarFormat.END_OF_ARCHIVE_SIZE;
+        for (var member : members) {
+            size += TarFormat.entrySize(member.keyName(), member.size());
+        }
+        return size;
+    }
+
+    @Override
+    public InputStream openStream() {
+        return new BundleInputStream(members, executor, prefetch);
+    }
+
+    /**
+     * Returns the index of the archive as JSON lines, one {@code {"key", "offset", "size"}} object per member, where
+     * the offset is the position of the content of the member in the archive.
+     */
+    public String index() {
+        var index = new StringBuilder();
+        var offset = 0L;
+        for (var member : members) {
+            offset += TarFormat.entrySize(member.keyName(), 0);
+            try {
+                index.append(INDEX_MAPPER.writeValueAsString(new IndexEntry(member.keyName(), offset, member.size()))).append('\n');
+            } catch (JsonProcessingException e) {
+                throw new EdcException(e);
+            }
+            offset += TarFormat.padded(member.size());
+        }
+        return index.toString();
+    }
+
+    private record IndexEntry(String key, long offset, long size) {
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.bundle;
+
+import com.huawei.cloud.transfer.obs.ObsDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+
+/**
+ * Packs consecutive small objects of a part stream into {@link ObsBundlePart}s, so that a flow of many tiny objects is
+ * transferred as a few archives. Objects of at least {@code threshold} bytes, or of unknown size, are passed on as they
+ * are. A bundle is closed once its archive reaches {@code bundleSize} bytes, a bundle of a single object is passed on
+ * as that object.
+ */
+public class ObsPartBundler implements Iterator<DataSource.Part> {
+
+    private final Iterator<DataSource.Part> parts;
+    private final long threshold;
+    private final long bundleSize;
+    private final Executor executor;
+    private final int prefetch;
+    private DataSource.Part pending;
+
+    public ObsPartBundler(Iterator<DataSource.Part> parts, long threshold, long bundleSize, Executor executor, int prefetch) {
+        this.parts = parts;
+        this.threshold = threshold;
+        this.bundleSize = bundleSize;
+        this.executor = executor;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return pending != null || parts.hasNext();
+    }
+
+    @Override
+    public DataSource.Part next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        var part = pending != null ? pending : parts.next();
+        pending = null;
+        if (!isSmall(part)) {
+            return part;
+        }
+
+        var members = new ArrayList<ObsDataSource.ObsPart>();
+        members.add((ObsDataSource.ObsPart) part);
+        var size = TarFormat.entrySize(part.name(), part.size());
+        while (size < bundleSize && parts.hasNext()) {
+            var candidate = parts.next();
+            if (!isSmall(candidate)) {
+                pending = candidate;
+                break;
+            }
+            members.add((ObsDataSource.ObsPart) candidate);
+            size += TarFormat.entrySize(candidate.name(), candidate.size());
+        }
+        if (members.size() == 1) {
+            return part;
+        }
+        return new ObsBundlePart(part.name() + ObsBundlePart.NAME_SUFFIX, members, executor, prefetch);
+    }
+
+    private boolean isSmall(DataSource.Part part) {
+        return part instanceof ObsDataSource.ObsPart && part.size() >= 0 && part.size() < threshold;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.bundle;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The parts of the POSIX tar format that bundles use: ustar headers for regular files, with a pax extended header
+ * carrying the path of entries whose name does not fit into the 100 bytes of the ustar name field.
+ */
+final class TarFormat {
+
+    static final int BLOCK_SIZE = 512;
+    static final int END_OF_ARCHIVE_SIZE = 2 * BLOCK_SIZE;
+    static final byte REGULAR_FILE = '0';
+    static final byte PAX_HEADER = 'x';
+
+    private static final int NAME_LENGTH = 100;
+    private static final int SIZE_OFFSET = 124;
+    private static final int CHECKSUM_OFFSET = 148;
+    private static final int TYPE_OFFSET = 156;
+    private static final int MAGIC_OFFSET = 257;
+    private static final String PAX_PATH = "path=";
+    private static final byte[] MAGIC = { 'u', 's', 't', 'a', 'r', 0, '0', '0' };
+
+    private TarFormat() {
+    }
+
+    /**
+     * Returns the header blocks of a regular file entry.
+     */
+    static byte[] headers(String name, long size, long modifiedSeconds) {
+        var nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        if (nameBytes.length <= NAME_LENGTH) {
+            return header(nameBytes, size, modifiedSeconds, REGULAR_FILE);
+        }
+        var record = paxRecord(nameBytes);
+        var headers = new byte[BLOCK_SIZE + (int) padded(record.length) + BLOCK_SIZE];
+        System.arraycopy(header("PaxHeader".getBytes(StandardCharsets.US_ASCII), record.length, modifiedSeconds, PAX_HEADER), 0, headers, 0, BLOCK_SIZE);
+        System.arraycopy(record, 0, headers, BLOCK_SIZE, record.length);
+        var fileHeader = header(Arrays.copyOf(nameBytes, NAME_LENGTH), size, modifiedSeconds, REGULAR_FILE);
+        System.arraycopy(fileHeader, 0, headers, headers.length - BLOCK_SIZE, BLOCK_SIZE);
+        return headers;
+    }
+
+    /**
+     * Returns the size of an entry in the archive: its headers and its content padded to whole blocks.
+     */
+    static long entrySize(String name, long size) {
+        var nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        var headers = nameBytes.length <= NAME_LENGTH ? BLOCK_SIZE : BLOCK_SIZE + padded(paxRecord(nameBytes).length) + BLOCK_SIZE;
+        return headers + padded(size);
+    }
+
+    static long padded(long size) {
+        return (size + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+    }
+
+    static boolean isEndOfArchive(byte[] header) {
+        for (var b : header) {
+            if (b != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static byte type(byte[] header) {
+        return header[TYPE_OFFSET];
+    }
+
+    static long size(byte[] header) {
+        return parseOctal(header, SIZE_OFFSET, 12);
+    }
+
+    static String name(byte[] header) {
+        var end = 0;
+        while (end < NAME_LENGTH && header[end] != 0) {
+            end++;
+        }
+        return new String(header, 0, end, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the path of a pax extended header, or null if it has none.
+     */
+    @Nullable
+    static String paxPath(byte[] records) {
+        var position = 0;
+        while (position < records.length) {
+            var space = position;
+            while (space < records.length && records[space] != ' ') {
+                space++;
+            }
+            if (space == records.length) {
+                break;
+            }
+            var length = Integer.parseInt(new String(records, position, space - position, StandardCharsets.US_ASCII));
+            var record = new String(records, space + 1, length - (space - position) - 2, StandardCharsets.UTF_8);
+            if (record.startsWith(PAX_PATH)) {
+                return record.substring(PAX_PATH.length());
+            }
+            position += length;
+        }
+        return null;
+    }
+
+    private static byte[] paxRecord(byte[] nameBytes) {
+        // the length of a record includes the digits of the length itself
+        var base = 1 + PAX_PATH.length() + nameBytes.length + 1;
+        var length = base + String.valueOf(base).length();
+        if (String.valueOf(length).length() > String.valueOf(base).length()) {
+            length = base + String.valueOf(length).length();
+        }
+        var prefix = (length + " " + PAX_PATH).getBytes(StandardCharsets.US_ASCII);
+        var record = new byte[length];
+        System.arraycopy(prefix, 0, record, 0, prefix.length);
+        System.arraycopy(nameBytes, 0, record, prefix.length, nameBytes.length);
+        record[length - 1] = '\n';
+        return record;
+    }
+
+    private static byte[] header(byte[] name, long size, long modifiedSeconds, byte type) {
+        var header = new byte[BLOCK_SIZE];
+        System.arraycopy(name, 0, header, 0, Math.min(name.length, NAME_LENGTH));
+        writeOctal(header, 100, 8, 0644);
+        writeOctal(header, 108, 8, 0);
+        writeOctal(header, 116, 8, 0);
+        writeOctal(header, SIZE_OFFSET, 12, size);
+        writeOctal(header, 136, 12, modifiedSeconds);
+        Arrays.fill(header, CHECKSUM_OFFSET, CHECKSUM_OFFSET + 8, (byte) ' ');
+        header[TYPE_OFFSET] = type;
+        System.arraycopy(MAGIC, 0, header, MAGIC_OFFSET, MAGIC.length);
+        var checksum = 0L;
+        for (var b : header) {
+            checksum += b & 0xFF;
+        }
+        writeOctal(header, CHECKSUM_OFFSET, 7, checksum);
+        return header;
+    }
+
+    private static void writeOctal(byte[] header, int offset, int length, long value) {
+        var octal = Long.toOctalString(value);
+        var digits = length - 1;
+        for (var i = 0; i < digits; i++) {
+            var index = i - (digits - octal.length());
+            header[offset + i] = index < 0 ? (byte) '0' : (byte) octal.charAt(index);
+        }
+        header[offset + digits] = 0;
+    }
+
+    private static long parseOctal(byte[] header, int offset, int length) {
+        var value = 0L;
+        for (var i = offset; i < offset + length; i++) {
+            var b = header[i];
+            if (b >= '0' && b <= '7') {
+                value = value * 8 + (b - '0');
+            } else if (b == 0 || (b == ' ' && value > 0)) {
+                break;
+            }
+        }
+        return value;
+    }
+}
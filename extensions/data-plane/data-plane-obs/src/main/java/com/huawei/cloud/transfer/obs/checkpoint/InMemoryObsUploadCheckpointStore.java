@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.checkpoint;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Checkpoint store that lives as long as the runtime: uploads can be resumed when a flow is retried, but not after a
+ * restart of the data plane.
+ */
+public class InMemoryObsUploadCheckpointStore implements ObsUploadCheckpointStore {
+
+    private final Map<Key, Entry> checkpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public @Nullable ObsUploadCheckpoint find(String flowId, String bucketName, String objectKey) {
+        var entry = checkpoints.get(new Key(flowId, bucketName, objectKey));
+        if (entry == null) {
+            return null;
+        }
+        return new ObsUploadCheckpoint(flowId, bucketName, objectKey, entry.uploadId(), entry.sourceEtag(), entry.sourceSize(),
+                new ArrayList<>(entry.parts().values()));
+    }
+
+    @Override
+    public void save(ObsUploadCheckpoint checkpoint) {
+        var parts = new ConcurrentHashMap<Integer, ObsUploadedPart>();
+        checkpoint.parts().forEach(part -> parts.put(part.partNumber(), part));
+        checkpoints.put(new Key(checkpoint.flowId(), checkpoint.bucketName(), checkpoint.objectKey()), new Entry(checkpoint.uploadId(),
+                checkpoint.sourceEtag(), checkpoint.sourceSize(), parts));
+    }
+
+    @Override
+    public void savePart(String flowId, String bucketName, String objectKey, ObsUploadedPart part) {
+        var entry = checkpoints.get(new Key(flowId, bucketName, objectKey));
+        if (entry != null) {
+            entry.parts().put(part.partNumber(), part);
+        }
+    }
+
+    @Override
+    public void delete(String flowId, String bucketName, String objectKey) {
+        checkpoints.remove(new Key(flowId, bucketName, objectKey));
+    }
+
+    private record Key(String flowId, String bucketName, String objectKey) {
+    }
+
+    private record Entry(String uploadId, String sourceEtag, long sourceSize, Map<Integer, ObsUploadedPart> parts) {
+    }
+}
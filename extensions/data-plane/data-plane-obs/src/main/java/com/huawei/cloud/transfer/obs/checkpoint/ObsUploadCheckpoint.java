@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.checkpoint;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * The progress of the multipart upload of one object within a data flow.
+ *
+ * @param flowId     the id of the data flow the upload belongs to
+ * @param bucketName the destination bucket
+ * @param objectKey  the destination object key
+ * @param uploadId   the id of the multipart upload on OBS
+ * @param sourceEtag the ETag of the source object the upload was started for, null if the source has none
+ * @param sourceSize the size of the source object the upload was started for, -1 if it is unknown
+ * @param parts      the parts that were uploaded so far, in no particular order
+ */
+public record ObsUploadCheckpoint(String flowId, String bucketName, String objectKey, String uploadId, @Nullable String sourceEtag, long sourceSize,
+                                  List<ObsUploadedPart> parts) {
+
+    public ObsUploadCheckpoint {
+        parts = List.copyOf(parts);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.checkpoint;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of the multipart uploads started by the OBS sink, so that an interrupted flow can resume an upload
+ * instead of starting over. Implementations must be thread safe, parts of the same upload are saved concurrently.
+ */
+@ExtensionPoint
+public interface ObsUploadCheckpointStore {
+
+    /**
+     * Returns the checkpoint of the upload of an object in a flow, or null if there is none.
+     */
+    @Nullable
+    ObsUploadCheckpoint find(String flowId, String bucketName, String objectKey);
+
+    /**
+     * Stores a checkpoint, replacing any existing checkpoint of the same object in the same flow, including its parts.
+     */
+    void save(ObsUploadCheckpoint checkpoint);
+
+    /**
+     * Adds a part to an existing checkpoint. Does nothing if there is no checkpoint for the object.
+     */
+    void savePart(String flowId, String bucketName, String objectKey, ObsUploadedPart part);
+
+    /**
+     * Removes the checkpoint of an object, once its upload was completed or aborted.
+     */
+    void delete(String flowId, String bucketName, String objectKey);
+}
@@ -0,0 +1,25 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.checkpoint;
+
+/**
+ * A part of a multipart upload that was acknowledged by OBS.
+ *
+ * @param partNumber the number of the part, starting at 1
+ * @param etag       the ETag OBS returned for the part
+ * @param size       the size of the part in bytes
+ */
+public record ObsUploadedPart(int partNumber, String etag, long size) {
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.credentials;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record ObsCredentialsConfiguration(
+        @Setting(
+                key = "edc.obs.credentials.refresh.enabled",
+                description = "Whether temporary credentials from the vault are renewed before they expire, so that transfers can outlive them",
+                defaultValue = "true"
+        )
+        boolean refreshEnabled,
+        @Setting(
+                key = "edc.obs.credentials.refresh.margin.seconds",
+                description = "Seconds before the expiration of temporary credentials at which their renewal starts",
+                defaultValue = "300"
+        )
+        long refreshMarginSeconds,
+        @Setting(
+                key = "edc.obs.credentials.refresh.retry.seconds",
+                description = "Seconds after which a failed renewal of temporary credentials is tried again",
+                defaultValue = "30"
+        )
+        long refreshRetrySeconds,
+        @Setting(
+                key = "edc.obs.credentials.renewal.duration.seconds",
+                description = "Seconds for which the temporary credentials issued to renew those this runtime issued for a destination bucket are valid",
+                defaultValue = "3600"
+        )
+        int renewalDurationSeconds
+) {
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.credentials;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.huawei.cloud.obs.ObsBucketSchema;
+import com.huawei.cloud.obs.ObsSecretToken;
+import com.huawei.cloud.obs.ObsSecretTokenCache;
+import com.huawei.cloud.obs.ObsTemporaryTokenIssuer;
+import com.huawei.cloud.obs.RefreshingObsCredentialsProvider;
+import com.obs.services.BasicObsCredentialsProvider;
+import com.obs.services.IObsCredentialsProvider;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import static java.lang.String.format;
+
+/**
+ * Creates the credentials providers for secret tokens from the vault. Tokens with an expiration are renewed before
+ * they expire: first from the vault, in case the secret was replaced in the meantime, and for destination buckets whose
+ * token this runtime issued itself by issuing a new temporary key that may write the bucket, which is stored in the
+ * vault under the same secret name. All other tokens, e.g. those another party issued with its own account, are only
+ * renewed from the vault, as neither their account nor their permissions are known.
+ * <p>
+ * The flows that read, or write, with the same secret share one refreshing provider, so that a token is renewed once for
+ * all of them. Providers whose token expired without being renewed are dropped, a later flow starts over.
+ */
+public class ObsCredentialsRefresher {
+
+    private final Vault vault;
+    private final TypeManager typeManager;
+    private final ObsSecretTokenCache secretTokenCache;
+    private final ObsTemporaryTokenIssuer tokenIssuer;
+    private final ObsCredentialsConfiguration configuration;
+    private final Executor executor;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final Map<SharedKey, RefreshingObsCredentialsProvider> providers = new ConcurrentHashMap<>();
+
+    public ObsCredentialsRefresher(Vault vault, TypeManager typeManager, ObsSecretTokenCache secretTokenCache, ObsTemporaryTokenIssuer tokenIssuer,
+                                   ObsCredentialsConfiguration configuration, Executor executor, Clock clock, Monitor monitor) {
+        this.vault = vault;
+        this.typeManager = typeManager;
+        this.secretTokenCache = secretTokenCache;
+        this.tokenIssuer = tokenIssuer;
+        this.configuration = configuration;
+        this.executor = executor;
+        this.clock = clock;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Returns the credentials provider for the token of the data address.
+     *
+     * @param dataAddress The data address whose secret holds the token
+     * @param token       The token
+     * @param destination Whether the data address is written, which allows to issue new tokens for it
+     * @return A refreshing provider for tokens with an expiration, shared by the flows with the same secret, a static one
+     *         otherwise
+     */
+    public IObsCredentialsProvider credentialsProvider(DataAddress dataAddress, ObsSecretToken token, boolean destination) {
+        if (!configuration.refreshEnabled() || token.expiration() == null) {
+            return new BasicObsCredentialsProvider(token.ak(), token.sk(), token.securityToken());
+        }
+        var now = clock.millis();
+        providers.values().removeIf(provider -> isExpired(provider.token(), now));
+        return providers.compute(new SharedKey(dataAddress.getKeyName(), destination), (key, shared) -> shared != null && !expiresBefore(shared.token(), token) ? shared :
+                new RefreshingObsCredentialsProvider(token, current -> renew(dataAddress, current, destination), Duration.ofSeconds(configuration.refreshMarginSeconds()),
+                        Duration.ofSeconds(configuration.refreshRetrySeconds()), executor, clock, monitor));
+    }
+
+    private static boolean isExpired(ObsSecretToken token, long now) {
+        return token.expiration() != null && token.expiration() <= now;
+    }
+
+    private static boolean expiresBefore(ObsSecretToken token, ObsSecretToken other) {
+        return token.expiration() != null && token.expiration() < other.expiration();
+    }
+
+    @Nullable
+    private ObsSecretToken renew(DataAddress dataAddress, ObsSecretToken current, boolean destination) {
+        var keyName = dataAddress.getKeyName();
+        secretTokenCache.invalidate(keyName);
+        var stored = resolve(keyName);
+        if (stored != null && stored.expiration() != null && stored.expiration() > current.expiration()) {
+            return stored;
+        }
+
+        var bucketName = dataAddress.getStringProperty(ObsBucketSchema.BUCKET_NAME);
+        // only tokens this runtime issued are replaced with keys of its own IAM account
+        if (!destination || bucketName == null || !tokenIssuer.hasIssued(current, bucketName)) {
+            return null;
+        }
+        var issued = tokenIssuer.issue(bucketName, configuration.renewalDurationSeconds());
+        var storeResult = vault.storeSecret(keyName, serialize(issued));
+        if (storeResult.failed()) {
+            monitor.warning(format("Could not store the renewed credentials of %s in the vault: %s", keyName, storeResult.getFailureDetail()));
+        }
+        secretTokenCache.invalidate(keyName);
+        return issued;
+    }
+
+    @Nullable
+    private ObsSecretToken resolve(String keyName) {
+        var secret = vault.resolveSecret(keyName);
+        return secret != null ? typeManager.readValue(secret, ObsSecretToken.class) : null;
+    }
+
+    private String serialize(ObsSecretToken token) {
+        try {
+            return typeManager.getMapper().writeValueAsString(token);
+        } catch (JsonProcessingException e) {
+            throw new EdcException("Cannot serialize secret token: " + e.getMessage(), e);
+        }
+    }
+
+    private record SharedKey(String keyName, boolean destination) {
+    }
+}
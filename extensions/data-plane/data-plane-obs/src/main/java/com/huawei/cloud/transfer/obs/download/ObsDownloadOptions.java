@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.download;
+
+import java.util.concurrent.Executor;
+
+/**
+ * How objects are read from OBS. Objects of at least {@code rangedThreshold} bytes are fetched as ranges of
+ * {@code rangeSize} bytes, {@code rangeConcurrency} of them at the same time on the executor. Reads that fail with a
+ * retriable error are resumed according to the retry policy.
+ *
+ * @param executor         executor on which ranges are fetched
+ * @param rangedThreshold  minimum object size for ranged reads
+ * @param rangeSize        size of a range in bytes
+ * @param rangeConcurrency number of ranges fetched or buffered ahead of the reader, 1 disables ranged reads
+ * @param retryPolicy      how reads are resumed after a retriable error
+ */
+public record ObsDownloadOptions(Executor executor, long rangedThreshold, int rangeSize, int rangeConcurrency, ObsRetryPolicy retryPolicy) {
+
+    /**
+     * Options that read every object with a single request and do not resume failed reads.
+     */
+    public static ObsDownloadOptions singleRequest() {
+        return new ObsDownloadOptions(Runnable::run, Long.MAX_VALUE, Integer.MAX_VALUE, 1, ObsRetryPolicy.none());
+    }
+
+    public ObsDownloadOptions {
+        if (rangeSize < 1 || rangeConcurrency < 1) {
+            throw new IllegalArgumentException("Range size and range concurrency must be positive");
+        }
+    }
+
+    /**
+     * Whether an object of the given size, which may be unknown, is read in ranges.
+     */
+    public boolean isRanged(long objectSize) {
+        return rangeConcurrency > 1 && objectSize >= 0 && objectSize >= rangedThreshold;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.download;
+
+/**
+ * How often and how fast a download is resumed after a retriable error. The budget counts consecutive retries
+ * without progress, so that a long download survives any number of failures as long as every reconnect makes progress.
+ *
+ * @param maxRetries          number of consecutive retries without progress before the download fails
+ * @param initialBackoffMillis delay before the first retry, doubled for every following retry
+ */
+public record ObsRetryPolicy(int maxRetries, long initialBackoffMillis) {
+
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    /**
+     * A policy that fails on the first error.
+     */
+    public static ObsRetryPolicy none() {
+        return new ObsRetryPolicy(0, 0);
+    }
+
+    public ObsRetryPolicy {
+        if (maxRetries < 0 || initialBackoffMillis < 0) {
+            throw new IllegalArgumentException("Retry count and backoff must not be negative");
+        }
+    }
+
+    /**
+     * The delay before the given retry, starting at 1.
+     */
+    public long backoffMillis(int retry) {
+        return Math.min(initialBackoffMillis << Math.min(retry - 1, 20), MAX_BACKOFF_MILLIS);
+    }
+}
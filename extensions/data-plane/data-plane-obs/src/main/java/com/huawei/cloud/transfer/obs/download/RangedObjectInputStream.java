@@ -0,0 +1,239 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.download;
+
+import com.obs.services.IObsClient;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static java.lang.String.format;
+
+/**
+ * Reads an object of known size as consecutive byte ranges that are fetched concurrently and handed to the reader in
+ * order. At most {@code rangeConcurrency} ranges are fetched or waiting to be read at any time, so the memory held by
+ * the stream is bounded by {@code (rangeConcurrency + 1) * rangeSize}. Ranges are requested with the ETag of the
+ * object, so that a change of the object while it is read fails the stream instead of mixing two versions. Each range
+ * is read with a {@link ResumableObjectInputStream}, so that a failed range is resumed instead of fetched again.
+ * <p>
+ * The size may be a hint, e.g. from a manifest, that is stale: the last range is read to the end of the object, so
+ * that an object with more or fewer bytes fails the stream instead of being truncated.
+ * <p>
+ * Skipped bytes are not fetched: ranges that are skipped entirely are dropped, and the ranges after the window start
+ * at the new position. Skipping and closing abort the downloads of the dropped ranges that are in progress.
+ */
+public class RangedObjectInputStream extends InputStream {
+
+    private final IObsClient client;
+    private final String bucketName;
+    private final String keyName;
+    private final long size;
+    private final String etag;
+    private final ObsDownloadOptions options;
+    private final Deque<Range> window = new ArrayDeque<>();
+    private long nextRangeStart;
+    // bytes at the start of the first range of the window that were skipped
+    private long skippedInRange;
+    private byte[] current = new byte[0];
+    private int position;
+    private boolean closed;
+
+    public RangedObjectInputStream(IObsClient client, String bucketName, String keyName, long size, @Nullable String etag, ObsDownloadOptions options) {
+        this.client = client;
+        this.bucketName = bucketName;
+        this.keyName = keyName;
+        this.size = size;
+        this.etag = etag;
+        this.options = options;
+        fillWindow();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        return current[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        var count = Math.min(length, current.length - position);
+        System.arraycopy(current, position, buffer, offset, count);
+        position += count;
+        return count;
+    }
+
+    /**
+     * Skips the bytes without fetching them: the bytes of the current range are passed over, ranges of the window that
+     * lie entirely within the skipped bytes are dropped, and the ranges that are not scheduled yet start after them.
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (n <= 0) {
+            return 0;
+        }
+        var buffered = current.length - position;
+        if (n <= buffered) {
+            position += (int) n;
+            return n;
+        }
+        position = current.length;
+        var skipped = (long) buffered;
+        while (skipped < n) {
+            var range = window.peek();
+            if (range == null) {
+                var count = Math.min(n - skipped, size - nextRangeStart);
+                nextRangeStart += count;
+                skipped += count;
+                break;
+            }
+            var unread = range.length() - skippedInRange;
+            if (n - skipped < unread) {
+                skippedInRange += n - skipped;
+                skipped = n;
+            } else {
+                window.poll().cancel();
+                skippedInRange = 0;
+                skipped += unread;
+            }
+        }
+        fillWindow();
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return current.length - position;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        window.forEach(Range::cancel);
+        window.clear();
+        current = new byte[0];
+    }
+
+    private boolean ensureAvailable() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (position < current.length) {
+            return true;
+        }
+        var range = window.poll();
+        if (range == null) {
+            return false;
+        }
+        current = await(range.content);
+        position = (int) skippedInRange;
+        skippedInRange = 0;
+        fillWindow();
+        return true;
+    }
+
+    private void fillWindow() {
+        while (window.size() < options.rangeConcurrency() && nextRangeStart < size) {
+            var start = nextRangeStart;
+            var end = Math.min(start + options.rangeSize(), size) - 1;
+            var range = new Range(start, end);
+            range.content = CompletableFuture.supplyAsync(() -> fetch(range), options.executor());
+            window.add(range);
+            nextRangeStart = end + 1;
+        }
+    }
+
+    private byte[] fetch(Range range) {
+        var expected = (int) range.length();
+        var last = range.end == size - 1;
+        // the last range is open, a byte past the expected size shows that the object is larger
+        try (var content = new ResumableObjectInputStream(client, bucketName, keyName, range.start, last ? -1 : range.end, etag, options.retryPolicy())) {
+            range.stream = content;
+            if (range.content != null && range.content.isCancelled()) {
+                throw new IOException(format("Range %s-%s of %s was cancelled", range.start, range.end, keyName));
+            }
+            var bytes = content.readNBytes(last ? expected + 1 : expected);
+            if (bytes.length > expected) {
+                throw new IOException(format("Object %s has more than the expected %s bytes", keyName, size));
+            }
+            if (bytes.length != expected) {
+                throw new IOException(format("Range %s-%s of %s returned %s bytes", range.start, range.end, keyName, bytes.length));
+            }
+            return bytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] await(CompletableFuture<byte[]> range) throws IOException {
+        try {
+            return range.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException cause) {
+                throw cause.getCause();
+            }
+            throw new IOException(format("Error reading %s from the %s bucket", keyName, bucketName), e.getCause());
+        }
+    }
+
+    /**
+     * A range of the object and its download, which is aborted when the range is dropped.
+     */
+    private static class Range {
+
+        private final long start;
+        private final long end;
+        private volatile CompletableFuture<byte[]> content;
+        private volatile ResumableObjectInputStream stream;
+
+        Range(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        long length() {
+            return end - start + 1;
+        }
+
+        /**
+         * Cancels a download that did not start yet and aborts one in progress by closing its connection.
+         */
+        void cancel() {
+            content.cancel(true);
+            var running = stream;
+            if (running != null) {
+                running.close();
+            }
+        }
+    }
+}
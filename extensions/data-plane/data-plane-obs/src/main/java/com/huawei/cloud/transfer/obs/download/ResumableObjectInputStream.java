@@ -0,0 +1,240 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.download;
+
+import com.obs.services.IObsClient;
+import com.obs.services.exception.ObsException;
+import com.obs.services.model.GetObjectRequest;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * Reads an object, or a byte range of it, and transparently resumes after a retriable error by reopening the object
+ * with a range request from the first byte that was not consumed yet. Reopened requests carry the ETag of the object,
+ * taken from the listing or from the first response, so that a resumed download never mixes two versions of the
+ * object. The object is opened on the first read.
+ * <p>
+ * An object read with an expected size, e.g. one taken from a manifest that may be stale, is read to its end and fails
+ * the stream if it turns out to have fewer or more bytes, instead of being truncated silently.
+ * <p>
+ * The stream may be closed from another thread, which aborts a read in progress without resuming it.
+ */
+public class ResumableObjectInputStream extends InputStream {
+
+    private static final long SKIP_REOPEN_THRESHOLD = 1024 * 1024;
+
+    private final IObsClient client;
+    private final String bucketName;
+    private final String keyName;
+    private final long end;
+    private final long expectedSize;
+    private final ObsRetryPolicy retryPolicy;
+    private final byte[] single = new byte[1];
+    private String etag;
+    private long position;
+    private volatile InputStream content;
+    private int retries;
+    private boolean endOfObject;
+    private volatile boolean closed;
+
+    /**
+     * Reads the bytes {@code start} to {@code end}, both inclusive, of an object. An {@code end} of -1 reads to the
+     * end of the object.
+     */
+    public ResumableObjectInputStream(IObsClient client, String bucketName, String keyName, long start, long end, @Nullable String etag,
+                                      ObsRetryPolicy retryPolicy) {
+        this(client, bucketName, keyName, start, end, -1, etag, retryPolicy);
+    }
+
+    /**
+     * Reads a whole object that is expected to have {@code size} bytes.
+     */
+    public ResumableObjectInputStream(IObsClient client, String bucketName, String keyName, long size, @Nullable String etag, ObsRetryPolicy retryPolicy) {
+        this(client, bucketName, keyName, 0, -1, size, etag, retryPolicy);
+    }
+
+    private ResumableObjectInputStream(IObsClient client, String bucketName, String keyName, long start, long end, long expectedSize, @Nullable String etag,
+                                       ObsRetryPolicy retryPolicy) {
+        this.client = client;
+        this.bucketName = bucketName;
+        this.keyName = keyName;
+        this.position = start;
+        this.end = end;
+        this.expectedSize = expectedSize;
+        this.etag = etag;
+        this.retryPolicy = retryPolicy;
+    }
+
+    @Override
+    public int read() throws IOException {
+        var count = read(single, 0, 1);
+        return count == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (length == 0) {
+            return 0;
+        }
+        while (true) {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (isComplete()) {
+                return -1;
+            }
+            int count;
+            try {
+                count = content().read(buffer, offset, (int) Math.min(length, remaining()));
+                if (count == -1) {
+                    if (end >= 0 || position < expectedSize) {
+                        throw new EOFException(format("Unexpected end of %s at byte %s of %s", keyName, position, end >= 0 ? end + 1 : expectedSize));
+                    }
+                    endOfObject = true;
+                    return -1;
+                }
+            } catch (ObsException e) {
+                if (isRangeAtExpectedEnd(e)) {
+                    endOfObject = true;
+                    return -1;
+                }
+                recover(e);
+                continue;
+            } catch (IOException e) {
+                recover(e);
+                continue;
+            }
+            position += count;
+            retries = 0;
+            if (expectedSize >= 0 && position > expectedSize) {
+                throw new IOException(format("Object %s has more than the expected %s bytes", keyName, expectedSize));
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Skips large distances of a bounded read, or of a read of an expected size, by reopening the object at the new
+     * position instead of reading the skipped bytes.
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0 || closed || isComplete()) {
+            return 0;
+        }
+        if ((end < 0 && expectedSize < 0) || (content != null && n < SKIP_REOPEN_THRESHOLD)) {
+            return super.skip(n);
+        }
+        var count = Math.min(n, end >= 0 ? remaining() : expectedSize - position);
+        closeContent();
+        position += count;
+        return count;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        closeContent();
+    }
+
+    private InputStream content() {
+        var open = content;
+        if (open == null) {
+            var request = new GetObjectRequest(bucketName, keyName);
+            if (position > 0 || end >= 0) {
+                request.setRangeStart(position);
+                request.setRangeEnd(end >= 0 ? end : null);
+            }
+            if (etag != null) {
+                request.setIfMatchTag(etag);
+            }
+            var obsObject = client.getObject(request);
+            if (etag == null && obsObject.getMetadata() != null) {
+                etag = obsObject.getMetadata().getEtag();
+            }
+            open = obsObject.getObjectContent();
+            content = open;
+            if (closed) {
+                closeContent();
+            }
+        }
+        return open;
+    }
+
+    private void recover(Exception error) throws IOException {
+        closeContent();
+        if (closed) {
+            throw new IOException("Stream closed", error);
+        }
+        if (!isRetriable(error) || retries >= retryPolicy.maxRetries()) {
+            if (error instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(format("Error reading %s from the %s bucket at byte %s", keyName, bucketName, position), error);
+        }
+        retries++;
+        try {
+            Thread.sleep(retryPolicy.backoffMillis(retries));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(format("Interrupted while resuming %s from the %s bucket", keyName, bucketName));
+        }
+    }
+
+    private boolean isRetriable(Exception error) {
+        if (error instanceof ObsException obsException) {
+            var code = obsException.getResponseCode();
+            return code <= 0 || code == 408 || code == 429 || code >= 500;
+        }
+        return !(error instanceof InterruptedIOException) || error instanceof SocketTimeoutException;
+    }
+
+    /**
+     * Whether a read of an expected size was reopened at its expected end, where an object of that size has no bytes
+     * left to satisfy the range.
+     */
+    private boolean isRangeAtExpectedEnd(ObsException error) {
+        return end < 0 && position > 0 && position == expectedSize && error.getResponseCode() == 416;
+    }
+
+    private boolean isComplete() {
+        return endOfObject || (end >= 0 && position > end);
+    }
+
+    private long remaining() {
+        return end >= 0 ? end - position + 1 : Long.MAX_VALUE;
+    }
+
+    private void closeContent() {
+        var open = content;
+        if (open != null) {
+            content = null;
+            try {
+                open.close();
+            } catch (IOException ignored) {
+                // the connection is discarded anyway
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.incremental;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Watermark store that lives as long as the runtime: after a restart of the data plane, the next incremental transfer
+ * of an asset compares every object with the destination.
+ */
+public class InMemoryObsTransferWatermarkStore implements ObsTransferWatermarkStore {
+
+    private final Map<Key, Instant> watermarks = new ConcurrentHashMap<>();
+
+    @Override
+    public @Nullable Instant find(String assetId, String bucketName) {
+        return watermarks.get(new Key(assetId, bucketName));
+    }
+
+    @Override
+    public void save(String assetId, String bucketName, Instant watermark) {
+        watermarks.put(new Key(assetId, bucketName), watermark);
+    }
+
+    private record Key(String assetId, String bucketName) {
+    }
+}
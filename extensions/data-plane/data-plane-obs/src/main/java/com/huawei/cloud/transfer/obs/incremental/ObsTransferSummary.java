@@ -0,0 +1,26 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.incremental;
+
+/**
+ * Result of an incremental transfer: the objects that were transferred and the objects, and their bytes, that were
+ * skipped because the destination already held them.
+ *
+ * @param transferredObjects number of objects written to the destination
+ * @param skippedObjects     number of unchanged objects that were skipped
+ * @param skippedBytes       total size of the skipped objects, as far as it was known
+ */
+public record ObsTransferSummary(long transferredObjects, long skippedObjects, long skippedBytes) {
+}
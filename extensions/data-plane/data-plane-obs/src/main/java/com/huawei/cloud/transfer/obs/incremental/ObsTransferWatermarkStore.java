@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.incremental;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+
+/**
+ * Keeps the watermark of the incremental transfers of an asset into a destination bucket: the time the listing of the
+ * source started in the last transfer that completed, less a margin for clock skew. Every object modified later may
+ * have been missed by that listing, source objects modified before the watermark are not transferred again.
+ * Implementations must be thread safe.
+ */
+@ExtensionPoint
+public interface ObsTransferWatermarkStore {
+
+    /**
+     * Returns the watermark of an asset in a destination bucket, or null if no incremental transfer completed yet.
+     */
+    @Nullable
+    Instant find(String assetId, String bucketName);
+
+    /**
+     * Stores the watermark of an asset in a destination bucket, replacing any earlier one.
+     */
+    void save(String assetId, String bucketName, Instant watermark);
+}
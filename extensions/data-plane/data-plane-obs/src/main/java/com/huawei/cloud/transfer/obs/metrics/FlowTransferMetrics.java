@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of a single flow, which also feed the totals of the runtime. A sink creates one instance when it is built
+ * and closes it when the flow ended, recording a part does not allocate.
+ */
+public class FlowTransferMetrics implements AutoCloseable {
+
+    private final String flowId;
+    private final ObsTransferMetrics metrics;
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder copiedBytes = new LongAdder();
+    private final LongAdder expectedBytes = new LongAdder();
+    private final LongAdder parts = new LongAdder();
+    private final LongAdder objects = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder skippedObjects = new LongAdder();
+    private final LongAdder skippedBytes = new LongAdder();
+
+    FlowTransferMetrics(String flowId, ObsTransferMetrics metrics) {
+        this.flowId = flowId;
+        this.metrics = metrics;
+    }
+
+    public String flowId() {
+        return flowId;
+    }
+
+    /**
+     * Marks the start of a part upload, must be followed by {@link #partUploaded(long, long)} or
+     * {@link #partFailed()}.
+     */
+    public void partStarted() {
+        metrics.partStarted();
+    }
+
+    public void partUploaded(long bytes, long nanos) {
+        this.bytes.add(bytes);
+        parts.increment();
+        metrics.partUploaded(bytes, nanos);
+    }
+
+    public void partFailed() {
+        metrics.partFailed();
+    }
+
+    /**
+     * Marks the start of an object transfer, objects of known size add to the expected bytes of the flow.
+     */
+    public void objectStarted(long size) {
+        if (size > 0) {
+            expectedBytes.add(size);
+        }
+    }
+
+    public void objectTransferred() {
+        objects.increment();
+        metrics.objectTransferred();
+    }
+
+    /**
+     * Records the bytes of an object OBS copied server-side, which are not uploaded by the sink and so are counted
+     * apart from the uploaded bytes.
+     */
+    public void objectCopied(long size) {
+        copiedBytes.add(size);
+        metrics.objectCopied(size);
+    }
+
+    public void objectFailed(String bucketName) {
+        failures.increment();
+        metrics.objectFailed(bucketName);
+    }
+
+    /**
+     * Records an object that was not transferred because the destination already held it, objects of unknown size
+     * are counted without bytes.
+     */
+    public void objectSkipped(long size) {
+        skippedObjects.increment();
+        if (size > 0) {
+            skippedBytes.add(size);
+        }
+        metrics.objectSkipped(size);
+    }
+
+    public long bytes() {
+        return bytes.sum();
+    }
+
+    public long copiedBytes() {
+        return copiedBytes.sum();
+    }
+
+    /**
+     * Returns the total size of the objects started so far whose size was known, which together with {@link #bytes()}
+     * and {@link #copiedBytes()} gives the progress of the flow.
+     */
+    public long expectedBytes() {
+        return expectedBytes.sum();
+    }
+
+    public long parts() {
+        return parts.sum();
+    }
+
+    public long objects() {
+        return objects.sum();
+    }
+
+    public long failures() {
+        return failures.sum();
+    }
+
+    public long skippedObjects() {
+        return skippedObjects.sum();
+    }
+
+    public long skippedBytes() {
+        return skippedBytes.sum();
+    }
+
+    @Override
+    public void close() {
+        metrics.remove(this);
+    }
+}
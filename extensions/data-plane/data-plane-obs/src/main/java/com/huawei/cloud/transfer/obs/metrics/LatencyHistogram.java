@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies with fixed bucket bounds. Recording a value does not allocate.
+ */
+public class LatencyHistogram {
+
+    /**
+     * Upper bounds of the buckets in milliseconds, a last bucket holds everything above.
+     */
+    public static final long[] BUCKET_BOUNDS_MILLIS = { 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000 };
+
+    private final LongAdder[] counts = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+    private final LongAdder totalMillis = new LongAdder();
+
+    public LatencyHistogram() {
+        for (var i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        var millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        var bucket = 0;
+        while (bucket < BUCKET_BOUNDS_MILLIS.length && millis > BUCKET_BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        counts[bucket].increment();
+        totalMillis.add(millis);
+    }
+
+    /**
+     * Returns the number of values per bucket, the last element counts the values above the highest bound.
+     */
+    public long[] counts() {
+        var snapshot = new long[counts.length];
+        for (var i = 0; i < counts.length; i++) {
+            snapshot[i] = counts[i].sum();
+        }
+        return snapshot;
+    }
+
+    public long count() {
+        var count = 0L;
+        for (var bucketCount : counts) {
+            count += bucketCount.sum();
+        }
+        return count;
+    }
+
+    public long totalMillis() {
+        return totalMillis.sum();
+    }
+
+    /**
+     * Returns the upper bound of the bucket containing the given percentile, {@link Long#MAX_VALUE} if the percentile
+     * lies above the highest bound, or -1 if nothing was recorded.
+     */
+    public long percentileUpperBoundMillis(double percentile) {
+        var snapshot = counts();
+        var total = 0L;
+        for (var count : snapshot) {
+            total += count;
+        }
+        if (total == 0) {
+            return -1;
+        }
+        var rank = (long) Math.ceil(total * percentile / 100.0);
+        var seen = 0L;
+        for (var i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return BUCKET_BOUNDS_MILLIS[i];
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+}
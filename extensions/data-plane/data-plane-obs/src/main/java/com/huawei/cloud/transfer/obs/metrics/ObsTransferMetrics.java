@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.metrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Transfer metrics of all OBS sinks of the runtime: uploaded bytes, parts and objects, the bytes copied server-side, the
+ * part upload latency, the parts currently uploading, the failed objects per destination bucket and the objects skipped
+ * by incremental transfers. The counters are cumulative, rates are derived by comparing two readings, as the
+ * {@link ObsTransferMetricsReporter} does. The duration of the connection warm-up of every endpoint is kept as well.
+ */
+public class ObsTransferMetrics {
+
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder copiedBytes = new LongAdder();
+    private final LongAdder parts = new LongAdder();
+    private final LongAdder objects = new LongAdder();
+    private final LongAdder partFailures = new LongAdder();
+    private final LongAdder inFlightParts = new LongAdder();
+    private final LongAdder skippedObjects = new LongAdder();
+    private final LongAdder skippedBytes = new LongAdder();
+    private final LatencyHistogram partLatency = new LatencyHistogram();
+    private final Map<String, LongAdder> failuresByBucket = new ConcurrentHashMap<>();
+    private final Set<FlowTransferMetrics> flows = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> warmupMillis = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the counters of a flow, which are tracked until they are closed.
+     */
+    public FlowTransferMetrics forFlow(String flowId) {
+        var flow = new FlowTransferMetrics(flowId, this);
+        flows.add(flow);
+        return flow;
+    }
+
+    public long bytes() {
+        return bytes.sum();
+    }
+
+    public long copiedBytes() {
+        return copiedBytes.sum();
+    }
+
+    public long parts() {
+        return parts.sum();
+    }
+
+    public long objects() {
+        return objects.sum();
+    }
+
+    public long partFailures() {
+        return partFailures.sum();
+    }
+
+    public long inFlightParts() {
+        return inFlightParts.sum();
+    }
+
+    public long skippedObjects() {
+        return skippedObjects.sum();
+    }
+
+    public long skippedBytes() {
+        return skippedBytes.sum();
+    }
+
+    public LatencyHistogram partLatency() {
+        return partLatency;
+    }
+
+    /**
+     * Returns the number of failed objects per destination bucket, sorted by bucket name.
+     */
+    public Map<String, Long> failuresByBucket() {
+        var failures = new TreeMap<String, Long>();
+        failuresByBucket.forEach((bucket, count) -> failures.put(bucket, count.sum()));
+        return failures;
+    }
+
+    /**
+     * Returns the counters of the flows that are currently running.
+     */
+    public Collection<FlowTransferMetrics> activeFlows() {
+        return Collections.unmodifiableSet(flows);
+    }
+
+    /**
+     * Returns the duration of the connection warm-up per endpoint, sorted by endpoint.
+     */
+    public Map<String, Long> warmupMillis() {
+        return new TreeMap<>(warmupMillis);
+    }
+
+    /**
+     * Records that the connections to an endpoint were warmed up.
+     *
+     * @param endpoint The endpoint
+     * @param duration The time the warm-up took
+     */
+    public void connectionsWarmedUp(String endpoint, Duration duration) {
+        warmupMillis.put(endpoint, duration.toMillis());
+    }
+
+    void partStarted() {
+        inFlightParts.increment();
+    }
+
+    void partUploaded(long bytes, long nanos) {
+        inFlightParts.decrement();
+        this.bytes.add(bytes);
+        parts.increment();
+        partLatency.record(nanos);
+    }
+
+    void partFailed() {
+        inFlightParts.decrement();
+        partFailures.increment();
+    }
+
+    void objectTransferred() {
+        objects.increment();
+    }
+
+    void objectCopied(long size) {
+        copiedBytes.add(size);
+    }
+
+    void objectFailed(String bucketName) {
+        failuresByBucket.computeIfAbsent(bucketName, bucket -> new LongAdder()).increment();
+    }
+
+    void objectSkipped(long size) {
+        skippedObjects.increment();
+        if (size > 0) {
+            skippedBytes.add(size);
+        }
+    }
+
+    void remove(FlowTransferMetrics flow) {
+        flows.remove(flow);
+    }
+}
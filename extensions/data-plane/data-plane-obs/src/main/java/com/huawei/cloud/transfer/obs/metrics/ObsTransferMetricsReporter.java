@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.metrics;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Periodically writes the OBS transfer metrics to the monitor, with the rates since the previous report. Connection
+ * warm-ups are reported once they completed.
+ */
+public class ObsTransferMetricsReporter implements Runnable {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final ObsTransferMetrics metrics;
+    private final Monitor monitor;
+    private long lastReport;
+    private long lastBytes;
+    private long lastCopiedBytes;
+    private long lastParts;
+    private Map<String, Long> lastWarmups = Map.of();
+
+    public ObsTransferMetricsReporter(ObsTransferMetrics metrics, Monitor monitor) {
+        this.metrics = metrics;
+        this.monitor = monitor;
+        this.lastReport = System.nanoTime();
+    }
+
+    @Override
+    public synchronized void run() {
+        var now = System.nanoTime();
+        var bytes = metrics.bytes();
+        var copiedBytes = metrics.copiedBytes();
+        var parts = metrics.parts();
+        var seconds = (now - lastReport) / NANOS_PER_SECOND;
+        if (parts != lastParts || copiedBytes != lastCopiedBytes || metrics.inFlightParts() > 0) {
+            monitor.info(format("OBS transfer: %.1f MB/s, %.1f MB/s copied server-side, %.1f parts/s, %s parts in flight, %s active flows, %s objects, " +
+                            "%s skipped objects (%.1f MB), %s failed parts, part latency p50 %s ms p99 %s ms, latency buckets %s, failures per bucket %s",
+                    (bytes - lastBytes) / (1024.0 * 1024.0) / seconds, (copiedBytes - lastCopiedBytes) / (1024.0 * 1024.0) / seconds,
+                    (parts - lastParts) / seconds, metrics.inFlightParts(),
+                    metrics.activeFlows().size(), metrics.objects(), metrics.skippedObjects(), metrics.skippedBytes() / (1024.0 * 1024.0),
+                    metrics.partFailures(),
+                    bound(metrics.partLatency().percentileUpperBoundMillis(50)), bound(metrics.partLatency().percentileUpperBoundMillis(99)),
+                    Arrays.toString(metrics.partLatency().counts()), metrics.failuresByBucket()));
+        }
+        var warmups = metrics.warmupMillis();
+        if (!warmups.equals(lastWarmups)) {
+            monitor.info(format("OBS connection warm-up: duration per endpoint in ms %s", warmups));
+            lastWarmups = warmups;
+        }
+        lastReport = now;
+        lastBytes = bytes;
+        lastCopiedBytes = copiedBytes;
+        lastParts = parts;
+    }
+
+    private String bound(long millis) {
+        if (millis < 0) {
+            return "-";
+        }
+        if (millis == Long.MAX_VALUE) {
+            return "> " + LatencyHistogram.BUCKET_BOUNDS_MILLIS[LatencyHistogram.BUCKET_BOUNDS_MILLIS.length - 1];
+        }
+        return "<= " + millis;
+    }
+}
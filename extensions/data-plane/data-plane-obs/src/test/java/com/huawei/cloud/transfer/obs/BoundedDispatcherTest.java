@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+
+package com.huawei.cloud.transfer.obs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedDispatcherTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void submit_runsAtMostLimitTasks() throws InterruptedException {
+        var dispatcher = new BoundedDispatcher(executor, 2);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var tasks = new ArrayList<CompletableFuture<Integer>>();
+
+        for (var i = 0; i < 6; i++) {
+            var task = i;
+            tasks.add(dispatcher.submit(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return task;
+            }));
+        }
+        Thread.sleep(100);
+        assertThat(running).hasValue(2);
+        release.countDown();
+
+        assertThat(tasks.stream().map(CompletableFuture::join)).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(maxRunning).hasValue(2);
+    }
+
+    @Test
+    void submit_failedTaskFreesSlot() {
+        var dispatcher = new BoundedDispatcher(executor, 1);
+
+        var failed = dispatcher.<Integer>submit(() -> {
+            throw new IllegalStateException("failed");
+        });
+        var next = dispatcher.submit(() -> 1);
+
+        assertThatThrownBy(failed::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(next.join()).isEqualTo(1);
+    }
+}
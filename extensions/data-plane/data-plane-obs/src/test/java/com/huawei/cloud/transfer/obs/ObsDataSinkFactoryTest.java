@@ -16,6 +16,11 @@ package com.huawei.cloud.transfer.obs;
 
 import com.huawei.cloud.obs.ObsBucketSchema;
 import com.huawei.cloud.obs.ObsClientProvider;
+import com.huawei.cloud.obs.ObsSecretTokenCache;
+import com.huawei.cloud.transfer.obs.buffer.ChunkBufferPool;
+import com.huawei.cloud.transfer.obs.checkpoint.InMemoryObsUploadCheckpointStore;
+import com.huawei.cloud.transfer.obs.incremental.InMemoryObsTransferWatermarkStore;
+import com.huawei.cloud.transfer.obs.metrics.ObsTransferMetrics;
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.assertions.AbstractResultAssert;
 import org.eclipse.edc.spi.EdcException;
@@ -26,6 +31,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -38,6 +45,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,7 +54,10 @@ class ObsDataSinkFactoryTest {
     private final Vault vaultMock = mock();
     private final ExecutorService executor = Executors.newFixedThreadPool(1);
     private final ObsClientProvider obsClientProviderMock = mock();
-    private final ObsDataSinkFactory factory = new ObsDataSinkFactory(vaultMock, new JacksonTypeManager(), mock(), executor, obsClientProviderMock);
+    private final ObsDataSinkFactory factory = new ObsDataSinkFactory(vaultMock, new JacksonTypeManager(), mock(), executor, executor,
+            executor, obsClientProviderMock, new ObsSecretTokenCache(100, Duration.ofMinutes(5), Clock.systemUTC()), null, new ObsTransferConfiguration(4, 1, 4, 64, 64, 5, 1024, false, true, true, 60),
+            new ChunkBufferPool(1024 * 1024 * 128, false), new InMemoryObsUploadCheckpointStore(), new ObsTransferMetrics(),
+            new InMemoryObsTransferWatermarkStore());
 
     @BeforeEach
     void setUp() {
@@ -127,6 +138,24 @@ class ObsDataSinkFactoryTest {
         verify(vaultMock).resolveSecret(eq(dest.getKeyName()));
     }
 
+    @Test
+    void createSink_credentialsFromVault_areCached() {
+        var dest = dataAddressWithoutCredentials();
+        when(vaultMock.resolveSecret("aKey")).thenReturn("""
+                {
+                  "edctype": "dataspaceconnector:obssecrettoken",
+                  "ak": "test-ak",
+                  "sk": "test-sk",
+                  "expiration": %s
+                }
+                """.formatted(System.currentTimeMillis() + 60_000));
+
+        factory.createSink(createRequest(dest));
+        factory.createSink(createRequest(dest));
+
+        verify(vaultMock, times(1)).resolveSecret(eq(dest.getKeyName()));
+    }
+
     @Disabled("Untestable, as there is no (easy) way to mock the env var access")
     @Test
     void createSink_credentialsFromEnv() {
@@ -14,35 +14,73 @@
 
 package com.huawei.cloud.transfer.obs;
 
+import com.huawei.cloud.transfer.obs.bundle.ObsBundlePart;
+import com.huawei.cloud.transfer.obs.checkpoint.InMemoryObsUploadCheckpointStore;
+import com.huawei.cloud.transfer.obs.checkpoint.ObsUploadCheckpoint;
+import com.huawei.cloud.transfer.obs.checkpoint.ObsUploadedPart;
+import com.huawei.cloud.transfer.obs.download.ObsDownloadOptions;
+import com.huawei.cloud.transfer.obs.incremental.InMemoryObsTransferWatermarkStore;
+import com.huawei.cloud.transfer.obs.incremental.ObsTransferSummary;
+import com.huawei.cloud.transfer.obs.incremental.ObsTransferWatermarkStore;
+import com.huawei.cloud.transfer.obs.metrics.ObsTransferMetrics;
 import com.obs.services.ObsClient;
+import com.obs.services.exception.ObsException;
+import com.obs.services.model.CompleteMultipartUploadRequest;
+import com.obs.services.model.InitiateMultipartUploadRequest;
+import com.obs.services.model.ListMultipartUploadsRequest;
+import com.obs.services.model.PartEtag;
 import com.obs.services.model.PutObjectRequest;
+import com.obs.services.model.UploadPartRequest;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import static java.lang.System.Logger.Level.INFO;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 abstract class ObsDataSinkTestBase {
+    private static final System.Logger LOGGER = System.getLogger(ObsDataSinkTestBase.class.getName());
     private static final int SIZE_5MB = 1024 * 1024 * 5;
     protected static File testFile;
     public String bucketName;
@@ -83,6 +121,72 @@ abstract class ObsDataSinkTestBase {
         assertThat(result).withFailMessage(result::getFailureDetail).isSucceeded();
     }
 
+    @Test
+    void transfer_sourceFailsToOpen_closesFlowMetrics() {
+        var transferMetrics = new ObsTransferMetrics();
+        var sink = ObsDataSink.Builder.newInstance()
+                .client(getObsClient())
+                .bucketName(bucketName)
+                .requestId(UUID.randomUUID().toString())
+                .executorService(Executors.newFixedThreadPool(1))
+                .monitor(mock())
+                .metrics(transferMetrics.forFlow("flow"))
+                .build();
+        DataSource source = mock();
+        when(source.openPartStream()).thenReturn(StreamResult.error("failed"));
+
+        assertThat(sink.transfer(source).join()).isFailed();
+        assertThat(transferMetrics.activeFlows()).isEmpty();
+    }
+
+    @Test
+    void transfer_sourceFailsWhileListing_completesRunningTransfers() {
+        var objectExecutor = Executors.newFixedThreadPool(2);
+        var executor = Executors.newFixedThreadPool(1);
+        try {
+            var sink = ObsDataSink.Builder.newInstance()
+                    .client(getObsClient())
+                    .bucketName(bucketName)
+                    .objectConcurrency(2)
+                    .objectExecutor(objectExecutor)
+                    .requestId(UUID.randomUUID().toString())
+                    .executorService(executor)
+                    .monitor(mock())
+                    .build();
+            var parts = Stream.<Supplier<DataSource.Part>>of(
+                    () -> new InputStreamDataSource("listed", new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8))),
+                    () -> {
+                        throw new ObsException("listing failed");
+                    }).map(Supplier::get);
+            DataSource source = mock();
+            when(source.openPartStream()).thenReturn(StreamResult.success(parts));
+
+            var result = sink.transfer(source).join();
+
+            assertThat(result).isFailed().detail().contains("listing failed");
+            assertThat(getObsClient().getObjectMetadata(bucketName, "listed").getContentLength()).isEqualTo(7L);
+        } finally {
+            objectExecutor.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void partitionSize_isIgnored() {
+        var sink = ObsDataSink.Builder.newInstance()
+                .client(getObsClient())
+                .bucketName(bucketName)
+                .partitionSize(1)
+                .requestId(UUID.randomUUID().toString())
+                .executorService(Executors.newFixedThreadPool(1))
+                .monitor(mock())
+                .build();
+
+        var result = sink.transferParts(List.of(createPart(testFile), new InputStreamDataSource("second", new ByteArrayInputStream(new byte[1]))));
+
+        assertThat(result).isSucceeded();
+    }
+
     @Test
     void uploadFile_alreadyExists() {
         var req = new PutObjectRequest(bucketName, testFile.getName(), testFile);
@@ -118,6 +222,319 @@ abstract class ObsDataSinkTestBase {
                 "The specified bucket does not exist").formatted(testFile.getName(), bucket));
     }
 
+    @Test
+    @Tag("benchmark")
+    void uploadFile_concurrentParts_comparedToSequential() throws IOException {
+        // 8 parts of 5mb each, which is the minimum part size MinIO accepts
+        var file = createRandomFile(SIZE_5MB * 8);
+
+        var sequential = uploadAndMeasure(file, 1, 0);
+        var doubleBuffered = uploadAndMeasure(file, 1, 1);
+        var concurrent = uploadAndMeasure(file, 4, 0);
+
+        LOGGER.log(INFO, () -> "multipart upload of %s bytes: sequential %.2f MB/s, double buffered %.2f MB/s, 4 concurrent parts %.2f MB/s".formatted(
+                file.length(), throughput(file, sequential), throughput(file, doubleBuffered), throughput(file, concurrent)));
+    }
+
+    @Test
+    void uploadFile_resumesInterruptedMultipartUpload() throws IOException {
+        var file = createRandomFile(SIZE_5MB * 4);
+        var content = Files.readAllBytes(file.toPath());
+        var flowId = UUID.randomUUID().toString();
+        var checkpointStore = new InMemoryObsUploadCheckpointStore();
+
+        // a previous attempt uploaded the first two parts before it was interrupted
+        var part = createPart(file);
+        var uploadId = getObsClient().initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, file.getName())).getUploadId();
+        checkpointStore.save(new ObsUploadCheckpoint(flowId, bucketName, file.getName(), uploadId, null, part.size(), List.of()));
+        for (var partNumber = 1; partNumber <= 2; partNumber++) {
+            var request = new UploadPartRequest(bucketName, file.getName());
+            request.setUploadId(uploadId);
+            request.setPartNumber(partNumber);
+            request.setInput(new ByteArrayInputStream(content, (partNumber - 1) * SIZE_5MB, SIZE_5MB));
+            var etag = getObsClient().uploadPart(request).getEtag();
+            checkpointStore.savePart(flowId, bucketName, file.getName(), new ObsUploadedPart(partNumber, etag, SIZE_5MB));
+        }
+
+        var client = spy(getObsClient());
+        var sink = ObsDataSink.Builder.newInstance()
+                .client(client)
+                .bucketName(bucketName)
+                .chunkSizeBytes(SIZE_5MB)
+                .flowId(flowId)
+                .checkpointStore(checkpointStore)
+                .requestId(UUID.randomUUID().toString())
+                .executorService(Executors.newFixedThreadPool(1))
+                .monitor(mock())
+                .build();
+
+        var result = sink.transferParts(List.of(part));
+
+        assertThat(result).withFailMessage(result::getFailureDetail).isSucceeded();
+        verify(client, never()).initiateMultipartUpload(any());
+        verify(client, times(2)).uploadPart(any());
+        assertThat(getObsClient().getObject(bucketName, file.getName()).getObjectContent()).hasBinaryContent(content);
+        assertThat(checkpointStore.find(flowId, bucketName, file.getName())).isNull();
+    }
+
+    @Test
+    void uploadFile_sourceChangedSinceCheckpoint_startsOver() throws IOException {
+        var file = createRandomFile(SIZE_5MB * 2);
+        var content = Files.readAllBytes(file.toPath());
+        var flowId = UUID.randomUUID().toString();
+        var checkpointStore = new InMemoryObsUploadCheckpointStore();
+
+        // a previous attempt uploaded the first part of another version of the object
+        var uploadId = getObsClient().initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, file.getName())).getUploadId();
+        checkpointStore.save(new ObsUploadCheckpoint(flowId, bucketName, file.getName(), uploadId, "previous-etag", SIZE_5MB * 3, List.of()));
+        var request = new UploadPartRequest(bucketName, file.getName());
+        request.setUploadId(uploadId);
+        request.setPartNumber(1);
+        request.setInput(new ByteArrayInputStream(new byte[SIZE_5MB]));
+        getObsClient().uploadPart(request);
+
+        var client = spy(getObsClient());
+        var sink = ObsDataSink.Builder.newInstance()
+                .client(client)
+                .bucketName(bucketName)
+                .chunkSizeBytes(SIZE_5MB)
+                .flowId(flowId)
+                .checkpointStore(checkpointStore)
+                .requestId(UUID.randomUUID().toString())
+                .executorService(Executors.newFixedThreadPool(1))
+                .monitor(mock())
+                .build();
+
+        var result = sink.transferParts(List.of(createPart(file)));
+
+        assertThat(result).withFailMessage(result::getFailureDetail).isSucceeded();
+        verify(client).abortMultipartUpload(argThat(abort -> uploadId.equals(abort.getUploadId())));
+        verify(client).initiateMultipartUpload(any());
+        verify(client, times(2)).uploadPart(any());
+        assertThat(getObsClient().getObject(bucketName, file.getName()).getObjectContent()).hasBinaryContent(content);
+    }
+
+    @Test
+    void uploadFile_partFailsWithoutCheckpointStore_abortsUpload() throws IOException {
+        var file = createRandomFile(SIZE_5MB * 2);
+        var client = spy(getObsClient());
+        doThrow(new ObsException("part failed")).when(client).uploadPart(argThat(request -> request.getPartNumber() == 2));
+        var sink = ObsDataSink.Builder.newInstance()
+                .client(client)
+                .bucketName(bucketName)
+                .chunkSizeBytes(SIZE_5MB)
+                .requestId(UUID.randomUUID().toString())
+                .executorService(Executors.newFixedThreadPool(1))
+                .monitor(mock())
+                .build();
+
+        var result = sink.transferParts(List.of(createPart(file)));
+
+        assertThat(result).isFailed();
+        verify(client).abortMultipartUpload(any());
+        assertThat(getObsClient().listMultipartUploads(new ListMultipartUploadsRequest(bucketName)).getMultipartTaskList())
+                .noneMatch(upload -> upload.getObjectKey().equals(file.getName()));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void transfer_concurrentObjects_comparedToSequential() {
+        var content = new byte[64 * 1024];
+        new Random().nextBytes(content);
+        var count = 100;
+
+        var sequential = transferAndMeasure("sequential-", count, content, 1);
+        var concurrent = transferAndMeasure("concurrent-", count, content, 8);
+
+        assertThat(getObsClient().listObjects(bucketName).getObjects()).hasSize(count * 2);
+        LOGGER.log(INFO, () -> "%s objects of %s bytes: sequential %.1f objects/s, 8 concurrent %.1f objects/s".formatted(
+                count, content.length, count / (sequential / 1_000_000_000.0), count / (concurrent / 1_000_000_000.0)));
+    }
+
+    @Test
+    void copyObject_fromBucketOnSameEndpoint_copiesServerSide() throws IOException {
+        var file = createRandomFile(SIZE_5MB * 2 + 1024);
+        var sourceBucket = bucketName + "-source";
+        getObsClient().createBucket(sourceBucket);
+        getObsClient().putObject(new PutObjectRequest(sourceBucket, file.getName(), file));
+
+        var client = spy(getObsClient());
+        var transferMetrics = new ObsTransferMetrics();
+        var sink = ObsDataSink.Builder.newInstance()
+                .client(client)
+                .bucketName(bucketName)
+                .chunkSizeBytes(SIZE_5MB)
+                .partConcurrency(2)
+                .partExecutor(Executors.newFixedThreadPool(2))
+                .endpoint("obs.test")
+                .serverSideCopy(true)
+                .requestId(UUID.randomUUID().toString())
+                .executorService(Executors.newFixedThreadPool(1))
+                .monitor(mock())
+                .metrics(transferMetrics.forFlow("copy"))
+                .build();
+        var part = new ObsDataSource.ObsPart(getObsClient(), file.getName(), sourceBucket, "https://obs.test/", file.length(), null, null,
+                ObsDownloadOptions.singleRequest());
+
+        var result = sink.transferParts(List.of(part));
+
+        assertThat(result).withFailMessage(result::getFailureDetail).isSucceeded();
+        verify(client, times(3)).copyPart(any());
+        verify(client, never()).uploadPart(any());
+        assertThat(transferMetrics.copiedBytes()).isEqualTo(file.length());
+        assertThat(transferMetrics.bytes()).isZero();
+        assertThat(getObsClient().getObject(bucketName, file.getName()).getObjectContent()).hasBinaryContent(Files.readAllBytes(file.toPath()));
+    }
+
+    @Test
+    void transferParts_bundle_writesEveryMember() {
+        var sourceBucket = bucketName + "-bundle";
+        getObsClient().createBucket(sourceBucket);
+        var members = new ArrayList<ObsDataSource.ObsPart>();
+        for (var i = 0; i < 3; i++) {
+            var content = ("member " + i).getBytes(StandardCharsets.UTF_8);
+            getObsClient().putObject(sourceBucket, "small/" + i, new ByteArrayInputStream(content));
+            members.add(new ObsDataSource.ObsPart(getObsClient(), "small/" + i, sourceBucket, "https://obs.test/", content.length, null, null,
+                    ObsDownloadOptions.singleRequest()));
+        }
+        var sink = ObsDataSink.Builder.newInstance()
+                .client(getObsClient())
+                .bucketName(bucketName)
+                .chunkSizeBytes(SIZE_5MB)
+                .partConcurrency(2)
+                .partExecutor(Executors.newFixedThreadPool(2))
+                .requestId(UUID.randomUUID().toString())
+                .executorService(Executors.newFixedThreadPool(1))
+                .monitor(mock())
+                .build();
+
+        var result = sink.transferParts(List.of(new ObsBundlePart("small/0" + ObsBundlePart.NAME_SUFFIX, members, Runnable::run, 1)));
+
+        assertThat(result).withFailMessage(result::getFailureDetail).isSucceeded();
+        for (var i = 0; i < 3; i++) {
+            assertThat(getObsClient().getObject(bucketName, "small/" + i).getObjectContent()).hasContent("member " + i);
+        }
+        assertThat(getObsClient().listObjects(bucketName).getObjects()).hasSize(3);
+    }
+
+    @Test
+    void transfer_incremental_skipsUnchangedObjects() throws IOException {
+        var file = createRandomFile(SIZE_5MB + 1024);
+        var sourceBucket = bucketName + "-incremental";
+        getObsClient().createBucket(sourceBucket);
+        getObsClient().putObject(new PutObjectRequest(sourceBucket, "unchanged", file));
+        getObsClient().putObject(new PutObjectRequest(sourceBucket, "changed", file));
+        var source = ObsDataSource.Builder.newInstance()
+                .client(getObsClient())
+                .bucketName(sourceBucket)
+                .build();
+        var watermarkStore = new InMemoryObsTransferWatermarkStore();
+
+        var first = incrementalSink(watermarkStore).transfer(source).join();
+        getObsClient().putObject(sourceBucket, "changed", new ByteArrayInputStream(new byte[]{ 1, 2, 3 }));
+        var client = spy(getObsClient());
+        var second = incrementalSink(client, new InMemoryObsTransferWatermarkStore()).transfer(source).join();
+
+        assertThat(first).withFailMessage(first::getFailureDetail).isSucceeded();
+        assertThat(first.getContent()).isEqualTo(new ObsTransferSummary(2, 0, 0));
+        assertThat(watermarkStore.find("asset", bucketName)).isNotNull();
+        assertThat(second).withFailMessage(second::getFailureDetail).isSucceeded();
+        assertThat(second.getContent()).isEqualTo(new ObsTransferSummary(1, 1, file.length()));
+        verify(client, never()).initiateMultipartUpload(any());
+        assertThat(getObsClient().getObject(bucketName, "changed").getObjectContent()).hasBinaryContent(new byte[]{ 1, 2, 3 });
+    }
+
+    @Test
+    void transfer_incremental_savesListingStartAsWatermark() throws IOException {
+        var file = createRandomFile(1024);
+        var sourceBucket = bucketName + "-watermark";
+        getObsClient().createBucket(sourceBucket);
+        getObsClient().putObject(new PutObjectRequest(sourceBucket, "object", file));
+        var source = ObsDataSource.Builder.newInstance()
+                .client(getObsClient())
+                .bucketName(sourceBucket)
+                .build();
+        var watermarkStore = new InMemoryObsTransferWatermarkStore();
+        var listingStart = Instant.now();
+        var sink = incrementalSink(getObsClient(), watermarkStore, Clock.fixed(listingStart, ZoneOffset.UTC));
+
+        var result = sink.transfer(source).join();
+
+        assertThat(result).withFailMessage(result::getFailureDetail).isSucceeded();
+        assertThat(watermarkStore.find("asset", bucketName)).isBefore(listingStart).isAfter(listingStart.minus(Duration.ofHours(1)));
+    }
+
+    private ObsDataSink incrementalSink(ObsTransferWatermarkStore watermarkStore) {
+        return incrementalSink(getObsClient(), watermarkStore);
+    }
+
+    private ObsDataSink incrementalSink(ObsClient client, ObsTransferWatermarkStore watermarkStore) {
+        return incrementalSink(client, watermarkStore, Clock.systemUTC());
+    }
+
+    private ObsDataSink incrementalSink(ObsClient client, ObsTransferWatermarkStore watermarkStore, Clock clock) {
+        return ObsDataSink.Builder.newInstance()
+                .client(client)
+                .bucketName(bucketName)
+                .chunkSizeBytes(SIZE_5MB)
+                .singlePutThresholdBytes(SIZE_5MB)
+                .incremental(true)
+                .assetId("asset")
+                .watermarkStore(watermarkStore)
+                .clock(clock)
+                .requestId(UUID.randomUUID().toString())
+                .executorService(Executors.newFixedThreadPool(1))
+                .monitor(mock())
+                .build();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void uploadManySmallObjects_singlePut_comparedToMultipart() {
+        var content = new byte[2048];
+        new Random().nextBytes(content);
+        var count = 200;
+
+        var multipartStart = System.nanoTime();
+        for (var i = 0; i < count; i++) {
+            var key = "multipart-" + i;
+            var uploadId = getObsClient().initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, key)).getUploadId();
+            var uploadRequest = new UploadPartRequest(bucketName, key);
+            uploadRequest.setUploadId(uploadId);
+            uploadRequest.setPartNumber(1);
+            uploadRequest.setInput(new ByteArrayInputStream(content));
+            var etag = getObsClient().uploadPart(uploadRequest).getEtag();
+            getObsClient().completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key, uploadId, List.of(new PartEtag(etag, 1))));
+        }
+        var multipart = System.nanoTime() - multipartStart;
+
+        var executor = Executors.newFixedThreadPool(1);
+        try {
+            var sink = ObsDataSink.Builder.newInstance()
+                    .client(getObsClient())
+                    .bucketName(bucketName)
+                    .chunkSizeBytes(SIZE_5MB)
+                    .singlePutThresholdBytes(SIZE_5MB)
+                    .requestId(UUID.randomUUID().toString())
+                    .executorService(executor)
+                    .monitor(mock())
+                    .build();
+            var parts = IntStream.range(0, count)
+                    .mapToObj(i -> (DataSource.Part) new InputStreamDataSource("single-put-" + i, new ByteArrayInputStream(content)))
+                    .toList();
+
+            var singlePutStart = System.nanoTime();
+            var result = sink.transferParts(parts);
+            var singlePut = System.nanoTime() - singlePutStart;
+
+            assertThat(result).withFailMessage(result::getFailureDetail).isSucceeded();
+            LOGGER.log(INFO, () -> "%s objects of %s bytes: multipart %.1f objects/s, single put %.1f objects/s".formatted(
+                    count, content.length, count / (multipart / 1_000_000_000.0), count / (singlePut / 1_000_000_000.0)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Disabled("Large files are problematic with MinIO for some reason.")
     @ParameterizedTest(name = "File size bytes: {0}")
     @ValueSource(longs = {
@@ -142,6 +559,87 @@ abstract class ObsDataSinkTestBase {
         assertThat(result).withFailMessage(result::getFailureDetail).isSucceeded();
     }
 
+    private long uploadAndMeasure(File file, int partConcurrency, int readAhead) {
+        var partExecutor = Executors.newFixedThreadPool(partConcurrency + readAhead);
+        var executor = Executors.newFixedThreadPool(1);
+        try {
+            var sink = ObsDataSink.Builder.newInstance()
+                    .client(getObsClient())
+                    .bucketName(bucketName)
+                    .chunkSizeBytes(SIZE_5MB)
+                    .partConcurrency(partConcurrency)
+                    .readAhead(readAhead)
+                    .partExecutor(partExecutor)
+                    .requestId(UUID.randomUUID().toString())
+                    .executorService(executor)
+                    .monitor(mock())
+                    .build();
+
+            var start = System.nanoTime();
+            var result = sink.transferParts(List.of(createPart(file)));
+            var elapsed = System.nanoTime() - start;
+
+            assertThat(result).withFailMessage(result::getFailureDetail).isSucceeded();
+            return elapsed;
+        } finally {
+            partExecutor.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    private long transferAndMeasure(String prefix, int count, byte[] content, int objectConcurrency) {
+        var objectExecutor = Executors.newFixedThreadPool(objectConcurrency);
+        var executor = Executors.newFixedThreadPool(1);
+        try {
+            var sink = ObsDataSink.Builder.newInstance()
+                    .client(getObsClient())
+                    .bucketName(bucketName)
+                    .chunkSizeBytes(SIZE_5MB)
+                    .singlePutThresholdBytes(SIZE_5MB)
+                    .objectConcurrency(objectConcurrency)
+                    .objectExecutor(objectExecutor)
+                    .requestId(UUID.randomUUID().toString())
+                    .executorService(executor)
+                    .monitor(mock())
+                    .build();
+            var source = new DataSource() {
+                @Override
+                public StreamResult<Stream<Part>> openPartStream() {
+                    return StreamResult.success(IntStream.range(0, count)
+                            .mapToObj(i -> (Part) new InputStreamDataSource(prefix + i, new ByteArrayInputStream(content))));
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+
+            var start = System.nanoTime();
+            var result = sink.transfer(source).join();
+            var elapsed = System.nanoTime() - start;
+
+            assertThat(result).withFailMessage(result::getFailureDetail).isSucceeded();
+            return elapsed;
+        } finally {
+            objectExecutor.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    private double throughput(File file, long elapsedNanos) {
+        return (file.length() / (1024.0 * 1024.0)) / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    private File createRandomFile(int size) throws IOException {
+        var file = Files.createTempFile("obsitest-", ".bin").toFile();
+        var buffer = new byte[size];
+        new Random().nextBytes(buffer);
+        try (var fos = new FileOutputStream(file, false)) {
+            fos.write(buffer);
+        }
+        return file;
+    }
+
     private DataSource.Part createPart(File file) {
         try {
             return new InputStreamDataSource(file.getName(), new FileInputStream(file));
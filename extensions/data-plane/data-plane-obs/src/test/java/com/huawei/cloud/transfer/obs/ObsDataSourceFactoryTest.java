@@ -16,6 +16,7 @@ package com.huawei.cloud.transfer.obs;
 
 import com.huawei.cloud.obs.ObsBucketSchema;
 import com.huawei.cloud.obs.ObsClientProvider;
+import com.huawei.cloud.obs.ObsSecretTokenCache;
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -29,7 +30,10 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 import static com.huawei.cloud.obs.TestFunctions.VALID_ACCESS_KEY_ID;
@@ -51,7 +55,9 @@ class ObsDataSourceFactoryTest {
     public static final ObsClientProvider CLIENT_PROVIDER = mock();
     private final TypeManager typeManager = new JacksonTypeManager();
     private final Vault vault = mock(Vault.class);
-    private final ObsDataSourceFactory factory = new ObsDataSourceFactory(vault, typeManager, CLIENT_PROVIDER);
+    private final ObsDataSourceFactory factory = new ObsDataSourceFactory(vault, typeManager, CLIENT_PROVIDER,
+            new ObsSecretTokenCache(100, Duration.ofMinutes(5), Clock.systemUTC()), null, new ObsSourceConfiguration(true, 4, 8, 64, 5, 500, 1, 0, 64, 16),
+            Executors.newSingleThreadExecutor(), Executors.newSingleThreadExecutor());
 
     @Test
     void canSupport() {
@@ -69,6 +75,21 @@ class ObsDataSourceFactoryTest {
         assertThat(result.succeeded()).isTrue();
     }
 
+    @Test
+    void validate_invalidFilter_shouldFail() {
+        var source = DataAddress.Builder.newInstance()
+                .type(ObsBucketSchema.TYPE)
+                .property(ObsBucketSchema.BUCKET_NAME, "bucket")
+                .property(ObsBucketSchema.ENDPOINT, "https://obs.test")
+                .property(ObsBucketSchema.MAX_SIZE, "-1")
+                .build();
+
+        var result = factory.validateRequest(createRequest(source));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureDetail()).contains(ObsBucketSchema.MAX_SIZE);
+    }
+
     @ParameterizedTest
     @ArgumentsSource(InvalidInputs.class)
     void validate_mandatoryPropertyMissing_shouldFail(String bucketName, String endpoint, String accessKeyId, String secretAccessKey) {
@@ -14,6 +14,7 @@
 
 package com.huawei.cloud.transfer.obs;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.obs.services.ObsClient;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
@@ -22,10 +23,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getFileFromResourceName;
 
 @SuppressWarnings("ALL") // try-with-resources is not needed here
@@ -55,7 +60,8 @@ abstract class ObsDataSourceTestBase {
                 .map(part -> (ObsDataSource.ObsPart) part)
                 .allSatisfy(obsPart -> {
                     assertThat(obsPart.name()).isEqualTo("file1.txt");
-                    assertThat(obsPart.size()).isNotZero();
+                    assertThat(obsPart.size()).isEqualTo(file.length());
+                    assertThat(obsPart.etag()).isNotBlank();
                 });
     }
 
@@ -125,6 +131,70 @@ abstract class ObsDataSourceTestBase {
         assertThat(str.getContent()).isNull();
     }
 
+    @Test
+    void openPartStream_withManifest() {
+        var file = getFileFromResourceName("test-file-upload.txt");
+        putFile(file, bucketName, "file1.txt");
+        putFile(file, bucketName, "file2.txt");
+        putFile(file, bucketName, "unlisted.txt");
+        var manifest = "file1.txt\n{\"key\": \"file2.txt\", \"size\": %s}\n".formatted(file.length());
+        getClient().putObject(bucketName, "manifest.jsonl", new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8)));
+
+        var source = ObsDataSource.Builder.newInstance()
+                .client(getClient())
+                .bucketName(bucketName)
+                .manifestKey("manifest.jsonl")
+                .objectMapper(new ObjectMapper())
+                .build();
+
+        var str = source.openPartStream();
+        assertThat(str.succeeded()).isTrue();
+        assertThat(str.getContent())
+                .map(part -> (ObsDataSource.ObsPart) part)
+                .satisfiesExactly(
+                        first -> assertThat(first.name()).isEqualTo("file1.txt"),
+                        second -> {
+                            assertThat(second.name()).isEqualTo("file2.txt");
+                            assertThat(second.size()).isEqualTo(file.length());
+                        });
+    }
+
+    @Test
+    void openPartStream_withStaleManifestSize() {
+        var file = getFileFromResourceName("test-file-upload.txt");
+        putFile(file, bucketName, "file1.txt");
+        var manifest = "file1.txt\t%s\n".formatted(file.length() - 1);
+        getClient().putObject(bucketName, "manifest.jsonl", new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8)));
+
+        var source = ObsDataSource.Builder.newInstance()
+                .client(getClient())
+                .bucketName(bucketName)
+                .manifestKey("manifest.jsonl")
+                .objectMapper(new ObjectMapper())
+                .build();
+
+        var str = source.openPartStream();
+        assertThat(str.succeeded()).isTrue();
+        assertThat(str.getContent()).singleElement().satisfies(part -> {
+            assertThat(part.size()).isEqualTo(file.length() - 1);
+            assertThatThrownBy(() -> part.openStream().readAllBytes()).isInstanceOf(IOException.class);
+        });
+    }
+
+    @Test
+    void openPartStream_manifestMissing() {
+        var source = ObsDataSource.Builder.newInstance()
+                .client(getClient())
+                .bucketName(bucketName)
+                .manifestKey("manifest.jsonl")
+                .objectMapper(new ObjectMapper())
+                .build();
+
+        var str = source.openPartStream();
+        assertThat(str.succeeded()).isFalse();
+        assertThat(str.getContent()).isNull();
+    }
+
     abstract ObsClient getClient();
 
     @NotNull
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.obs.services.model.ObsObject;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ObsManifestReaderTest {
+
+    @Test
+    void readsPlainKeys() {
+        var objects = read("a/1.csv\n\nb/2.csv\t42\r\n");
+
+        assertThat(objects).extracting(ObsObject::getObjectKey).containsExactly("a/1.csv", "b/2.csv");
+        assertThat(objects.get(0).getMetadata().getContentLength()).isNull();
+        assertThat(objects.get(1).getMetadata().getContentLength()).isEqualTo(42L);
+    }
+
+    @Test
+    void readsJsonLines() {
+        var objects = read("""
+                {"key": "a/1.csv", "size": 7, "etag": "abc"}
+                {"key": "a/2.csv"}
+                """);
+
+        assertThat(objects).extracting(ObsObject::getObjectKey).containsExactly("a/1.csv", "a/2.csv");
+        assertThat(objects.get(0).getMetadata().getContentLength()).isEqualTo(7L);
+        assertThat(objects.get(0).getMetadata().getEtag()).isEqualTo("abc");
+        assertThat(objects.get(1).getMetadata().getContentLength()).isNull();
+    }
+
+    @Test
+    void emptyManifest() {
+        assertThat(read("\n\n")).isEmpty();
+    }
+
+    @Test
+    void invalidLine_shouldFail() {
+        assertThatThrownBy(() -> read("a/1.csv\n{\"size\": 1}\n")).isInstanceOf(EdcException.class).hasMessageContaining("line 2");
+        assertThatThrownBy(() -> read("a/1.csv\tlarge\n")).isInstanceOf(EdcException.class).hasMessageContaining("line 1");
+    }
+
+    private List<ObsObject> read(String manifest) {
+        var reader = new ObsManifestReader(new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8)), new ObjectMapper(), "manifest");
+        var objects = new ArrayList<ObsObject>();
+        reader.forEachRemaining(objects::add);
+        return objects;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs;
+
+import com.huawei.cloud.obs.ObsBucketSchema;
+import com.obs.services.model.ObjectMetadata;
+import com.obs.services.model.ObsObject;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsObjectFilterTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    void noProperties_acceptsAll() {
+        var filter = filter(Map.of());
+
+        assertThat(filter.isEmpty()).isTrue();
+        assertThat(filter.test(object("a/b.csv", 10, NOW))).isTrue();
+    }
+
+    @Test
+    void keyPattern_withoutSlash_matchesName() {
+        var filter = filter(Map.of(ObsBucketSchema.KEY_PATTERN, "*.parquet"));
+
+        assertThat(filter.test(object("data/2026/part-1.parquet", 10, NOW))).isTrue();
+        assertThat(filter.test(object("part-1.parquet", 10, NOW))).isTrue();
+        assertThat(filter.test(object("data/part-1.csv", 10, NOW))).isFalse();
+        assertThat(filter.test(object("data/part-1.parquet.tmp", 10, NOW))).isFalse();
+    }
+
+    @Test
+    void keyPattern_withSlash_matchesKey() {
+        var filter = filter(Map.of(ObsBucketSchema.KEY_PATTERN, "data/*/{a,b}?.csv"));
+
+        assertThat(filter.test(object("data/x/a1.csv", 10, NOW))).isTrue();
+        assertThat(filter.test(object("data/x/b2.csv", 10, NOW))).isTrue();
+        assertThat(filter.test(object("data/x/c1.csv", 10, NOW))).isFalse();
+        assertThat(filter.test(object("data/x/y/a1.csv", 10, NOW))).isFalse();
+        assertThat(filter(Map.of(ObsBucketSchema.KEY_PATTERN, "data/**.csv")).test(object("data/x/y/a1.csv", 10, NOW))).isTrue();
+    }
+
+    @Test
+    void size() {
+        var filter = filter(Map.of(ObsBucketSchema.MIN_SIZE, "10", ObsBucketSchema.MAX_SIZE, "20"));
+
+        assertThat(filter.test(object("a", 9, NOW))).isFalse();
+        assertThat(filter.test(object("a", 10, NOW))).isTrue();
+        assertThat(filter.test(object("a", 20, NOW))).isTrue();
+        assertThat(filter.test(object("a", 21, NOW))).isFalse();
+    }
+
+    @Test
+    void modifiedAfter_duration() {
+        var filter = filter(Map.of(ObsBucketSchema.MODIFIED_AFTER, "PT24H"));
+
+        assertThat(filter.test(object("a", 1, NOW.minus(1, ChronoUnit.HOURS)))).isTrue();
+        assertThat(filter.test(object("a", 1, NOW.minus(25, ChronoUnit.HOURS)))).isFalse();
+    }
+
+    @Test
+    void modifiedBefore_instant() {
+        var filter = filter(Map.of(ObsBucketSchema.MODIFIED_BEFORE, "2026-10-01T00:00:00Z"));
+
+        assertThat(filter.test(object("a", 1, Instant.parse("2026-09-30T23:59:59Z")))).isTrue();
+        assertThat(filter.test(object("a", 1, NOW))).isFalse();
+    }
+
+    @Test
+    void unknownMetadata_isNotExcluded() {
+        var filter = filter(Map.of(ObsBucketSchema.MIN_SIZE, "10", ObsBucketSchema.MODIFIED_AFTER, "PT1H"));
+        var obsObject = new ObsObject();
+        obsObject.setObjectKey("a");
+
+        assertThat(filter.test(obsObject)).isTrue();
+    }
+
+    @Test
+    void invalidProperties_shouldFail() {
+        var result = ObsObjectFilter.from(address(Map.of(ObsBucketSchema.MIN_SIZE, "ten", ObsBucketSchema.MODIFIED_AFTER, "yesterday")), clock);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureMessages()).hasSize(2);
+    }
+
+    @Test
+    void unbalancedAlternatives_shouldFail() {
+        var result = ObsObjectFilter.from(address(Map.of(ObsBucketSchema.KEY_PATTERN, "{a,b")), clock);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureMessages()).singleElement().asString().contains(ObsBucketSchema.KEY_PATTERN);
+    }
+
+    private ObsObjectFilter filter(Map<String, String> properties) {
+        return ObsObjectFilter.from(address(properties), clock).getContent();
+    }
+
+    private DataAddress address(Map<String, String> properties) {
+        var builder = DataAddress.Builder.newInstance().type(ObsBucketSchema.TYPE);
+        properties.forEach(builder::property);
+        return builder.build();
+    }
+
+    private ObsObject object(String key, long size, Instant lastModified) {
+        var metadata = new ObjectMetadata();
+        metadata.setContentLength(size);
+        metadata.setLastModified(Date.from(lastModified));
+        var obsObject = new ObsObject();
+        obsObject.setObjectKey(key);
+        obsObject.setMetadata(metadata);
+        return obsObject;
+    }
+}
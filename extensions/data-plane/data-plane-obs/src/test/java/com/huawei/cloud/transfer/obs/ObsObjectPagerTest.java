@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs;
+
+import com.obs.services.ObsClient;
+import com.obs.services.model.ListObjectsRequest;
+import com.obs.services.model.ObjectListing;
+import com.obs.services.model.ObsObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ObsObjectPagerTest {
+
+    private final ObsClient client = mock();
+    private final List<String> requestedMarkers = new ArrayList<>();
+
+    @Test
+    void fetchesPagesWhenConsumed() {
+        givenPages(page(true, "b", "a", "b"), page(false, null, "c"));
+        var pager = new ObsObjectPager(client, "bucket", "prefix", null);
+
+        assertThat(pager.next().getObjectKey()).isEqualTo("a");
+        verify(client, times(1)).listObjects(any(ListObjectsRequest.class));
+
+        assertThat(pager.next().getObjectKey()).isEqualTo("b");
+        verify(client, times(1)).listObjects(any(ListObjectsRequest.class));
+
+        assertThat(pager.next().getObjectKey()).isEqualTo("c");
+        assertThat(pager.hasNext()).isFalse();
+        verify(client, times(2)).listObjects(any(ListObjectsRequest.class));
+        assertThat(requestedMarkers).containsExactly(null, "b");
+    }
+
+    @Test
+    void prefetchesNextPage() {
+        givenPages(page(true, "a", "a"), page(false, null, "b"));
+        var pending = new ArrayList<Runnable>();
+        Executor executor = pending::add;
+        var pager = new ObsObjectPager(client, "bucket", null, executor);
+
+        assertThat(pager.next().getObjectKey()).isEqualTo("a");
+        assertThat(pending).hasSize(1);
+
+        pending.get(0).run();
+        verify(client, times(2)).listObjects(any(ListObjectsRequest.class));
+        assertThat(pager.next().getObjectKey()).isEqualTo("b");
+        assertThat(pager.hasNext()).isFalse();
+        verify(client, times(2)).listObjects(any(ListObjectsRequest.class));
+    }
+
+    @Test
+    void usesLastKeyAsMarker_whenListingHasNoMarker() {
+        givenPages(page(true, null, "a", "b"), page(false, null, "c"));
+        var pager = new ObsObjectPager(client, "bucket", null, null);
+
+        pager.forEachRemaining(obsObject -> { });
+
+        assertThat(requestedMarkers).containsExactly(null, "b");
+    }
+
+    @Test
+    void skipsEmptyPages() {
+        givenPages(page(true, "x"), page(false, null, "a"));
+        var pager = new ObsObjectPager(client, "bucket", null, null);
+
+        assertThat(pager.hasNext()).isTrue();
+        assertThat(pager.next().getObjectKey()).isEqualTo("a");
+    }
+
+    @Test
+    void close_stopsListing() {
+        givenPages(page(true, "a", "a"), page(false, null, "b"));
+        var pager = new ObsObjectPager(client, "bucket", null, null);
+
+        pager.next();
+        pager.close();
+
+        assertThat(pager.hasNext()).isFalse();
+        verify(client, times(1)).listObjects(any(ListObjectsRequest.class));
+    }
+
+    private void givenPages(ObjectListing first, ObjectListing... others) {
+        var pages = new ArrayList<ObjectListing>();
+        pages.add(first);
+        pages.addAll(Arrays.asList(others));
+        when(client.listObjects(any(ListObjectsRequest.class))).thenAnswer(invocation -> {
+            requestedMarkers.add(invocation.getArgument(0, ListObjectsRequest.class).getMarker());
+            return pages.remove(0);
+        });
+    }
+
+    private ObjectListing page(boolean truncated, String nextMarker, String... keys) {
+        var objects = Arrays.stream(keys).map(key -> {
+            var obsObject = new ObsObject();
+            obsObject.setObjectKey(key);
+            return obsObject;
+        }).toList();
+        ObjectListing listing = mock();
+        when(listing.getObjects()).thenReturn(objects);
+        when(listing.isTruncated()).thenReturn(truncated);
+        when(listing.getNextMarker()).thenReturn(nextMarker);
+        return listing;
+    }
+}
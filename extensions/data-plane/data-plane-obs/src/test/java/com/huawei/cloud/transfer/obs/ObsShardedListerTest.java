@@ -0,0 +1,195 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs;
+
+import com.obs.services.ObsClient;
+import com.obs.services.exception.ObsException;
+import com.obs.services.model.ListObjectsRequest;
+import com.obs.services.model.ObjectListing;
+import com.obs.services.model.ObsObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ObsShardedListerTest {
+
+    private final ObsClient client = mock();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void listsAllShards() {
+        var keys = List.of("a/1", "a/2", "a/x/1", "b/1", "b/y/z/1", "c", "d/1");
+        givenKeys(keys, 1000);
+        var lister = new ObsShardedLister(client, "bucket", null, 4, executor);
+
+        var listed = new ArrayList<String>();
+        lister.forEachRemaining(object -> listed.add(object.getObjectKey()));
+
+        assertThat(listed).containsExactlyInAnyOrderElementsOf(keys);
+    }
+
+    @Test
+    void listsPagesOfShard() {
+        var keys = List.of("p/a/1", "p/a/2", "p/a/3", "p/a/4", "p/a/5", "p/b/1", "p/c");
+        givenKeys(keys, 2);
+        var lister = new ObsShardedLister(client, "bucket", "p/", 2, executor);
+
+        var listed = new ArrayList<String>();
+        lister.forEachRemaining(object -> listed.add(object.getObjectKey()));
+
+        assertThat(listed).containsExactlyInAnyOrderElementsOf(keys);
+    }
+
+    @Test
+    void limitsConcurrentListings() {
+        var keys = new ArrayList<String>();
+        for (var i = 0; i < 20; i++) {
+            keys.add("shard" + i + "/object");
+        }
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        givenKeys(keys, 1000, () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+        });
+        var lister = new ObsShardedLister(client, "bucket", null, 3, executor);
+
+        var count = new AtomicInteger();
+        lister.forEachRemaining(object -> count.incrementAndGet());
+
+        assertThat(count).hasValue(20);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void failsWhenShardListingFails() {
+        when(client.listObjects(any(ListObjectsRequest.class))).thenThrow(new ObsException("listing failed"));
+        var lister = new ObsShardedLister(client, "bucket", null, 2, executor);
+
+        assertThatThrownBy(lister::hasNext).isInstanceOf(ObsException.class);
+    }
+
+    @Test
+    void fullQueue_releasesWorkerUntilConsumerCatchesUp() throws Exception {
+        var keys = new ArrayList<String>();
+        for (var i = 0; i < 1000; i++) {
+            keys.add("object" + i);
+        }
+        keys.add("x/object");
+        givenKeys(keys, 2000, () -> { });
+        doThrow(new ObsException("listing failed")).when(client).listObjects(argThat((ListObjectsRequest request) -> "x/".equals(request.getPrefix())));
+        var singleWorker = Executors.newSingleThreadExecutor();
+        try {
+            var lister = new ObsShardedLister(client, "bucket", null, 1, singleWorker);
+
+            // the worker parks the shard it cannot publish instead of holding the thread
+            assertThat(singleWorker.submit(() -> true).get(5, TimeUnit.SECONDS)).isTrue();
+            var count = new AtomicInteger();
+            assertThatThrownBy(() -> lister.forEachRemaining(object -> count.incrementAndGet())).isInstanceOf(ObsException.class);
+            assertThat(count).hasValue(1000);
+        } finally {
+            singleWorker.shutdownNow();
+        }
+    }
+
+    @Test
+    void fullQueue_resumesParkedShards() {
+        var keys = new ArrayList<String>();
+        for (var shard = 0; shard < 5; shard++) {
+            for (var i = 0; i < 700; i++) {
+                keys.add("shard" + shard + "/object" + i);
+            }
+        }
+        givenKeys(keys, 300);
+        var lister = new ObsShardedLister(client, "bucket", null, 2, executor);
+
+        var listed = new ArrayList<String>();
+        lister.forEachRemaining(object -> listed.add(object.getObjectKey()));
+
+        assertThat(listed).containsExactlyInAnyOrderElementsOf(keys);
+    }
+
+    private void givenKeys(List<String> keys, int pageSize) {
+        givenKeys(keys, pageSize, () -> { });
+    }
+
+    /**
+     * Answers delimiter listings over the given keys like OBS does, with pages of at most the given size.
+     */
+    private void givenKeys(List<String> keys, int pageSize, Runnable onRequest) {
+        when(client.listObjects(any(ListObjectsRequest.class))).thenAnswer(invocation -> {
+            onRequest.run();
+            ListObjectsRequest request = invocation.getArgument(0);
+            var prefix = request.getPrefix() != null ? request.getPrefix() : "";
+            // entries of the level below the prefix, objects mapped to null and common prefixes to themselves
+            var entries = new TreeMap<String, String>();
+            keys.stream()
+                    .filter(key -> key.startsWith(prefix))
+                    .filter(key -> request.getMarker() == null || key.compareTo(request.getMarker()) > 0)
+                    .forEach(key -> {
+                        var delimiter = key.indexOf(request.getDelimiter(), prefix.length());
+                        if (delimiter < 0) {
+                            entries.put(key, null);
+                        } else {
+                            var commonPrefix = key.substring(0, delimiter + 1);
+                            entries.put(commonPrefix, commonPrefix);
+                        }
+                    });
+            entries.keySet().removeIf(entry -> request.getMarker() != null && entry.compareTo(request.getMarker()) <= 0);
+            var page = entries.entrySet().stream().limit(pageSize).toList();
+            return listing(page, entries.size() > pageSize);
+        });
+    }
+
+    private ObjectListing listing(List<Map.Entry<String, String>> page, boolean truncated) {
+        var objects = page.stream().filter(entry -> entry.getValue() == null).map(entry -> {
+            var obsObject = new ObsObject();
+            obsObject.setObjectKey(entry.getKey());
+            return obsObject;
+        }).toList();
+        var prefixes = page.stream().map(Map.Entry::getValue).filter(value -> value != null).toList();
+        ObjectListing listing = mock();
+        when(listing.getObjects()).thenReturn(objects);
+        when(listing.getCommonPrefixes()).thenReturn(prefixes);
+        when(listing.isTruncated()).thenReturn(truncated);
+        return listing;
+    }
+}
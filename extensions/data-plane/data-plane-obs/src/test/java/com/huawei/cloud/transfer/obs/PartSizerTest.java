@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.junit.jupiter.api.Test;
+
+import static com.huawei.cloud.transfer.obs.PartSizer.GROWTH_INTERVAL;
+import static com.huawei.cloud.transfer.obs.PartSizer.MAX_PARTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PartSizerTest {
+
+    private static final int MB = 1024 * 1024;
+    private static final int BASE = 8 * MB;
+    private static final int MAX = 1024 * MB;
+
+    @Test
+    void smallObject_singlePartOfObjectSize() {
+        var sizer = new PartSizer(2048, BASE, MAX);
+
+        assertThat(sizer.sizeOf(1)).isEqualTo(2048);
+    }
+
+    @Test
+    void mediumObject_usesBaseSize() {
+        var sizer = new PartSizer(100L * MB, BASE, MAX);
+
+        assertThat(sizer.sizeOf(1)).isEqualTo(BASE);
+        assertThat(sizer.sizeOf(13)).isEqualTo(BASE);
+    }
+
+    @Test
+    void hugeObject_raisesPartSizeToFitMaxParts() {
+        var size = 4L * 1024 * 1024 * MB; // 4tb
+        var sizer = new PartSizer(size, BASE, MAX);
+
+        var partSize = sizer.sizeOf(1);
+        assertThat(partSize).isEqualTo(512 * MB);
+        assertThat((long) partSize * MAX_PARTS).isGreaterThanOrEqualTo(size);
+    }
+
+    @Test
+    void requiredPartSize_isPowerOfTwoFittingMaxParts() {
+        assertThat(PartSizer.requiredPartSize(4L * 1024 * 1024 * MB)).isEqualTo(512L * MB);
+        assertThat(PartSizer.requiredPartSize(MAX_PARTS)).isEqualTo(1);
+        assertThat(PartSizer.requiredPartSize(MAX_PARTS + 1)).isEqualTo(2);
+    }
+
+    @Test
+    void objectFillingMaxParts_hasNoPartAfterLast() {
+        var sizer = new PartSizer((long) BASE * MAX_PARTS, BASE, MAX);
+
+        assertThat(sizer.sizeOf(MAX_PARTS)).isEqualTo(BASE);
+        assertThat(sizer.hasPart(MAX_PARTS, (long) BASE * (MAX_PARTS - 1))).isTrue();
+        assertThat(sizer.hasPart(MAX_PARTS + 1, (long) BASE * MAX_PARTS)).isFalse();
+    }
+
+    @Test
+    void unknownSize_hasPartsUpToMaxParts() {
+        var sizer = new PartSizer(DataSource.Part.SIZE_UNKNOWN, BASE, MAX);
+
+        assertThat(sizer.hasPart(MAX_PARTS, Long.MAX_VALUE / 2)).isTrue();
+        assertThat(sizer.hasPart(MAX_PARTS + 1, Long.MAX_VALUE / 2)).isFalse();
+    }
+
+    @Test
+    void objectLargerThanBudgetAllows_shouldThrow() {
+        assertThatThrownBy(() -> new PartSizer((long) MAX * MAX_PARTS + 1, BASE, MAX))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void unknownSize_growsEveryInterval() {
+        var sizer = new PartSizer(DataSource.Part.SIZE_UNKNOWN, BASE, 32 * MB);
+
+        assertThat(sizer.sizeOf(1)).isEqualTo(BASE);
+        assertThat(sizer.sizeOf(GROWTH_INTERVAL)).isEqualTo(BASE);
+        assertThat(sizer.sizeOf(GROWTH_INTERVAL + 1)).isEqualTo(2 * BASE);
+        assertThat(sizer.sizeOf(MAX_PARTS)).isEqualTo(32 * MB);
+    }
+
+    @Test
+    void partNumberOutOfRange_shouldThrow() {
+        var sizer = new PartSizer(DataSource.Part.SIZE_UNKNOWN, BASE, MAX);
+
+        assertThatThrownBy(() -> sizer.sizeOf(MAX_PARTS + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.buffer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChunkBufferPoolTest {
+
+    private static final int SIZE_1MB = 1024 * 1024;
+
+    @Test
+    void acquire_readsChunkAndExposesStream() throws Exception {
+        var pool = new ChunkBufferPool(SIZE_1MB, true);
+        var content = "some content".getBytes();
+
+        try (var chunk = pool.acquire(5)) {
+            var read = chunk.readFrom(Channels.newChannel(new ByteArrayInputStream(content)));
+
+            assertThat(read).isEqualTo(5);
+            assertThat(chunk.inputStream().readAllBytes()).isEqualTo("some ".getBytes());
+        }
+    }
+
+    @Test
+    void inputStream_supportsReset() throws Exception {
+        var pool = new ChunkBufferPool(SIZE_1MB, false);
+
+        try (var chunk = pool.acquire(4)) {
+            chunk.readFrom(Channels.newChannel(new ByteArrayInputStream("abcd".getBytes())));
+            var stream = chunk.inputStream();
+            stream.readAllBytes();
+            stream.reset();
+
+            assertThat(stream.readAllBytes()).isEqualTo("abcd".getBytes());
+        }
+    }
+
+    @Test
+    void acquire_reusesReleasedBuffer() throws Exception {
+        var pool = new ChunkBufferPool(SIZE_1MB, false);
+
+        pool.acquire(SIZE_1MB).close();
+        try (var ignored = pool.acquire(SIZE_1MB - 10)) {
+            assertThat(pool.inUse()).isEqualTo(SIZE_1MB);
+        }
+        assertThat(pool.inUse()).isZero();
+    }
+
+    @Test
+    void acquire_blocksUntilBudgetAvailable() throws Exception {
+        var pool = new ChunkBufferPool(SIZE_1MB, false);
+        var first = pool.acquire(SIZE_1MB);
+
+        var second = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pool.acquire(SIZE_1MB);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        assertThat(second).failsWithin(200, MILLISECONDS);
+        first.close();
+        assertThat(second).succeedsWithin(1, SECONDS);
+    }
+
+    @Test
+    void acquire_evictsCachedBuffersOfOtherSizes() throws Exception {
+        var pool = new ChunkBufferPool(SIZE_1MB, false);
+        pool.acquire(SIZE_1MB / 2).close();
+        pool.acquire(SIZE_1MB / 2).close();
+
+        try (var chunk = pool.acquire(SIZE_1MB)) {
+            assertThat(pool.inUse()).isEqualTo(SIZE_1MB);
+        }
+    }
+
+    @Test
+    void acquire_largerThanBudget_shouldThrow() {
+        var pool = new ChunkBufferPool(SIZE_1MB, false);
+
+        assertThatThrownBy(() -> pool.acquire(SIZE_1MB + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.bundle;
+
+import com.huawei.cloud.transfer.obs.ObsDataSource;
+import com.huawei.cloud.transfer.obs.download.ObsDownloadOptions;
+import com.obs.services.ObsClient;
+import com.obs.services.model.GetObjectRequest;
+import com.obs.services.model.ObsObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ObsBundlePartTest {
+
+    private final ObsClient client = mock();
+
+    @Test
+    void openStream_roundTripsMembers() throws IOException {
+        var longKey = "nested/".repeat(20) + "object.txt";
+        var objects = Map.of("first.txt", "hello", longKey, "a key longer than the tar name field", "empty.txt", "");
+        givenObjects(objects);
+        var bundle = new ObsBundlePart("first.txt" + ObsBundlePart.NAME_SUFFIX,
+                List.of(part("first.txt", objects), part(longKey, objects), part("empty.txt", objects)), Executors.newFixedThreadPool(2), 2);
+
+        var archive = bundle.openStream().readAllBytes();
+
+        assertThat(archive).hasSize((int) bundle.size());
+        try (var reader = new BundleReader(new ByteArrayInputStream(archive))) {
+            for (var key : List.of("first.txt", longKey, "empty.txt")) {
+                var member = reader.next();
+                assertThat(member).isNotNull();
+                assertThat(member.key()).isEqualTo(key);
+                assertThat(new String(member.content(), StandardCharsets.UTF_8)).isEqualTo(objects.get(key));
+            }
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void openStream_failsWhenObjectIsShorterThanListed() {
+        givenObjects(Map.of("a", "short", "b", "b"));
+        var bundle = new ObsBundlePart("a" + ObsBundlePart.NAME_SUFFIX, List.of(
+                new ObsDataSource.ObsPart(client, "a", "bucket", "https://obs.test/", 100, null, null, ObsDownloadOptions.singleRequest()),
+                new ObsDataSource.ObsPart(client, "b", "bucket", "https://obs.test/", 1, null, null, ObsDownloadOptions.singleRequest())),
+                Runnable::run, 1);
+
+        assertThatThrownBy(() -> bundle.openStream().readAllBytes()).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void index_listsOffsetsOfMembers() {
+        var objects = Map.of("a", "12345", "b", "6");
+        var bundle = new ObsBundlePart("a" + ObsBundlePart.NAME_SUFFIX, List.of(part("a", objects), part("b", objects)), Runnable::run, 1);
+
+        assertThat(bundle.index().lines()).containsExactly(
+                "{\"key\":\"a\",\"offset\":512,\"size\":5}",
+                "{\"key\":\"b\",\"offset\":1536,\"size\":1}");
+    }
+
+    private void givenObjects(Map<String, String> objects) {
+        when(client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            var object = new ObsObject();
+            object.setObjectContent(new ByteArrayInputStream(objects.get(request.getObjectKey()).getBytes(StandardCharsets.UTF_8)));
+            return object;
+        });
+    }
+
+    private ObsDataSource.ObsPart part(String key, Map<String, String> objects) {
+        return new ObsDataSource.ObsPart(client, key, "bucket", "https://obs.test/", objects.get(key).getBytes(StandardCharsets.UTF_8).length,
+                null, null, ObsDownloadOptions.singleRequest());
+    }
+}
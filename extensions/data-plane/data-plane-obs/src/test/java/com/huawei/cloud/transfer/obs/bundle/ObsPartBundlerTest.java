@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.bundle;
+
+import com.huawei.cloud.transfer.obs.ObsDataSource;
+import com.huawei.cloud.transfer.obs.download.ObsDownloadOptions;
+import com.obs.services.ObsClient;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ObsPartBundlerTest {
+
+    private final ObsClient client = mock();
+
+    @Test
+    void next_bundlesConsecutiveSmallObjects() {
+        var parts = bundle(List.of(part("a", 10), part("b", 20), part("large", 5000), part("c", 30), part("d", 40)), 10_000);
+
+        assertThat(parts).hasSize(3);
+        assertThat(parts.get(0)).isInstanceOfSatisfying(ObsBundlePart.class, bundle -> {
+            assertThat(bundle.name()).isEqualTo("a" + ObsBundlePart.NAME_SUFFIX);
+            assertThat(bundle.members()).extracting(DataSource.Part::name).containsExactly("a", "b");
+        });
+        assertThat(parts.get(1).name()).isEqualTo("large");
+        assertThat(parts.get(2)).isInstanceOfSatisfying(ObsBundlePart.class, bundle ->
+                assertThat(bundle.members()).extracting(DataSource.Part::name).containsExactly("c", "d"));
+    }
+
+    @Test
+    void next_closesBundleAtBundleSize() {
+        // every entry takes a header block and a content block
+        var parts = bundle(List.of(part("a", 10), part("b", 10), part("c", 10), part("d", 10), part("e", 10)), 2048);
+
+        assertThat(parts).extracting(DataSource.Part::name).containsExactly("a" + ObsBundlePart.NAME_SUFFIX, "c" + ObsBundlePart.NAME_SUFFIX, "e");
+    }
+
+    @Test
+    void next_passesObjectsOfUnknownSize() {
+        var parts = bundle(List.of(part("a", 10), part("b", DataSource.Part.SIZE_UNKNOWN), part("c", 10)), 10_000);
+
+        assertThat(parts).extracting(DataSource.Part::name).containsExactly("a", "b", "c");
+        assertThat(parts).noneMatch(ObsBundlePart.class::isInstance);
+    }
+
+    private List<DataSource.Part> bundle(List<DataSource.Part> parts, long bundleSize) {
+        var bundler = new ObsPartBundler(parts.iterator(), 1000, bundleSize, Runnable::run, 2);
+        var result = new ArrayList<DataSource.Part>();
+        bundler.forEachRemaining(result::add);
+        return result;
+    }
+
+    private DataSource.Part part(String key, long size) {
+        return new ObsDataSource.ObsPart(client, key, "bucket", "https://obs.test/", size, null, null, ObsDownloadOptions.singleRequest());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.checkpoint;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryObsUploadCheckpointStoreTest {
+
+    private final InMemoryObsUploadCheckpointStore store = new InMemoryObsUploadCheckpointStore();
+
+    @Test
+    void find_whenNoCheckpoint() {
+        assertThat(store.find("flow", "bucket", "key")).isNull();
+    }
+
+    @Test
+    void savePart_addsToCheckpoint() {
+        store.save(new ObsUploadCheckpoint("flow", "bucket", "key", "upload", null, -1, List.of()));
+
+        store.savePart("flow", "bucket", "key", new ObsUploadedPart(2, "etag2", 10));
+        store.savePart("flow", "bucket", "key", new ObsUploadedPart(1, "etag1", 10));
+
+        var checkpoint = store.find("flow", "bucket", "key");
+        assertThat(checkpoint).isNotNull();
+        assertThat(checkpoint.uploadId()).isEqualTo("upload");
+        assertThat(checkpoint.parts()).containsExactlyInAnyOrder(new ObsUploadedPart(1, "etag1", 10), new ObsUploadedPart(2, "etag2", 10));
+    }
+
+    @Test
+    void savePart_replacesPartWithSameNumber() {
+        store.save(new ObsUploadCheckpoint("flow", "bucket", "key", "upload", null, -1, List.of(new ObsUploadedPart(1, "old", 10))));
+
+        store.savePart("flow", "bucket", "key", new ObsUploadedPart(1, "new", 10));
+
+        assertThat(store.find("flow", "bucket", "key").parts()).containsExactly(new ObsUploadedPart(1, "new", 10));
+    }
+
+    @Test
+    void savePart_whenNoCheckpoint_isIgnored() {
+        store.savePart("flow", "bucket", "key", new ObsUploadedPart(1, "etag", 10));
+
+        assertThat(store.find("flow", "bucket", "key")).isNull();
+    }
+
+    @Test
+    void savePart_concurrently() {
+        store.save(new ObsUploadCheckpoint("flow", "bucket", "key", "upload", null, -1, List.of()));
+
+        IntStream.rangeClosed(1, 1000).parallel()
+                .forEach(i -> store.savePart("flow", "bucket", "key", new ObsUploadedPart(i, "etag" + i, 10)));
+
+        assertThat(store.find("flow", "bucket", "key").parts()).hasSize(1000);
+    }
+
+    @Test
+    void save_replacesCheckpointOfSameObject() {
+        store.save(new ObsUploadCheckpoint("flow", "bucket", "key", "first", null, -1, List.of(new ObsUploadedPart(1, "etag", 10))));
+
+        store.save(new ObsUploadCheckpoint("flow", "bucket", "key", "second", null, -1, List.of()));
+
+        var checkpoint = store.find("flow", "bucket", "key");
+        assertThat(checkpoint.uploadId()).isEqualTo("second");
+        assertThat(checkpoint.parts()).isEmpty();
+    }
+
+    @Test
+    void delete() {
+        store.save(new ObsUploadCheckpoint("flow", "bucket", "key", "upload", null, -1, List.of()));
+        store.save(new ObsUploadCheckpoint("other-flow", "bucket", "key", "upload", null, -1, List.of()));
+
+        store.delete("flow", "bucket", "key");
+
+        assertThat(store.find("flow", "bucket", "key")).isNull();
+        assertThat(store.find("other-flow", "bucket", "key")).isNotNull();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.credentials;
+
+import com.huawei.cloud.obs.ObsBucketSchema;
+import com.huawei.cloud.obs.ObsSecretToken;
+import com.huawei.cloud.obs.ObsSecretTokenCache;
+import com.huawei.cloud.obs.ObsTemporaryTokenIssuer;
+import com.huawei.cloud.obs.RefreshingObsCredentialsProvider;
+import com.obs.services.BasicObsCredentialsProvider;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ObsCredentialsRefresherTest {
+
+    private final Vault vault = mock();
+    private final ObsTemporaryTokenIssuer tokenIssuer = mock();
+    private final JacksonTypeManager typeManager = new JacksonTypeManager();
+    private final Instant now = Instant.now();
+    private final DataAddress dataAddress = DataAddress.Builder.newInstance()
+            .type(ObsBucketSchema.TYPE)
+            .keyName("secret")
+            .property(ObsBucketSchema.BUCKET_NAME, "bucket")
+            .build();
+
+    @Test
+    void credentialsProvider_isStaticWithoutExpiration() {
+        var provider = refresher(true).credentialsProvider(dataAddress, new ObsSecretToken("ak", "sk", null, null), true);
+
+        assertThat(provider).isInstanceOf(BasicObsCredentialsProvider.class);
+    }
+
+    @Test
+    void credentialsProvider_isStaticWhenRefreshDisabled() {
+        var provider = refresher(false).credentialsProvider(dataAddress, token("ak", Duration.ofMinutes(1)), true);
+
+        assertThat(provider).isInstanceOf(BasicObsCredentialsProvider.class);
+    }
+
+    @Test
+    void credentialsProvider_sharesProviderPerSecret() {
+        var refresher = refresher(true);
+        var provider = refresher.credentialsProvider(dataAddress, token("ak", Duration.ofHours(1)), true);
+
+        assertThat(refresher.credentialsProvider(dataAddress, token("ak", Duration.ofHours(1)), true)).isSameAs(provider);
+        assertThat(refresher.credentialsProvider(dataAddress, token("ak", Duration.ofHours(1)), false)).isNotSameAs(provider);
+        assertThat(refresher.credentialsProvider(dataAddress, token("newer", Duration.ofHours(2)), true)).isNotSameAs(provider);
+    }
+
+    @Test
+    void credentialsProvider_replacesExpiredProvider() {
+        var refresher = refresher(true);
+        var provider = refresher.credentialsProvider(dataAddress, token("expired", Duration.ofMinutes(-1)), false);
+
+        assertThat(refresher.credentialsProvider(dataAddress, token("expired", Duration.ofMinutes(-1)), false)).isNotSameAs(provider);
+    }
+
+    @Test
+    void renew_prefersLaterTokenFromVault() throws Exception {
+        when(vault.resolveSecret("secret")).thenReturn(typeManager.getMapper().writeValueAsString(token("vault", Duration.ofHours(1))));
+
+        var provider = refresher(true).credentialsProvider(dataAddress, token("ak", Duration.ofMinutes(1)), true);
+
+        assertThat(provider.getSecurityKey().getAccessKey()).isEqualTo("vault");
+        verify(tokenIssuer, never()).issue(anyString(), anyInt());
+    }
+
+    @Test
+    void renew_issuesTokenForDestination() {
+        when(tokenIssuer.hasIssued(any(), eq("bucket"))).thenReturn(true);
+        when(tokenIssuer.issue("bucket", 3600)).thenReturn(token("issued", Duration.ofHours(1)));
+        when(vault.storeSecret(eq("secret"), anyString())).thenReturn(Result.success());
+
+        var provider = refresher(true).credentialsProvider(dataAddress, token("ak", Duration.ofMinutes(1)), true);
+
+        assertThat(provider.getSecurityKey().getAccessKey()).isEqualTo("issued");
+        verify(vault).storeSecret(eq("secret"), anyString());
+    }
+
+    @Test
+    void renew_doesNotIssueTokenForDestinationIssuedElsewhere() {
+        when(tokenIssuer.hasIssued(any(), eq("bucket"))).thenReturn(false);
+
+        var provider = refresher(true).credentialsProvider(dataAddress, token("ak", Duration.ofMinutes(1)), true);
+
+        assertThat(provider.getSecurityKey().getAccessKey()).isEqualTo("ak");
+        verify(tokenIssuer, never()).issue(anyString(), anyInt());
+        verify(vault, never()).storeSecret(anyString(), anyString());
+    }
+
+    @Test
+    void renew_doesNotIssueTokenForSource() {
+        var provider = refresher(true).credentialsProvider(dataAddress, token("ak", Duration.ofMinutes(1)), false);
+
+        assertThat(provider.getSecurityKey().getAccessKey()).isEqualTo("ak");
+        assertThat(((RefreshingObsCredentialsProvider) provider).token().ak()).isEqualTo("ak");
+        verify(tokenIssuer, never()).issue(anyString(), anyInt());
+    }
+
+    private ObsCredentialsRefresher refresher(boolean enabled) {
+        // a refresh margin of two minutes puts tokens that expire in a minute into the margin right away
+        return new ObsCredentialsRefresher(vault, typeManager, new ObsSecretTokenCache(10, Duration.ofMinutes(5), Clock.systemUTC()), tokenIssuer,
+                new ObsCredentialsConfiguration(enabled, 120, 30, 3600), Runnable::run, Clock.systemUTC(), mock());
+    }
+
+    private ObsSecretToken token(String ak, Duration validity) {
+        return new ObsSecretToken(ak, "sk", "token", now.plus(validity).toEpochMilli());
+    }
+}
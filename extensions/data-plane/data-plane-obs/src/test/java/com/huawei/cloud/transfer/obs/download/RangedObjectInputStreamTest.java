@@ -0,0 +1,241 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.download;
+
+import com.obs.services.ObsClient;
+import com.obs.services.exception.ObsException;
+import com.obs.services.model.GetObjectRequest;
+import com.obs.services.model.ObsObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RangedObjectInputStreamTest {
+
+    private final ObsClient client = mock();
+    private final List<GetObjectRequest> requests = new ArrayList<>();
+
+    @Test
+    void read_returnsRangesInOrder() throws IOException {
+        var content = content(1000);
+        givenObject(content);
+        var pending = new ArrayList<Runnable>();
+        Executor executor = pending::add;
+
+        try (var stream = new RangedObjectInputStream(client, "bucket", "key", content.length, "etag", new ObsDownloadOptions(executor, 0, 300, 2, ObsRetryPolicy.none()))) {
+            assertThat(pending).hasSize(2);
+            // complete the ranges out of order
+            pending.get(1).run();
+            pending.get(0).run();
+
+            var first = stream.readNBytes(300);
+            assertThat(first).isEqualTo(Arrays.copyOfRange(content, 0, 300));
+            assertThat(pending).hasSize(3);
+
+            pending.subList(2, pending.size()).forEach(Runnable::run);
+            pending.clear();
+            var second = stream.readNBytes(301);
+            assertThat(second).isEqualTo(Arrays.copyOfRange(content, 300, 601));
+
+            pending.forEach(Runnable::run);
+            pending.clear();
+            var rest = stream.readNBytes(400);
+            pending.forEach(Runnable::run);
+            pending.clear();
+            rest = concat(rest, stream.readAllBytes());
+            assertThat(rest).isEqualTo(Arrays.copyOfRange(content, 601, 1000));
+            assertThat(stream.read()).isEqualTo(-1);
+        }
+
+        assertThat(requests).extracting(GetObjectRequest::getRangeStart).containsExactlyInAnyOrder(0L, 300L, 600L, 900L);
+        // the last range is read to the end of the object
+        assertThat(requests).extracting(GetObjectRequest::getRangeEnd).containsExactlyInAnyOrder(299L, 599L, 899L, null);
+        assertThat(requests).allSatisfy(request -> assertThat(request.getIfMatchTag()).isEqualTo("etag"));
+    }
+
+    @Test
+    void read_boundsRangesAheadOfReader() throws IOException {
+        var content = content(1000);
+        givenObject(content);
+        var pending = new ArrayList<Runnable>();
+        Executor executor = pending::add;
+
+        try (var stream = new RangedObjectInputStream(client, "bucket", "key", content.length, null, new ObsDownloadOptions(executor, 0, 100, 3, ObsRetryPolicy.none()))) {
+            assertThat(pending).hasSize(3);
+            pending.get(0).run();
+
+            stream.read();
+
+            assertThat(pending).hasSize(4);
+        }
+    }
+
+    @Test
+    void read_failsWhenRangeFails() {
+        when(client.getObject(any(GetObjectRequest.class))).thenThrow(new ObsException("precondition failed"));
+
+        var stream = new RangedObjectInputStream(client, "bucket", "key", 100, null, new ObsDownloadOptions(Runnable::run, 0, 10, 2, ObsRetryPolicy.none()));
+
+        assertThatThrownBy(stream::read).isInstanceOf(IOException.class).hasCauseInstanceOf(ObsException.class);
+    }
+
+    @Test
+    void read_failsIfObjectIsLargerThanSize() {
+        givenObject(content(1000));
+
+        var stream = new RangedObjectInputStream(client, "bucket", "key", 900, null, new ObsDownloadOptions(Runnable::run, 0, 300, 2, ObsRetryPolicy.none()));
+
+        assertThatThrownBy(stream::readAllBytes).isInstanceOf(IOException.class).hasMessageContaining("more than the expected 900 bytes");
+    }
+
+    @Test
+    void read_failsIfObjectIsShorterThanSize() {
+        givenObject(content(800));
+
+        var stream = new RangedObjectInputStream(client, "bucket", "key", 900, null, new ObsDownloadOptions(Runnable::run, 0, 300, 2, ObsRetryPolicy.none()));
+
+        assertThatThrownBy(stream::readAllBytes).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void skip_dropsSkippedRangesWithoutFetchingThem() throws IOException {
+        var content = content(1000);
+        givenObject(content);
+        var pending = new ArrayList<Runnable>();
+        var started = new AtomicBoolean();
+        // fetches are held back until the skip, and run right away after it
+        Executor executor = task -> {
+            if (started.get()) {
+                task.run();
+            } else {
+                pending.add(task);
+            }
+        };
+
+        try (var stream = new RangedObjectInputStream(client, "bucket", "key", content.length, null, new ObsDownloadOptions(executor, 0, 100, 2, ObsRetryPolicy.none()))) {
+            assertThat(stream.skip(550)).isEqualTo(550);
+            started.set(true);
+            pending.forEach(Runnable::run);
+
+            assertThat(stream.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, 550, 1000));
+        }
+
+        assertThat(requests).extracting(GetObjectRequest::getRangeStart).doesNotContain(0L, 100L).contains(550L);
+    }
+
+    @Test
+    void skip_withinWindow_startsInRange() throws IOException {
+        var content = content(1000);
+        givenObject(content);
+
+        try (var stream = new RangedObjectInputStream(client, "bucket", "key", content.length, null, new ObsDownloadOptions(Runnable::run, 0, 100, 2, ObsRetryPolicy.none()))) {
+            stream.skipNBytes(150);
+
+            assertThat(stream.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, 150, 1000));
+        }
+    }
+
+    @Test
+    void close_abortsRangesInProgress() throws Exception {
+        var requested = new CountDownLatch(1);
+        var aborted = new CountDownLatch(1);
+        when(client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            var obsObject = new ObsObject();
+            obsObject.setObjectContent(new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    requested.countDown();
+                    try {
+                        aborted.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IOException("Connection closed");
+                }
+
+                @Override
+                public void close() {
+                    aborted.countDown();
+                }
+            });
+            return obsObject;
+        });
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var stream = new RangedObjectInputStream(client, "bucket", "key", 1000, null, new ObsDownloadOptions(executor, 0, 100, 1, ObsRetryPolicy.none()));
+            assertThat(requested.await(5, TimeUnit.SECONDS)).isTrue();
+
+            stream.close();
+
+            assertThat(aborted.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void isRanged() {
+        var options = new ObsDownloadOptions(Runnable::run, 100, 10, 2, ObsRetryPolicy.none());
+
+        assertThat(options.isRanged(100)).isTrue();
+        assertThat(options.isRanged(99)).isFalse();
+        assertThat(options.isRanged(-1)).isFalse();
+        assertThat(ObsDownloadOptions.singleRequest().isRanged(Long.MAX_VALUE)).isFalse();
+    }
+
+    private void givenObject(byte[] content) {
+        when(client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            synchronized (requests) {
+                requests.add(request);
+            }
+            var end = request.getRangeEnd() != null ? Math.min(request.getRangeEnd().intValue() + 1, content.length) : content.length;
+            var range = Arrays.copyOfRange(content, request.getRangeStart().intValue(), end);
+            var obsObject = new ObsObject();
+            obsObject.setObjectContent(new ByteArrayInputStream(range));
+            return obsObject;
+        });
+    }
+
+    private byte[] content(int size) {
+        var content = new byte[size];
+        for (var i = 0; i < size; i++) {
+            content[i] = (byte) i;
+        }
+        return content;
+    }
+
+    private byte[] concat(byte[] first, byte[] second) {
+        var result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
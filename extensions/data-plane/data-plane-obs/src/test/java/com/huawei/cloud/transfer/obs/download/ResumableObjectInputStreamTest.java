@@ -0,0 +1,220 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.download;
+
+import com.obs.services.ObsClient;
+import com.obs.services.exception.ObsException;
+import com.obs.services.model.GetObjectRequest;
+import com.obs.services.model.ObjectMetadata;
+import com.obs.services.model.ObsObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResumableObjectInputStreamTest {
+
+    private final ObsClient client = mock();
+    private final List<GetObjectRequest> requests = new ArrayList<>();
+    private final byte[] content = content(1000);
+
+    @Test
+    void read_resumesFromConsumedOffset() throws IOException {
+        givenObject(400, 300);
+
+        try (var stream = new ResumableObjectInputStream(client, "bucket", "key", 0, -1, null, new ObsRetryPolicy(3, 0))) {
+            assertThat(stream.readAllBytes()).isEqualTo(content);
+        }
+
+        assertThat(requests).hasSize(3);
+        assertThat(requests.get(0).getRangeStart()).isNull();
+        assertThat(requests.get(1).getRangeStart()).isEqualTo(400L);
+        assertThat(requests.get(2).getRangeStart()).isEqualTo(700L);
+        assertThat(requests.get(1).getIfMatchTag()).isEqualTo("etag");
+    }
+
+    @Test
+    void read_failsWhenRetriesWithoutProgressAreUsedUp() {
+        givenObject(0, 0, 0);
+
+        var stream = new ResumableObjectInputStream(client, "bucket", "key", 0, -1, null, new ObsRetryPolicy(2, 0));
+
+        assertThatThrownBy(stream::readAllBytes).isInstanceOf(SocketException.class);
+        assertThat(requests).hasSize(3);
+    }
+
+    @Test
+    void read_resetsRetriesOnProgress() throws IOException {
+        givenObject(100, 100, 100, 100);
+
+        try (var stream = new ResumableObjectInputStream(client, "bucket", "key", 0, -1, null, new ObsRetryPolicy(1, 0))) {
+            assertThat(stream.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void read_doesNotRetryClientErrors() {
+        when(client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            var exception = new ObsException("precondition failed");
+            exception.setResponseCode(412);
+            throw exception;
+        });
+
+        var stream = new ResumableObjectInputStream(client, "bucket", "key", 0, 99, "etag", new ObsRetryPolicy(3, 0));
+
+        assertThatThrownBy(stream::read).isInstanceOf(IOException.class).hasCauseInstanceOf(ObsException.class);
+    }
+
+    @Test
+    void read_failsOnPrematureEndOfBoundedRange() {
+        when(client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> obsObject(new ByteArrayInputStream(new byte[10])));
+
+        var stream = new ResumableObjectInputStream(client, "bucket", "key", 0, 99, "etag", ObsRetryPolicy.none());
+
+        assertThatThrownBy(stream::readAllBytes).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void skip_reopensAtNewPosition() throws IOException {
+        givenObject();
+
+        try (var stream = new ResumableObjectInputStream(client, "bucket", "key", 0, content.length - 1, "etag", ObsRetryPolicy.none())) {
+            assertThat(stream.skip(600)).isEqualTo(600);
+            assertThat(stream.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, 600, 1000));
+        }
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).getRangeStart()).isEqualTo(600L);
+        assertThat(requests.get(0).getRangeEnd()).isEqualTo(999L);
+    }
+
+    @Test
+    void read_withExpectedSize_readsToEndOfObject() throws IOException {
+        givenObject();
+
+        try (var stream = new ResumableObjectInputStream(client, "bucket", "key", content.length, null, ObsRetryPolicy.none())) {
+            assertThat(stream.readAllBytes()).isEqualTo(content);
+        }
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).getRangeEnd()).isNull();
+    }
+
+    @Test
+    void read_withExpectedSize_failsIfObjectIsLarger() {
+        givenObject();
+
+        var stream = new ResumableObjectInputStream(client, "bucket", "key", 600, null, ObsRetryPolicy.none());
+
+        assertThatThrownBy(stream::readAllBytes).isInstanceOf(IOException.class).hasMessageContaining("more than the expected 600 bytes");
+    }
+
+    @Test
+    void read_withExpectedSize_failsIfObjectIsShorter() {
+        givenObject();
+
+        var stream = new ResumableObjectInputStream(client, "bucket", "key", 1200, null, ObsRetryPolicy.none());
+
+        assertThatThrownBy(stream::readAllBytes).isInstanceOf(EOFException.class).hasMessageContaining("at byte 1000 of 1200");
+    }
+
+    @Test
+    void skip_withExpectedSize_reopensAtNewPosition() throws IOException {
+        givenObject();
+
+        try (var stream = new ResumableObjectInputStream(client, "bucket", "key", content.length, "etag", ObsRetryPolicy.none())) {
+            assertThat(stream.skip(600)).isEqualTo(600);
+            assertThat(stream.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, 600, 1000));
+        }
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).getRangeStart()).isEqualTo(600L);
+        assertThat(requests.get(0).getRangeEnd()).isNull();
+    }
+
+    /**
+     * Serves the object, failing each of the first responses after the given number of bytes.
+     */
+    private void givenObject(int... failAfter) {
+        var failures = new ArrayList<Integer>();
+        Arrays.stream(failAfter).forEach(failures::add);
+        when(client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            requests.add(request);
+            var start = request.getRangeStart() != null ? request.getRangeStart().intValue() : 0;
+            var end = request.getRangeEnd() != null ? request.getRangeEnd().intValue() + 1 : content.length;
+            var range = Arrays.copyOfRange(content, start, end);
+            var limit = failures.isEmpty() ? -1 : failures.remove(0);
+            return obsObject(new FailingInputStream(range, limit));
+        });
+    }
+
+    private ObsObject obsObject(InputStream content) {
+        var metadata = new ObjectMetadata();
+        metadata.setEtag("etag");
+        var obsObject = new ObsObject();
+        obsObject.setMetadata(metadata);
+        obsObject.setObjectContent(content);
+        return obsObject;
+    }
+
+    private byte[] content(int size) {
+        var bytes = new byte[size];
+        for (var i = 0; i < size; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private static class FailingInputStream extends InputStream {
+
+        private final InputStream delegate;
+        private final int limit;
+        private int position;
+
+        FailingInputStream(byte[] bytes, int limit) {
+            this.delegate = new ByteArrayInputStream(bytes);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (limit >= 0 && position >= limit) {
+                throw new SocketException("Connection reset");
+            }
+            var count = delegate.read(buffer, offset, limit >= 0 ? Math.min(length, limit - position) : length);
+            position += Math.max(count, 0);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    void record_countsIntoBucketOfUpperBound() {
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(10));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(11));
+        histogram.record(TimeUnit.SECONDS.toNanos(60));
+
+        var counts = histogram.counts();
+        assertThat(counts).hasSize(LatencyHistogram.BUCKET_BOUNDS_MILLIS.length + 1);
+        assertThat(counts[0]).isEqualTo(2);
+        assertThat(counts[1]).isEqualTo(1);
+        assertThat(counts[counts.length - 1]).isEqualTo(1);
+        assertThat(histogram.count()).isEqualTo(4);
+        assertThat(histogram.totalMillis()).isEqualTo(60_026);
+    }
+
+    @Test
+    void percentileUpperBound() {
+        for (var i = 0; i < 99; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(20));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(900));
+
+        assertThat(histogram.percentileUpperBoundMillis(50)).isEqualTo(25);
+        assertThat(histogram.percentileUpperBoundMillis(99)).isEqualTo(25);
+        assertThat(histogram.percentileUpperBoundMillis(100)).isEqualTo(1_000);
+    }
+
+    @Test
+    void percentileUpperBound_whenEmptyOrAboveHighestBound() {
+        assertThat(histogram.percentileUpperBoundMillis(50)).isEqualTo(-1);
+
+        histogram.record(TimeUnit.MINUTES.toNanos(1));
+
+        assertThat(histogram.percentileUpperBoundMillis(50)).isEqualTo(Long.MAX_VALUE);
+    }
+}
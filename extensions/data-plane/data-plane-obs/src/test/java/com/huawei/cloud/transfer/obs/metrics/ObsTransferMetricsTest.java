@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.transfer.obs.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class ObsTransferMetricsTest {
+
+    private final ObsTransferMetrics metrics = new ObsTransferMetrics();
+
+    @Test
+    void flowCounters_feedTotals() {
+        var first = metrics.forFlow("first");
+        var second = metrics.forFlow("second");
+
+        first.partStarted();
+        first.partUploaded(100, 1_000_000);
+        second.partStarted();
+        second.partUploaded(50, 1_000_000);
+        second.objectTransferred();
+
+        assertThat(first.bytes()).isEqualTo(100);
+        assertThat(second.bytes()).isEqualTo(50);
+        assertThat(second.objects()).isEqualTo(1);
+        assertThat(metrics.bytes()).isEqualTo(150);
+        assertThat(metrics.parts()).isEqualTo(2);
+        assertThat(metrics.objects()).isEqualTo(1);
+        assertThat(metrics.partLatency().count()).isEqualTo(2);
+    }
+
+    @Test
+    void expectedBytes_countsObjectsOfKnownSize() {
+        var flow = metrics.forFlow("flow");
+
+        flow.objectStarted(100);
+        flow.objectStarted(-1);
+        flow.objectStarted(50);
+
+        assertThat(flow.expectedBytes()).isEqualTo(150);
+    }
+
+    @Test
+    void inFlightParts() {
+        var flow = metrics.forFlow("flow");
+
+        flow.partStarted();
+        flow.partStarted();
+        assertThat(metrics.inFlightParts()).isEqualTo(2);
+
+        flow.partUploaded(10, 1);
+        flow.partFailed();
+        assertThat(metrics.inFlightParts()).isZero();
+        assertThat(metrics.partFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void connectionsWarmedUp() {
+        metrics.connectionsWarmedUp("https://b", Duration.ofMillis(20));
+        metrics.connectionsWarmedUp("https://a", Duration.ofMillis(10));
+
+        assertThat(metrics.warmupMillis()).containsExactly(entry("https://a", 10L), entry("https://b", 20L));
+    }
+
+    @Test
+    void skippedObjects() {
+        var flow = metrics.forFlow("flow");
+
+        flow.objectSkipped(100);
+        flow.objectSkipped(-1);
+
+        assertThat(flow.skippedObjects()).isEqualTo(2);
+        assertThat(flow.skippedBytes()).isEqualTo(100);
+        assertThat(metrics.skippedObjects()).isEqualTo(2);
+        assertThat(metrics.skippedBytes()).isEqualTo(100);
+        assertThat(flow.expectedBytes()).isZero();
+    }
+
+    @Test
+    void copiedBytes_countedApartFromUploadedBytes() {
+        var flow = metrics.forFlow("flow");
+
+        flow.objectCopied(100);
+
+        assertThat(flow.copiedBytes()).isEqualTo(100);
+        assertThat(metrics.copiedBytes()).isEqualTo(100);
+        assertThat(flow.bytes()).isZero();
+        assertThat(metrics.bytes()).isZero();
+    }
+
+    @Test
+    void failuresByBucket() {
+        var flow = metrics.forFlow("flow");
+
+        flow.objectFailed("bucket-b");
+        flow.objectFailed("bucket-a");
+        flow.objectFailed("bucket-b");
+
+        assertThat(flow.failures()).isEqualTo(3);
+        assertThat(metrics.failuresByBucket()).containsExactly(entry("bucket-a", 1L), entry("bucket-b", 2L));
+    }
+
+    @Test
+    void close_removesFlowButKeepsTotals() {
+        var flow = metrics.forFlow("flow");
+        flow.partStarted();
+        flow.partUploaded(10, 1);
+
+        assertThat(metrics.activeFlows()).containsExactly(flow);
+
+        flow.close();
+
+        assertThat(metrics.activeFlows()).isEmpty();
+        assertThat(metrics.bytes()).isEqualTo(10);
+    }
+}
@@ -15,6 +15,8 @@
 package com.huawei.cloud.provision.obs;
 
 import com.huawei.cloud.obs.ObsClientProvider;
+import com.huawei.cloud.obs.ObsSecretTokenCache;
+import com.huawei.cloud.obs.ObsTemporaryTokenIssuer;
 import dev.failsafe.RetryPolicy;
 import org.eclipse.edc.connector.dataplane.spi.provision.ProvisionerManager;
 import org.eclipse.edc.connector.dataplane.spi.provision.ResourceDefinitionGeneratorManager;
@@ -26,6 +28,9 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 
+import java.time.Clock;
+import java.time.Duration;
+
 @Extension(value = DataPlaneProvisionObsExtension.NAME)
 public class DataPlaneProvisionObsExtension implements ServiceExtension {
 
@@ -35,6 +40,10 @@ public class DataPlaneProvisionObsExtension implements ServiceExtension {
     @Inject
     private ObsClientProvider clientProvider;
     @Inject
+    private ObsSecretTokenCache secretTokenCache;
+    @Inject
+    private ObsTemporaryTokenIssuer tokenIssuer;
+    @Inject
     private ProvisionerManager provisionerManager;
     @Inject
     private RetryPolicy<Object> retryPolicy;
@@ -54,9 +63,13 @@ public class DataPlaneProvisionObsExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         resourceDefinitionGeneratorManager.registerConsumerGenerator(new ObsConsumerProvisionResourceGenerator());
 
-        provisionerManager.register(new ObsBucketProvisioner(clientProvider,
-                retryPolicy, context.getMonitor().withPrefix("ObsBucketProvisioner"), obsBucketProvisionerConfiguration.tokenDuration(), vault, typeManager));
+        var tokenCache = obsBucketProvisionerConfiguration.tokenCacheEnabled() ?
+                new ObsTemporaryTokenCache(Duration.ofSeconds(obsBucketProvisionerConfiguration.tokenCacheMarginSeconds()), Clock.systemUTC()) : null;
+
+        provisionerManager.register(new ObsBucketProvisioner(clientProvider, tokenIssuer,
+                retryPolicy, context.getMonitor().withPrefix("ObsBucketProvisioner"), obsBucketProvisionerConfiguration.tokenDuration(), vault, typeManager,
+                tokenCache));
         provisionerManager.register(new ObsBucketDeprovisioner(retryPolicy, clientProvider,
-                context.getMonitor().withPrefix("ObsBucketDeprovisioner"), vault));
+                context.getMonitor().withPrefix("ObsBucketDeprovisioner"), vault, secretTokenCache));
     }
 }
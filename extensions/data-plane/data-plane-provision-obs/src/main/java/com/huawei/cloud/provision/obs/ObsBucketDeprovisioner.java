@@ -16,7 +16,8 @@ package com.huawei.cloud.provision.obs;
 
 import com.huawei.cloud.obs.ObsBucketSchema;
 import com.huawei.cloud.obs.ObsClientProvider;
-import com.obs.services.ObsClient;
+import com.huawei.cloud.obs.ObsSecretTokenCache;
+import com.obs.services.IObsClient;
 import com.obs.services.model.DeleteObjectsRequest;
 import com.obs.services.model.DeleteObjectsResult;
 import com.obs.services.model.HeaderResponse;
@@ -45,12 +46,15 @@ public class ObsBucketDeprovisioner implements Deprovisioner {
     private final ObsClientProvider clientProvider;
     private final Monitor monitor;
     private final Vault vault;
+    private final ObsSecretTokenCache secretTokenCache;
 
-    public ObsBucketDeprovisioner(RetryPolicy<Object> retryPolicy, ObsClientProvider clientProvider, Monitor monitor, Vault vault) {
+    public ObsBucketDeprovisioner(RetryPolicy<Object> retryPolicy, ObsClientProvider clientProvider, Monitor monitor, Vault vault,
+                                  ObsSecretTokenCache secretTokenCache) {
         this.retryPolicy = retryPolicy;
         this.clientProvider = clientProvider;
         this.monitor = monitor;
         this.vault = vault;
+        this.secretTokenCache = secretTokenCache;
     }
 
 
@@ -62,10 +66,8 @@ public class ObsBucketDeprovisioner implements Deprovisioner {
     @Override
     public CompletableFuture<StatusResult<DeprovisionedResource>> deprovision(ProvisionResource provisionResource) {
         var bucketName = provisionResource.getDataAddress().getStringProperty(ObsBucketSchema.BUCKET_NAME);
-        var obsClient = clientProvider.obsClient(bucketName);
-
         monitor.debug("ObsDeprovisionPipeline: list objects");
-        try {
+        try (var obsClient = clientProvider.obsClient(bucketName)) {
             var objects = listObjects(obsClient, bucketName);
             deleteObjects(obsClient, bucketName, objects);
             deleteBucket(obsClient, bucketName);
@@ -75,18 +77,18 @@ public class ObsBucketDeprovisioner implements Deprovisioner {
         }
     }
 
-    private ObjectListing listObjects(ObsClient obsClient, String bucketName) {
+    private ObjectListing listObjects(IObsClient obsClient, String bucketName) {
         return Failsafe.with(retryPolicy).get(() -> obsClient.listObjects(bucketName));
     }
 
-    private HeaderResponse deleteBucket(ObsClient obsClient, String bucketName) {
+    private HeaderResponse deleteBucket(IObsClient obsClient, String bucketName) {
         return Failsafe.with(retryPolicy).get(() -> {
             monitor.debug("ObsDeprovisionPipeline: delete bucket");
             return obsClient.deleteBucket(bucketName);
         });
     }
 
-    private DeleteObjectsResult deleteObjects(ObsClient obsClient, String bucketName, ObjectListing objectListing) {
+    private DeleteObjectsResult deleteObjects(IObsClient obsClient, String bucketName, ObjectListing objectListing) {
         var deleteRequest = objectListing.getObjects()
                 .stream()
                 .map(ObsObject::getObjectKey)
@@ -109,7 +111,9 @@ public class ObsBucketDeprovisioner implements Deprovisioner {
     private CompletableFuture<?> deleteSecret(ProvisionResource resource) {
         return Failsafe.with(retryPolicy).getStageAsync(() -> {
             monitor.debug("delete secret from vault");
-            var response = vault.deleteSecret(resource.getDataAddress().getKeyName());
+            var keyName = resource.getDataAddress().getKeyName();
+            var response = vault.deleteSecret(keyName);
+            secretTokenCache.invalidate(keyName);
             return CompletableFuture.completedFuture(response);
         });
     }
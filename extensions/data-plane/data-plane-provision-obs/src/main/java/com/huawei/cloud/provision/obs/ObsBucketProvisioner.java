@@ -18,17 +18,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.huawei.cloud.obs.ObsBucketSchema;
 import com.huawei.cloud.obs.ObsClientProvider;
 import com.huawei.cloud.obs.ObsSecretToken;
-import com.huaweicloud.sdk.iam.v3.IamClient;
-import com.huaweicloud.sdk.iam.v3.model.CreateTemporaryAccessKeyByTokenRequest;
-import com.huaweicloud.sdk.iam.v3.model.CreateTemporaryAccessKeyByTokenRequestBody;
-import com.huaweicloud.sdk.iam.v3.model.CreateTemporaryAccessKeyByTokenResponse;
-import com.huaweicloud.sdk.iam.v3.model.Credential;
-import com.huaweicloud.sdk.iam.v3.model.IdentityToken;
-import com.huaweicloud.sdk.iam.v3.model.ServicePolicy;
-import com.huaweicloud.sdk.iam.v3.model.ServiceStatement;
-import com.huaweicloud.sdk.iam.v3.model.TokenAuth;
-import com.huaweicloud.sdk.iam.v3.model.TokenAuthIdentity;
-import com.obs.services.ObsClient;
+import com.huawei.cloud.obs.ObsTemporaryTokenIssuer;
+import com.obs.services.IObsClient;
 import com.obs.services.model.CreateBucketRequest;
 import com.obs.services.model.ObsBucket;
 import dev.failsafe.Failsafe;
@@ -42,8 +33,8 @@ import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.jetbrains.annotations.Nullable;
 
-import java.time.Instant;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -53,24 +44,25 @@ import static java.util.concurrent.CompletableFuture.failedFuture;
 
 public class ObsBucketProvisioner implements Provisioner {
 
-    public static final String VERSION = "1.1";
-    public static final String ACTION_ITEM = "obs:object:PutObject";
-    // TODO restrict to region?
-    public static final String RESOURCE_ITEM = "obs:*:*:object:%s/*";
     private final ObsClientProvider clientProvider;
+    private final ObsTemporaryTokenIssuer tokenIssuer;
     private final RetryPolicy<Object> retryPolicy;
     private final Monitor monitor;
     private final int tokenDuration;
     private final Vault vault;
     private final TypeManager typeManager;
+    private final ObsTemporaryTokenCache tokenCache;
 
-    public ObsBucketProvisioner(ObsClientProvider clientProvider, RetryPolicy<Object> retryPolicy, Monitor monitor, int tokenDuration, Vault vault, TypeManager typeManager) {
+    public ObsBucketProvisioner(ObsClientProvider clientProvider, ObsTemporaryTokenIssuer tokenIssuer, RetryPolicy<Object> retryPolicy, Monitor monitor, int tokenDuration,
+                                Vault vault, TypeManager typeManager, @Nullable ObsTemporaryTokenCache tokenCache) {
         this.clientProvider = clientProvider;
+        this.tokenIssuer = tokenIssuer;
         this.retryPolicy = retryPolicy;
         this.monitor = monitor;
         this.tokenDuration = tokenDuration;
         this.vault = vault;
         this.typeManager = typeManager;
+        this.tokenCache = tokenCache;
     }
 
     @Override
@@ -81,48 +73,36 @@ public class ObsBucketProvisioner implements Provisioner {
     @Override
     public CompletableFuture<StatusResult<ProvisionedResource>> provision(ProvisionResource provisionResource) {
         var bucketName = provisionResource.getDataAddress().getStringProperty(ObsBucketSchema.BUCKET_NAME);
-        var obsClient = clientProvider.obsClient(bucketName);
-        var iamClient = clientProvider.iamClient();
-
         monitor.debug("ObsProvisionPipeline: create bucket " + bucketName);
-        try {
+        try (var obsClient = clientProvider.obsClient(bucketName)) {
             createBucket(obsClient, bucketName);
-            var tokenResponse = requestTemporaryToken(iamClient, bucketName);
-            return completedFuture(provisionSucceeded(provisionResource, tokenResponse.getCredential())
-            );
+            var secretToken = requestTemporaryToken(bucketName);
+            return completedFuture(provisionSucceeded(provisionResource, secretToken));
         } catch (Exception e) {
             return failedFuture(e);
         }
     }
 
-    private ObsBucket createBucket(ObsClient obsClient, String bucketName) {
+    private ObsBucket createBucket(IObsClient obsClient, String bucketName) {
         var request = new CreateBucketRequest(bucketName);
         return Failsafe.with(retryPolicy).get(() -> obsClient.createBucket(request));
     }
 
-    private CreateTemporaryAccessKeyByTokenResponse requestTemporaryToken(IamClient iamClient, String bucketName) {
-
-        var request = new CreateTemporaryAccessKeyByTokenRequest().withBody(
-                new CreateTemporaryAccessKeyByTokenRequestBody()
-                        .withAuth(new TokenAuth().withIdentity((identity -> tokenIdentity(identity, bucketName)))));
-
-        return Failsafe.with(retryPolicy).get(() -> iamClient.createTemporaryAccessKeyByToken(request));
+    private ObsSecretToken requestTemporaryToken(String bucketName) {
+        if (tokenCache == null) {
+            return issueTemporaryToken(bucketName);
+        }
+        var token = tokenCache.get(bucketName, () -> issueTemporaryToken(bucketName));
+        monitor.debug(format("ObsProvisionPipeline: temporary token cache hits %s, misses %s", tokenCache.hits(), tokenCache.misses()));
+        return token;
     }
 
-    private void tokenIdentity(TokenAuthIdentity identity, String bucketName) {
-        identity.addMethodsItem(TokenAuthIdentity.MethodsEnum.TOKEN)
-                .withToken(new IdentityToken().withDurationSeconds(tokenDuration))
-                .withPolicy(new ServicePolicy().withVersion(VERSION)
-                        .addStatementItem(new ServiceStatement()
-                                .withEffect(ServiceStatement.EffectEnum.ALLOW)
-                                .addActionItem(ACTION_ITEM)
-                                .addResourceItem(format(RESOURCE_ITEM, bucketName))));
+    private ObsSecretToken issueTemporaryToken(String bucketName) {
+        return Failsafe.with(retryPolicy).get(() -> tokenIssuer.issue(bucketName, tokenDuration));
     }
 
-    private StatusResult<ProvisionedResource> provisionSucceeded(ProvisionResource provisionResource, Credential credentials) {
+    private StatusResult<ProvisionedResource> provisionSucceeded(ProvisionResource provisionResource, ObsSecretToken secretToken) {
         var keyName = "resourceDefinition-" + provisionResource.getId() + "-secret-" + UUID.randomUUID();
-        var expiration = Instant.parse(credentials.getExpiresAt());
-        var secretToken = new ObsSecretToken(credentials.getAccess(), credentials.getSecret(), credentials.getSecuritytoken(), expiration.toEpochMilli());
         try {
             vault.storeSecret(keyName, typeManager.getMapper().writeValueAsString(secretToken));
         } catch (JsonProcessingException e) {
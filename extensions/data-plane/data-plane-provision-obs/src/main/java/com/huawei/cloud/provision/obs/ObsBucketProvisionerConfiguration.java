@@ -23,6 +23,18 @@ public record ObsBucketProvisionerConfiguration(
                 key = "edc.obs.provision.token.duration",
                 description = "Duration for which the temporary token is valid"
         )
-        int tokenDuration
+        int tokenDuration,
+        @Setting(
+                key = "edc.obs.provision.token.cache.enabled",
+                description = "Whether the temporary token of a bucket is reused by later provisions of the same bucket while it is valid",
+                defaultValue = "true"
+        )
+        boolean tokenCacheEnabled,
+        @Setting(
+                key = "edc.obs.provision.token.cache.margin.seconds",
+                description = "Seconds a cached temporary token must at least be valid for to be reused",
+                defaultValue = "300"
+        )
+        long tokenCacheMarginSeconds
 ) {
 }
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.provision.obs;
+
+import com.huawei.cloud.obs.ObsSecretToken;
+import com.huawei.cloud.obs.ObsTemporaryTokenIssuer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * Reuses the temporary access keys issued for a bucket across provisions, as IAM is rate limited and every request adds
+ * to the provisioning time. Keys are cached by bucket and the policy they were issued with, and are only handed out
+ * while they are valid for at least the safety margin, so that a transfer started with a reused key does not run into
+ * its expiration right away. Concurrent provisions of the same bucket wait for a single request, which is sent by the
+ * first of them outside of any lock of the cache, so that a slow IAM does not hold up the provisions of other buckets.
+ */
+public class ObsTemporaryTokenCache {
+
+    private final Duration safetyMargin;
+    private final Clock clock;
+    private final Map<TokenKey, CompletableFuture<ObsSecretToken>> tokens = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ObsTemporaryTokenCache(Duration safetyMargin, Clock clock) {
+        this.safetyMargin = safetyMargin;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a cached key for the bucket that is valid for at least the safety margin, or issues a new one.
+     *
+     * @param bucketName The bucket the key is restricted to
+     * @param issuer     Issues a new key
+     * @return The key
+     */
+    public ObsSecretToken get(String bucketName, Supplier<ObsSecretToken> issuer) {
+        var key = new TokenKey(bucketName, ObsTemporaryTokenIssuer.ACTION_ITEM, format(ObsTemporaryTokenIssuer.RESOURCE_ITEM, bucketName));
+        while (true) {
+            var cached = tokens.get(key);
+            if (cached != null && !isStale(cached)) {
+                hits.increment();
+                return await(cached);
+            }
+            evictExpired();
+            var load = new CompletableFuture<ObsSecretToken>();
+            if (tokens.putIfAbsent(key, load) == null) {
+                misses.increment();
+                return load(key, load, issuer);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of keys handed out from the cache, including the ones a provision waited for.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of keys issued because the cache had none for the bucket.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    private ObsSecretToken load(TokenKey key, CompletableFuture<ObsSecretToken> load, Supplier<ObsSecretToken> issuer) {
+        try {
+            var token = issuer.get();
+            load.complete(token);
+            return token;
+        } catch (RuntimeException e) {
+            tokens.remove(key, load);
+            load.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private ObsSecretToken await(CompletableFuture<ObsSecretToken> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Whether the key is no longer handed out, keys that are still being issued are not stale.
+     */
+    private boolean isStale(CompletableFuture<ObsSecretToken> token) {
+        return token.isDone() && (token.isCompletedExceptionally() || !isUsable(token.join()));
+    }
+
+    private boolean isUsable(ObsSecretToken token) {
+        return token != null && token.expiration() != null &&
+                Instant.ofEpochMilli(token.expiration()).isAfter(clock.instant().plus(safetyMargin));
+    }
+
+    private void evictExpired() {
+        tokens.values().removeIf(this::isStale);
+    }
+
+    private record TokenKey(String bucketName, String action, String resource) {
+    }
+}
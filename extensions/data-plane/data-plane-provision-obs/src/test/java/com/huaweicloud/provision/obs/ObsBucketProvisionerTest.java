@@ -16,7 +16,9 @@ package com.huaweicloud.provision.obs;
 
 import com.huawei.cloud.obs.ObsBucketSchema;
 import com.huawei.cloud.obs.ObsClientProvider;
+import com.huawei.cloud.obs.ObsTemporaryTokenIssuer;
 import com.huawei.cloud.provision.obs.ObsBucketProvisioner;
+import com.huawei.cloud.provision.obs.ObsTemporaryTokenCache;
 import com.huaweicloud.sdk.iam.v3.IamClient;
 import com.huaweicloud.sdk.iam.v3.model.CreateTemporaryAccessKeyByTokenResponse;
 import com.huaweicloud.sdk.iam.v3.model.Credential;
@@ -33,6 +35,8 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -41,6 +45,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -50,6 +55,7 @@ public class ObsBucketProvisionerTest {
     private final ObsClient obsClient = mock(ObsClient.class);
     private final ObsClientProvider clientProvider = mock(ObsClientProvider.class);
     private final Vault vault = mock(Vault.class);
+    private final ObsTemporaryTokenCache tokenCache = new ObsTemporaryTokenCache(Duration.ofMinutes(5), Clock.systemUTC());
     private ObsBucketProvisioner provisioner;
 
     @BeforeEach
@@ -57,7 +63,7 @@ public class ObsBucketProvisionerTest {
         when(clientProvider.iamClient()).thenReturn(iamClient);
         when(clientProvider.obsClient(anyString())).thenReturn(obsClient);
 
-        provisioner = new ObsBucketProvisioner(clientProvider, RetryPolicy.ofDefaults(), mock(Monitor.class), 900, vault, new JacksonTypeManager());
+        provisioner = new ObsBucketProvisioner(clientProvider, new ObsTemporaryTokenIssuer(clientProvider), RetryPolicy.ofDefaults(), mock(Monitor.class), 900, vault, new JacksonTypeManager(), tokenCache);
     }
 
     @Test
@@ -88,6 +94,28 @@ public class ObsBucketProvisionerTest {
         verify(obsClient).createBucket(isA(CreateBucketRequest.class));
     }
 
+    @Test
+    void provision_reusesValidTemporaryToken() {
+        var credentials = new Credential()
+                .withAccess("accessKeyId").withSecret("secretAccessKey").withSecuritytoken("sessionToken")
+                .withExpiresAt(Instant.now().plus(Duration.ofHours(1)).toString());
+        when(iamClient.createTemporaryAccessKeyByToken(any())).thenReturn(new CreateTemporaryAccessKeyByTokenResponse().withCredential(credentials));
+        var definition = ProvisionResource.Builder.newInstance()
+                .dataAddress(DataAddress.Builder.newInstance().type(ObsBucketSchema.TYPE)
+                        .property(ObsBucketSchema.BUCKET_NAME, "test")
+                        .build())
+                .flowId("test")
+                .build();
+
+        var first = provisioner.provision(definition).join().getContent();
+        var second = provisioner.provision(definition).join().getContent();
+
+        assertThat(first.getDataAddress().getKeyName()).isNotEqualTo(second.getDataAddress().getKeyName());
+        verify(iamClient, times(1)).createTemporaryAccessKeyByToken(any());
+        assertThat(tokenCache.hits()).isEqualTo(1);
+        assertThat(tokenCache.misses()).isEqualTo(1);
+    }
+
     @Test
     void provision_should_return_failed_future_on_error() {
         when(obsClient.createBucket(isA(CreateBucketRequest.class))).thenThrow(new ObsException("any"));
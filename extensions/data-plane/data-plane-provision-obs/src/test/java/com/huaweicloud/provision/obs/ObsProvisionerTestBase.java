@@ -17,6 +17,7 @@ package com.huaweicloud.provision.obs;
 import com.huawei.cloud.obs.ObsBucketSchema;
 import com.huawei.cloud.obs.ObsClientProvider;
 import com.huawei.cloud.obs.ObsSecretToken;
+import com.huawei.cloud.obs.ObsTemporaryTokenIssuer;
 import com.huawei.cloud.provision.obs.ObsBucketDeprovisioner;
 import com.huawei.cloud.provision.obs.ObsBucketProvisioner;
 import com.huaweicloud.sdk.iam.v3.IamClient;
@@ -57,12 +58,13 @@ public abstract class ObsProvisionerTestBase {
 
     @BeforeEach
     void setup() {
-        provisioner = new ObsBucketProvisioner(provider, RetryPolicy.ofDefaults(), mock(Monitor.class), 900, vault, typeManager);
-        deprovisioner = new ObsBucketDeprovisioner(RetryPolicy.ofDefaults(), provider, mock(Monitor.class), vault);
+        provisioner = new ObsBucketProvisioner(provider, new ObsTemporaryTokenIssuer(provider), RetryPolicy.ofDefaults(), mock(Monitor.class), 900, vault, typeManager, null);
+        deprovisioner = new ObsBucketDeprovisioner(RetryPolicy.ofDefaults(), provider, mock(Monitor.class), vault, mock());
         bucketName = "obs-provisioner-itest-" + UUID.randomUUID();
         obsClient = getObsClient();
         var iamClient = getIamClient();
-        when(provider.obsClient(any())).thenReturn(obsClient);
+        // the provisioners close the client they lease
+        when(provider.obsClient(any())).thenAnswer(invocation -> getObsClient());
         when(provider.iamClient()).thenReturn(iamClient);
 
     }
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huaweicloud.provision.obs;
+
+import com.huawei.cloud.obs.ObsSecretToken;
+import com.huawei.cloud.provision.obs.ObsTemporaryTokenCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ObsTemporaryTokenCacheTest {
+
+    private final Clock clock = mock();
+    private final ObsTemporaryTokenCache cache = new ObsTemporaryTokenCache(Duration.ofMinutes(5), clock);
+    private final AtomicInteger issued = new AtomicInteger();
+    private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+    @BeforeEach
+    void setup() {
+        when(clock.instant()).thenAnswer(invocation -> now);
+    }
+
+    @Test
+    void get_reusesTokenOfSameBucket() {
+        var token = cache.get("bucket", this::issue);
+
+        assertThat(cache.get("bucket", this::issue)).isSameAs(token);
+        assertThat(cache.get("other", this::issue)).isNotSameAs(token);
+        assertThat(issued).hasValue(2);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(2);
+    }
+
+    @Test
+    void get_issuesNewTokenWithinSafetyMargin() {
+        var token = cache.get("bucket", this::issue);
+
+        now = now.plus(Duration.ofMinutes(54));
+        assertThat(cache.get("bucket", this::issue)).isSameAs(token);
+
+        now = now.plus(Duration.ofMinutes(1));
+        assertThat(cache.get("bucket", this::issue)).isNotSameAs(token);
+        assertThat(issued).hasValue(2);
+    }
+
+    @Test
+    void get_evictsExpiredTokens() {
+        cache.get("first", this::issue);
+        now = now.plus(Duration.ofHours(2));
+
+        cache.get("second", this::issue);
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void get_doesNotCacheFailures() {
+        assertThatThrownBy(() -> cache.get("bucket", () -> {
+            throw new IllegalStateException("IAM unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        cache.get("bucket", this::issue);
+
+        assertThat(issued).hasValue(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void get_issuesOutsideOfLocks() throws Exception {
+        var issuing = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var first = executor.submit(() -> cache.get("bucket", () -> {
+                issuing.countDown();
+                await(release);
+                return issue();
+            }));
+            issuing.await();
+            var waiting = executor.submit(() -> cache.get("bucket", this::issue));
+
+            assertThat(cache.get("other", this::issue)).isNotNull();
+            release.countDown();
+
+            assertThat(waiting.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+            assertThat(issued).hasValue(2);
+            assertThat(cache.hits()).isEqualTo(1);
+            assertThat(cache.misses()).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ObsSecretToken issue() {
+        var count = issued.incrementAndGet();
+        return new ObsSecretToken("ak" + count, "sk", "token", now.plus(Duration.ofHours(1)).toEpochMilli());
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+}
+
+dependencies {
+    api(project(":extensions:data-plane:data-plane-obs"))
+    api(libs.edc.spi.core)
+    api(libs.huawei.dws.jdbc)
+
+    implementation(libs.edc.sql.lib)
+
+    testImplementation(libs.edc.junit)
+    testImplementation(libs.testcontainers.junit)
+    testImplementation(testFixtures(project(":extensions:common:gaussdb:gaussdb-core")))
+
+}
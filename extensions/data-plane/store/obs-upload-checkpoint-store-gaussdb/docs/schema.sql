@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+-- Statements are designed for and tested with Postgres only!
+
+CREATE TABLE IF NOT EXISTS edc_obs_upload_checkpoint
+(
+    flow_id     VARCHAR NOT NULL,
+    bucket_name VARCHAR NOT NULL,
+    object_key  VARCHAR NOT NULL,
+    upload_id   VARCHAR NOT NULL,
+    source_etag VARCHAR,
+    source_size BIGINT  NOT NULL DEFAULT -1,
+    created_at  BIGINT  NOT NULL,
+    PRIMARY KEY (flow_id, bucket_name, object_key)
+);
+
+-- checkpoints created before the source was recorded are started over when resumed
+ALTER TABLE edc_obs_upload_checkpoint ADD COLUMN IF NOT EXISTS source_etag VARCHAR;
+ALTER TABLE edc_obs_upload_checkpoint ADD COLUMN IF NOT EXISTS source_size BIGINT NOT NULL DEFAULT -1;
+
+COMMENT ON COLUMN edc_obs_upload_checkpoint.source_etag IS 'ETag of the source object the upload was started for';
+COMMENT ON COLUMN edc_obs_upload_checkpoint.source_size IS 'size of the source object the upload was started for, -1 if unknown';
+COMMENT ON COLUMN edc_obs_upload_checkpoint.created_at IS 'posix timestamp of the checkpoint';
+
+CREATE TABLE IF NOT EXISTS edc_obs_upload_checkpoint_part
+(
+    flow_id     VARCHAR NOT NULL,
+    bucket_name VARCHAR NOT NULL,
+    object_key  VARCHAR NOT NULL,
+    part_number INTEGER NOT NULL,
+    etag        VARCHAR NOT NULL,
+    size        BIGINT  NOT NULL,
+    PRIMARY KEY (flow_id, bucket_name, object_key, part_number)
+);
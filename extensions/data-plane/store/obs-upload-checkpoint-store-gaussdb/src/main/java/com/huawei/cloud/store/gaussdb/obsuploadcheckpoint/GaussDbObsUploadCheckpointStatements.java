@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.store.gaussdb.obsuploadcheckpoint;
+
+import static java.lang.String.format;
+
+public class GaussDbObsUploadCheckpointStatements implements ObsUploadCheckpointStatements {
+
+    @Override
+    public String getFindCheckpointTemplate() {
+        return format("SELECT %s, %s, %s FROM %s WHERE %s", getUploadIdColumn(), getSourceEtagColumn(), getSourceSizeColumn(), getCheckpointTable(),
+                objectCondition());
+    }
+
+    @Override
+    public String getFindPartsTemplate() {
+        return format("SELECT %s, %s, %s FROM %s WHERE %s ORDER BY %s", getPartNumberColumn(), getEtagColumn(), getSizeColumn(),
+                getPartTable(), objectCondition(), getPartNumberColumn());
+    }
+
+    @Override
+    public String getInsertCheckpointTemplate() {
+        return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?, ?, ?)", getCheckpointTable(),
+                getFlowIdColumn(), getBucketNameColumn(), getObjectKeyColumn(), getUploadIdColumn(), getSourceEtagColumn(), getSourceSizeColumn(),
+                getCreatedAtColumn());
+    }
+
+    @Override
+    public String getInsertPartTemplate() {
+        // parts of an upload that is no longer checkpointed are dropped
+        return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s) SELECT ?, ?, ?, ?, ?, ? WHERE EXISTS (SELECT 1 FROM %s WHERE %s)", getPartTable(),
+                getFlowIdColumn(), getBucketNameColumn(), getObjectKeyColumn(), getPartNumberColumn(), getEtagColumn(), getSizeColumn(),
+                getCheckpointTable(), objectCondition());
+    }
+
+    @Override
+    public String getDeleteCheckpointTemplate() {
+        return format("DELETE FROM %s WHERE %s", getCheckpointTable(), objectCondition());
+    }
+
+    @Override
+    public String getDeletePartsTemplate() {
+        return format("DELETE FROM %s WHERE %s", getPartTable(), objectCondition());
+    }
+
+    @Override
+    public String getDeletePartTemplate() {
+        return format("DELETE FROM %s WHERE %s AND %s = ?", getPartTable(), objectCondition(), getPartNumberColumn());
+    }
+
+    private String objectCondition() {
+        return format("%s = ? AND %s = ? AND %s = ?", getFlowIdColumn(), getBucketNameColumn(), getObjectKeyColumn());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.store.gaussdb.obsuploadcheckpoint;
+
+import com.huawei.cloud.transfer.obs.checkpoint.ObsUploadCheckpointStore;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+
+import static com.huawei.cloud.store.gaussdb.obsuploadcheckpoint.GaussDbObsUploadCheckpointStoreExtension.NAME;
+
+@Extension(NAME)
+public class GaussDbObsUploadCheckpointStoreExtension implements ServiceExtension {
+    public static final String NAME = "Huawei GaussDB OBS Upload Checkpoint Store Extension";
+
+    @Setting(key = "edc.sql.store.obsuploadcheckpoint.datasource", description = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE)
+    private String dataSourceName;
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+    @Inject
+    private TransactionContext transactionContext;
+    @Inject
+    private QueryExecutor queryExecutor;
+    @Inject
+    private TypeManager typeManager;
+    @Inject
+    private Clock clock;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider
+    public ObsUploadCheckpointStore uploadCheckpointStore() {
+        return new SqlObsUploadCheckpointStore(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), queryExecutor,
+                new GaussDbObsUploadCheckpointStatements(), clock);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.store.gaussdb.obsuploadcheckpoint;
+
+/**
+ * Table, column names and statements used by the {@link SqlObsUploadCheckpointStore}.
+ */
+public interface ObsUploadCheckpointStatements {
+
+    default String getCheckpointTable() {
+        return "edc_obs_upload_checkpoint";
+    }
+
+    default String getPartTable() {
+        return "edc_obs_upload_checkpoint_part";
+    }
+
+    default String getFlowIdColumn() {
+        return "flow_id";
+    }
+
+    default String getBucketNameColumn() {
+        return "bucket_name";
+    }
+
+    default String getObjectKeyColumn() {
+        return "object_key";
+    }
+
+    default String getUploadIdColumn() {
+        return "upload_id";
+    }
+
+    default String getSourceEtagColumn() {
+        return "source_etag";
+    }
+
+    default String getSourceSizeColumn() {
+        return "source_size";
+    }
+
+    default String getCreatedAtColumn() {
+        return "created_at";
+    }
+
+    default String getPartNumberColumn() {
+        return "part_number";
+    }
+
+    default String getEtagColumn() {
+        return "etag";
+    }
+
+    default String getSizeColumn() {
+        return "size";
+    }
+
+    String getFindCheckpointTemplate();
+
+    String getFindPartsTemplate();
+
+    String getInsertCheckpointTemplate();
+
+    String getInsertPartTemplate();
+
+    String getDeleteCheckpointTemplate();
+
+    String getDeletePartsTemplate();
+
+    String getDeletePartTemplate();
+}
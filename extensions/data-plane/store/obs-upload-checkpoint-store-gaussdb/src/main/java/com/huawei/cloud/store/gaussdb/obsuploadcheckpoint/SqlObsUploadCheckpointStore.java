@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.store.gaussdb.obsuploadcheckpoint;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.huawei.cloud.transfer.obs.checkpoint.ObsUploadCheckpoint;
+import com.huawei.cloud.transfer.obs.checkpoint.ObsUploadCheckpointStore;
+import com.huawei.cloud.transfer.obs.checkpoint.ObsUploadedPart;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.List;
+
+/**
+ * SQL implementation of the {@link ObsUploadCheckpointStore}, so that uploads can be resumed after a restart of the
+ * data plane.
+ */
+public class SqlObsUploadCheckpointStore extends AbstractSqlStore implements ObsUploadCheckpointStore {
+
+    private final ObsUploadCheckpointStatements statements;
+    private final Clock clock;
+
+    public SqlObsUploadCheckpointStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                                       ObjectMapper objectMapper, QueryExecutor queryExecutor, ObsUploadCheckpointStatements statements, Clock clock) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = statements;
+        this.clock = clock;
+    }
+
+    @Override
+    public @Nullable ObsUploadCheckpoint find(String flowId, String bucketName, String objectKey) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var checkpoint = queryExecutor.single(connection, false, resultSet -> mapCheckpoint(resultSet, flowId, bucketName, objectKey),
+                        statements.getFindCheckpointTemplate(), flowId, bucketName, objectKey);
+                if (checkpoint == null) {
+                    return null;
+                }
+                try (var parts = queryExecutor.query(connection, false, this::mapPart, statements.getFindPartsTemplate(), flowId, bucketName, objectKey)) {
+                    return new ObsUploadCheckpoint(flowId, bucketName, objectKey, checkpoint.uploadId(), checkpoint.sourceEtag(), checkpoint.sourceSize(),
+                            parts.toList());
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void save(ObsUploadCheckpoint checkpoint) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                delete(connection, checkpoint.flowId(), checkpoint.bucketName(), checkpoint.objectKey());
+                queryExecutor.execute(connection, statements.getInsertCheckpointTemplate(), checkpoint.flowId(), checkpoint.bucketName(),
+                        checkpoint.objectKey(), checkpoint.uploadId(), checkpoint.sourceEtag(), checkpoint.sourceSize(), clock.millis());
+                for (var part : checkpoint.parts()) {
+                    insertPart(connection, checkpoint.flowId(), checkpoint.bucketName(), checkpoint.objectKey(), part);
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void savePart(String flowId, String bucketName, String objectKey, ObsUploadedPart part) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getDeletePartTemplate(), flowId, bucketName, objectKey, part.partNumber());
+                insertPart(connection, flowId, bucketName, objectKey, part);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void delete(String flowId, String bucketName, String objectKey) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                delete(connection, flowId, bucketName, objectKey);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private void delete(Connection connection, String flowId, String bucketName, String objectKey) {
+        queryExecutor.execute(connection, statements.getDeletePartsTemplate(), flowId, bucketName, objectKey);
+        queryExecutor.execute(connection, statements.getDeleteCheckpointTemplate(), flowId, bucketName, objectKey);
+    }
+
+    private void insertPart(Connection connection, String flowId, String bucketName, String objectKey, ObsUploadedPart part) {
+        queryExecutor.execute(connection, statements.getInsertPartTemplate(), flowId, bucketName, objectKey, part.partNumber(), part.etag(), part.size(),
+                flowId, bucketName, objectKey);
+    }
+
+    private ObsUploadCheckpoint mapCheckpoint(ResultSet resultSet, String flowId, String bucketName, String objectKey) throws SQLException {
+        return new ObsUploadCheckpoint(flowId, bucketName, objectKey, resultSet.getString(statements.getUploadIdColumn()),
+                resultSet.getString(statements.getSourceEtagColumn()), resultSet.getLong(statements.getSourceSizeColumn()), List.of());
+    }
+
+    private ObsUploadedPart mapPart(ResultSet resultSet) throws SQLException {
+        return new ObsUploadedPart(resultSet.getInt(statements.getPartNumberColumn()), resultSet.getString(statements.getEtagColumn()),
+                resultSet.getLong(statements.getSizeColumn()));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2026 Huawei Technologies
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Huawei Technologies - initial API and implementation
+ *
+ */
+
+package com.huawei.cloud.store.gaussdb.obsuploadcheckpoint;
+
+import com.huawei.cloud.gaussdb.testfixtures.GaussDbTestExtension;
+import com.huawei.cloud.gaussdb.testfixtures.annotations.GaussDbTest;
+import com.huawei.cloud.transfer.obs.checkpoint.ObsUploadCheckpoint;
+import com.huawei.cloud.transfer.obs.checkpoint.ObsUploadedPart;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.util.List;
+
+import static com.huawei.cloud.gaussdb.testfixtures.GaussDbTestExtension.DEFAULT_DATASOURCE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GaussDbTest
+@ExtendWith(GaussDbTestExtension.class)
+class GaussDbObsUploadCheckpointStoreTest {
+
+    private static final ObsUploadCheckpointStatements SQL_STATEMENTS = new GaussDbObsUploadCheckpointStatements();
+    private SqlObsUploadCheckpointStore store;
+
+    @BeforeAll
+    static void createDatabase(GaussDbTestExtension.SqlHelper runner) throws IOException {
+        var schema = Files.readString(Paths.get("docs/schema.sql"));
+        runner.executeStatement(schema);
+    }
+
+    @AfterAll
+    static void deleteTable(GaussDbTestExtension.SqlHelper runner) {
+        runner.dropTable(SQL_STATEMENTS.getPartTable());
+        runner.dropTable(SQL_STATEMENTS.getCheckpointTable());
+    }
+
+    @BeforeEach
+    void setUp(GaussDbTestExtension extension, GaussDbTestExtension.SqlHelper helper, QueryExecutor queryExecutor) {
+        store = new SqlObsUploadCheckpointStore(extension.getRegistry(), DEFAULT_DATASOURCE_NAME, extension.getTransactionContext(),
+                new JacksonTypeManager().getMapper(), queryExecutor, SQL_STATEMENTS, Clock.systemUTC());
+
+        helper.truncateTable(SQL_STATEMENTS.getPartTable());
+        helper.truncateTable(SQL_STATEMENTS.getCheckpointTable());
+    }
+
+    @Test
+    void find_whenNoCheckpoint() {
+        assertThat(store.find("flow", "bucket", "key")).isNull();
+    }
+
+    @Test
+    void save_andFind() {
+        var checkpoint = new ObsUploadCheckpoint("flow", "bucket", "key", "upload", "source-etag", 20, List.of(new ObsUploadedPart(1, "etag1", 10)));
+
+        store.save(checkpoint);
+
+        assertThat(store.find("flow", "bucket", "key")).usingRecursiveComparison().isEqualTo(checkpoint);
+    }
+
+    @Test
+    void save_replacesCheckpointOfSameObject() {
+        store.save(new ObsUploadCheckpoint("flow", "bucket", "key", "first", null, -1, List.of(new ObsUploadedPart(1, "etag", 10))));
+
+        store.save(new ObsUploadCheckpoint("flow", "bucket", "key", "second", null, -1, List.of()));
+
+        var checkpoint = store.find("flow", "bucket", "key");
+        assertThat(checkpoint).isNotNull();
+        assertThat(checkpoint.uploadId()).isEqualTo("second");
+        assertThat(checkpoint.parts()).isEmpty();
+    }
+
+    @Test
+    void savePart_addsToCheckpoint() {
+        store.save(new ObsUploadCheckpoint("flow", "bucket", "key", "upload", null, -1, List.of()));
+
+        store.savePart("flow", "bucket", "key", new ObsUploadedPart(2, "etag2", 10));
+        store.savePart("flow", "bucket", "key", new ObsUploadedPart(1, "etag1", 10));
+        store.savePart("flow", "bucket", "key", new ObsUploadedPart(1, "etag1-retried", 10));
+
+        assertThat(store.find("flow", "bucket", "key").parts())
+                .containsExactly(new ObsUploadedPart(1, "etag1-retried", 10), new ObsUploadedPart(2, "etag2", 10));
+    }
+
+    @Test
+    void savePart_whenNoCheckpoint_isIgnored() {
+        store.savePart("flow", "bucket", "key", new ObsUploadedPart(1, "etag", 10));
+
+        assertThat(store.find("flow", "bucket", "key")).isNull();
+
+        store.save(new ObsUploadCheckpoint("flow", "bucket", "key", "upload", null, -1, List.of()));
+        assertThat(store.find("flow", "bucket", "key").parts()).isEmpty();
+    }
+
+    @Test
+    void delete_removesCheckpointAndParts() {
+        store.save(new ObsUploadCheckpoint("flow", "bucket", "key", "upload", null, -1, List.of(new ObsUploadedPart(1, "etag", 10))));
+        store.save(new ObsUploadCheckpoint("other-flow", "bucket", "key", "upload", null, -1, List.of()));
+
+        store.delete("flow", "bucket", "key");
+
+        assertThat(store.find("flow", "bucket", "key")).isNull();
+        assertThat(store.find("other-flow", "bucket", "key")).isNotNull();
+        store.save(new ObsUploadCheckpoint("flow", "bucket", "key", "new-upload", null, -1, List.of()));
+        assertThat(store.find("flow", "bucket", "key").parts()).isEmpty();
+    }
+}
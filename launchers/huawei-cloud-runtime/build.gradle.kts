@@ -25,6 +25,7 @@ dependencies {
     runtimeOnly(project(":extensions:control-plane:store"))
     runtimeOnly(project(":extensions:control-plane:provision-obs"))
     runtimeOnly(project(":extensions:data-plane:data-plane-obs"))
+    runtimeOnly(project(":extensions:data-plane:store:obs-upload-checkpoint-store-gaussdb"))
     runtimeOnly(libs.edc.sql.pool.apachecommons)
     runtimeOnly(libs.edc.core.controlplane)
     runtimeOnly(libs.edc.core.dataplane)
@@ -40,4 +40,5 @@ include(":extensions:control-plane:store:data-plane-instance-store-gaussdb")
 include(":extensions:control-plane:store:policy-monitor-store-gaussdb")
 include(":extensions:common:gaussdb:gaussdb-core")
 include(":extensions:control-plane:store:policy-definition-store-gaussdb")
+include(":extensions:data-plane:store:obs-upload-checkpoint-store-gaussdb")
 include(":e2e-tests")
\ No newline at end of file